@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+
+/**
+ * <p>
+ * A benchmark for creating subclasses of types with large type hierarchies where every overridable method is overridden.
+ * Such subclasses require the compilation of a large method graph and the registration of many methods, where method
+ * descriptors, signature tokens and hash codes are queried repeatedly for each method. The classes are only created
+ * but not loaded.
+ * </p>
+ * <p>
+ * To compare the memory that is allocated when creating such classes, this benchmark should be run using JMH's
+ * GC profiler ({@code -prof gc}) which reports the allocation rate per operation.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LargeSubclassCreationBenchmark {
+
+    /**
+     * The types that are subclassed by each benchmark.
+     */
+    public static final List<Class<?>> TYPES = Arrays.<Class<?>>asList(ArrayList.class,
+            ConcurrentHashMap.class,
+            ObjectOutputStream.class,
+            ThreadPoolExecutor.class);
+
+    /**
+     * The types that are subclassed by each benchmark.
+     */
+    private List<Class<?>> types;
+
+    /**
+     * The class file locator to use.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * Sets up this benchmark.
+     */
+    @Setup
+    public void setup() {
+        types = new ArrayList<Class<?>>(TYPES);
+        classFileLocator = ClassFileLocator.ForClassLoader.ofSystemLoader();
+    }
+
+    /**
+     * Performs a benchmark of creating subclasses of loaded types.
+     *
+     * @return The binary representations of the created classes, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<byte[]> benchmarkLoadedTypes() {
+        List<byte[]> binaryRepresentations = new ArrayList<byte[]>(types.size());
+        for (Class<?> type : types) {
+            binaryRepresentations.add(new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(type)
+                    .method(any())
+                    .intercept(SuperMethodCall.INSTANCE)
+                    .make()
+                    .getBytes());
+        }
+        return binaryRepresentations;
+    }
+
+    /**
+     * Performs a benchmark of creating subclasses of types that are described by a new type pool.
+     *
+     * @return The binary representations of the created classes, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<byte[]> benchmarkPooledTypes() {
+        TypePool typePool = TypePool.Default.of(classFileLocator);
+        List<byte[]> binaryRepresentations = new ArrayList<byte[]>(types.size());
+        for (Class<?> type : types) {
+            TypeDescription typeDescription = typePool.describe(type.getName()).resolve();
+            binaryRepresentations.add(new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(typeDescription)
+                    .method(any())
+                    .intercept(SuperMethodCall.INSTANCE)
+                    .make(typePool)
+                    .getBytes());
+        }
+        return binaryRepresentations;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.AsmClassReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ObjectOutputStream;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for resolving type descriptions from class files. The benchmark varies two settings of a type pool, each one
+ * independently of the other: the reader mode, where the {@link TypePool.Default.ReaderMode#FAST} mode reads all members of
+ * a class file eagerly and where the {@link TypePool.Default.ReaderMode#HEADER} mode only reads a class file's header and
+ * reads its members only when they are requested, and the class reader, which is either ASM or the Class File API, if it
+ * is available on the current VM. For each pool, the benchmark either only inspects the type hierarchy, as it is common for
+ * matching types, or additionally inspects all declared methods.
+ * </p>
+ * <p>
+ * Each benchmark method creates a new type pool such that no type description is cached between invocations. To compare
+ * the memory that is allocated by the different pools, this benchmark can be run using JMH's GC profiler ({@code -prof gc})
+ * which reports the allocation rate per operation. This profiler does not measure the memory that a pool retains.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypePoolResolutionBenchmark {
+
+    /**
+     * The types that are resolved by each benchmark.
+     */
+    public static final List<Class<?>> TYPES = Arrays.<Class<?>>asList(ArrayList.class,
+            HashMap.class,
+            ConcurrentHashMap.class,
+            Thread.class,
+            String.class,
+            ObjectOutputStream.class,
+            URLClassLoader.class,
+            ThreadPoolExecutor.class);
+
+    /**
+     * The names of the types that are resolved by each benchmark.
+     */
+    private List<String> names;
+
+    /**
+     * The class file locator to use.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * Sets up this benchmark.
+     */
+    @Setup
+    public void setup() {
+        names = new ArrayList<String>(TYPES.size());
+        for (Class<?> type : TYPES) {
+            names.add(type.getName());
+        }
+        classFileLocator = ClassFileLocator.ForClassLoader.ofSystemLoader();
+    }
+
+    /**
+     * Resolves the supplied type pool's descriptions of all benchmarked types and their type hierarchies.
+     *
+     * @param typePool The type pool to use.
+     * @param members  {@code true} if the declared methods of all types should be inspected.
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    private List<TypeDescription> resolve(TypePool typePool, boolean members) {
+        List<TypeDescription> typeDescriptions = new ArrayList<TypeDescription>();
+        for (String name : names) {
+            TypeDescription typeDescription = typePool.describe(name).resolve();
+            do {
+                typeDescriptions.add(typeDescription);
+                typeDescriptions.addAll(typeDescription.getInterfaces().asErasures());
+                typeDescription.getDeclaredAnnotations();
+                if (members) {
+                    typeDescription.getDeclaredMethods().size();
+                }
+                TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                typeDescription = superClass == null
+                        ? null
+                        : superClass.asErasure();
+            } while (typeDescription != null);
+        }
+        return typeDescriptions;
+    }
+
+    /**
+     * Creates a new type pool without any cached type descriptions.
+     *
+     * @param readerMode         The reader mode to use.
+     * @param classReaderFactory The class reader factory to use.
+     * @return A new type pool.
+     */
+    private TypePool typePool(TypePool.Default.ReaderMode readerMode, AsmClassReader.Factory classReaderFactory) {
+        return new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator, readerMode, classReaderFactory);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies using a type pool that reads full class files using ASM.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkFastAsmHierarchy() {
+        return resolve(typePool(TypePool.Default.ReaderMode.FAST, AsmClassReader.Factory.Default.ASM_ONLY), false);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies using a type pool that only reads class file headers using ASM.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkHeaderAsmHierarchy() {
+        return resolve(typePool(TypePool.Default.ReaderMode.HEADER, AsmClassReader.Factory.Default.ASM_ONLY), false);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies using a type pool that reads full class files using the Class File API, if available.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkFastClassFileApiHierarchy() {
+        return resolve(typePool(TypePool.Default.ReaderMode.FAST, AsmClassReader.Factory.Default.CLASS_FILE_API_FIRST), false);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies using a type pool that only reads class file headers using the Class File API, if available.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkHeaderClassFileApiHierarchy() {
+        return resolve(typePool(TypePool.Default.ReaderMode.HEADER, AsmClassReader.Factory.Default.CLASS_FILE_API_FIRST), false);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies and declared methods using a type pool that reads full class files using ASM.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkFastAsmMembers() {
+        return resolve(typePool(TypePool.Default.ReaderMode.FAST, AsmClassReader.Factory.Default.ASM_ONLY), true);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies and declared methods using a type pool that only reads class file headers using ASM.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkHeaderAsmMembers() {
+        return resolve(typePool(TypePool.Default.ReaderMode.HEADER, AsmClassReader.Factory.Default.ASM_ONLY), true);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies and declared methods using a type pool that reads full class files using the Class File API, if available.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkFastClassFileApiMembers() {
+        return resolve(typePool(TypePool.Default.ReaderMode.FAST, AsmClassReader.Factory.Default.CLASS_FILE_API_FIRST), true);
+    }
+
+    /**
+     * Performs a benchmark of resolving type hierarchies and declared methods using a type pool that only reads class file headers using the Class File API, if available.
+     *
+     * @return A list of all resolved type descriptions, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<TypeDescription> benchmarkHeaderClassFileApiMembers() {
+        return resolve(typePool(TypePool.Default.ReaderMode.HEADER, AsmClassReader.Factory.Default.CLASS_FILE_API_FIRST), true);
+    }
+}
@@ -0,0 +1,36 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LargeSubclassCreationBenchmarkTest {
+
+    private LargeSubclassCreationBenchmark largeSubclassCreationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        largeSubclassCreationBenchmark = new LargeSubclassCreationBenchmark();
+        largeSubclassCreationBenchmark.setup();
+    }
+
+    @Test
+    public void testLoadedTypes() throws Exception {
+        List<byte[]> binaryRepresentations = largeSubclassCreationBenchmark.benchmarkLoadedTypes();
+        assertThat(binaryRepresentations.size(), is(LargeSubclassCreationBenchmark.TYPES.size()));
+    }
+
+    @Test
+    public void testPooledTypes() throws Exception {
+        List<byte[]> loaded = largeSubclassCreationBenchmark.benchmarkLoadedTypes();
+        List<byte[]> pooled = largeSubclassCreationBenchmark.benchmarkPooledTypes();
+        assertThat(pooled.size(), is(loaded.size()));
+        for (int index = 0; index < pooled.size(); index++) {
+            assertThat(pooled.get(index).length > 0, is(true));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolResolutionBenchmarkTest {
+
+    private TypePoolResolutionBenchmark typePoolResolutionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        typePoolResolutionBenchmark = new TypePoolResolutionBenchmark();
+        typePoolResolutionBenchmark.setup();
+    }
+
+    @Test
+    public void testHierarchy() throws Exception {
+        List<TypeDescription> baseline = typePoolResolutionBenchmark.benchmarkFastAsmHierarchy();
+        assertThat(baseline.isEmpty(), is(false));
+        assertSameNames(baseline, typePoolResolutionBenchmark.benchmarkHeaderAsmHierarchy());
+        assertSameNames(baseline, typePoolResolutionBenchmark.benchmarkFastClassFileApiHierarchy());
+        assertSameNames(baseline, typePoolResolutionBenchmark.benchmarkHeaderClassFileApiHierarchy());
+    }
+
+    @Test
+    public void testMembers() throws Exception {
+        List<TypeDescription> baseline = typePoolResolutionBenchmark.benchmarkFastAsmMembers();
+        assertSameMethods(baseline, typePoolResolutionBenchmark.benchmarkHeaderAsmMembers());
+        assertSameMethods(baseline, typePoolResolutionBenchmark.benchmarkFastClassFileApiMembers());
+        assertSameMethods(baseline, typePoolResolutionBenchmark.benchmarkHeaderClassFileApiMembers());
+    }
+
+    private static void assertSameNames(List<TypeDescription> expected, List<TypeDescription> actual) {
+        assertThat(actual.size(), is(expected.size()));
+        for (int index = 0; index < expected.size(); index++) {
+            assertThat(actual.get(index).getName(), is(expected.get(index).getName()));
+        }
+    }
+
+    private static void assertSameMethods(List<TypeDescription> expected, List<TypeDescription> actual) {
+        assertThat(actual.size(), is(expected.size()));
+        for (int index = 0; index < expected.size(); index++) {
+            assertThat(actual.get(index).getDeclaredMethods().size(), is(expected.get(index).getDeclaredMethods().size()));
+        }
+    }
+}
@@ -57,7 +57,9 @@ import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.matcher.ElementMatcherOptimizer;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.matcher.NameConstraint;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaConstant;
@@ -1842,7 +1844,7 @@ public interface AgentBuilder {
         /**
          * A raw matcher implementation that checks a {@link TypeDescription}
          * and its {@link java.lang.ClassLoader} against two suitable matchers in order to determine if the matched
-         * type should be instrumented.
+         * type should be instrumented. All matchers are normalized by the {@link ElementMatcherOptimizer}.
          */
         @HashCodeAndEqualsPlugin.Enhance
         class ForElementMatchers implements RawMatcher {
@@ -1898,9 +1900,9 @@ public interface AgentBuilder {
             public ForElementMatchers(ElementMatcher<? super TypeDescription> typeMatcher,
                                       ElementMatcher<? super ClassLoader> classLoaderMatcher,
                                       ElementMatcher<? super JavaModule> moduleMatcher) {
-                this.typeMatcher = typeMatcher;
-                this.classLoaderMatcher = classLoaderMatcher;
-                this.moduleMatcher = moduleMatcher;
+                this.typeMatcher = ElementMatcherOptimizer.optimize(typeMatcher);
+                this.classLoaderMatcher = ElementMatcherOptimizer.optimize(classLoaderMatcher);
+                this.moduleMatcher = ElementMatcherOptimizer.optimize(moduleMatcher);
             }
 
             /**
@@ -3507,7 +3509,12 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that applies the {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#HEADER} reader mode.
+             */
+            HEADER(TypePool.Default.ReaderMode.HEADER);
 
             /**
              * The reader mode to apply by this type locator.
@@ -3567,7 +3574,12 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that applies the {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#HEADER} reader mode.
+             */
+            HEADER(TypePool.Default.ReaderMode.HEADER);
 
             /**
              * The reader mode to apply by this type locator.
@@ -3626,7 +3638,12 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that applies the {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#HEADER} reader mode.
+             */
+            HEADER(TypePool.Default.ReaderMode.HEADER);
 
             /**
              * The reader mode to apply by this type locator.
@@ -3683,7 +3700,12 @@ public interface AgentBuilder {
              *
              * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
              */
-            FAST(TypePool.Default.ReaderMode.FAST);
+            FAST(TypePool.Default.ReaderMode.FAST),
+
+            /**
+             * A type locator that applies the {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#HEADER} reader mode.
+             */
+            HEADER(TypePool.Default.ReaderMode.HEADER);
 
             /**
              * The reader mode to apply by this type locator.
@@ -3850,7 +3872,7 @@ public interface AgentBuilder {
                     classLoader = classLoader == null ? getBootstrapMarkerLoader() : classLoader;
                     TypePool.CacheProvider cacheProvider = cacheProviders.get(classLoader);
                     while (cacheProvider == null) {
-                        cacheProvider = TypePool.CacheProvider.Simple.withObjectType();
+                        cacheProvider = make();
                         TypePool.CacheProvider previous = cacheProviders.putIfAbsent(classLoader, cacheProvider);
                         if (previous != null) {
                             cacheProvider = previous;
@@ -3859,6 +3881,15 @@ public interface AgentBuilder {
                     return cacheProvider;
                 }
 
+                /**
+                 * Creates a new cache provider for a class loader for which no cache provider is registered yet.
+                 *
+                 * @return A new cache provider.
+                 */
+                protected TypePool.CacheProvider make() {
+                    return TypePool.CacheProvider.Simple.withObjectType();
+                }
+
                 /**
                  * <p>
                  * Returns the class loader to serve as a cache key if a cache provider for the bootstrap class loader is requested.
@@ -3892,6 +3923,54 @@ public interface AgentBuilder {
                         return new URLClassLoader(new URL[0], ClassLoadingStrategy.BOOTSTRAP_LOADER);
                     }
                 }
+
+                /**
+                 * A type locator that caches a cache provider per class loader in a concurrent map where every cache provider is a
+                 * {@link TypePool.CacheProvider.Deduplicating} cache. If several threads resolve the same type concurrently, only
+                 * one thread parses the type's class file. This is useful if types are resolved on background threads, for example
+                 * by a {@link DescriptionStrategy.Prefetching} description strategy, but adds some overhead to every cache miss.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                public static class Deduplicating extends Simple {
+
+                    /**
+                     * Creates a new type locator that caches a deduplicating cache provider per class loader in a concurrent map.
+                     * The type locator uses a fast {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
+                     *
+                     * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                     */
+                    public Deduplicating(ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                        super(cacheProviders);
+                    }
+
+                    /**
+                     * Creates a new type locator that caches a deduplicating cache provider per class loader in a concurrent map.
+                     *
+                     * @param readerMode     The reader mode to use for parsing a class file.
+                     * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                     */
+                    public Deduplicating(TypePool.Default.ReaderMode readerMode, ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                        super(readerMode, cacheProviders);
+                    }
+
+                    /**
+                     * Creates a new type locator that caches a deduplicating cache provider per class loader in a concurrent map.
+                     *
+                     * @param readerMode     The reader mode to use for parsing a class file.
+                     * @param lazinessMode   The laziness mode to use for when to parse a class file.
+                     * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                     */
+                    public Deduplicating(TypePool.Default.ReaderMode readerMode,
+                                         TypePool.Default.WithLazyResolution.LazinessMode lazinessMode,
+                                         ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                        super(readerMode, lazinessMode, cacheProviders);
+                    }
+
+                    @Override
+                    protected TypePool.CacheProvider make() {
+                        return TypePool.CacheProvider.Deduplicating.withObjectType();
+                    }
+                }
             }
         }
     }
@@ -4686,6 +4765,19 @@ public interface AgentBuilder {
             public DescriptionStrategy withSuperTypeLoading(ExecutorService executorService) {
                 return new SuperTypeLoading.Asynchronous(this, executorService);
             }
+
+            /**
+             * Creates a description strategy that uses this strategy but resolves the super types of any type that is described
+             * by a type pool on a background thread supplied by the given executor. The executor remains owned by the caller
+             * which is responsible for shutting it down.
+             *
+             * @param executor The executor to use for prefetching super types.
+             * @return This description strategy where super types are prefetched asynchronously.
+             * @see Prefetching
+             */
+            public DescriptionStrategy withSuperTypePrefetching(Executor executor) {
+                return new Prefetching(this, executor);
+            }
         }
 
         /**
@@ -4975,6 +5067,177 @@ public interface AgentBuilder {
                 }
             }
         }
+
+        /**
+         * <p>
+         * A description strategy that delegates the actual type description to another description strategy but that resolves the super
+         * class and interfaces of any type that is described by a {@link TypePool} on a background thread. Doing so, the hierarchy of an
+         * instrumented type is typically already resolved and cached by the type pool when matchers inspect it, without blocking the
+         * instrumenting thread or loading any super type.
+         * </p>
+         * <p>
+         * <b>Important</b>: Prefetched types are registered in the cache of the type pool that the {@link PoolStrategy} supplies for a
+         * transformation. Prefetching is therefore only beneficial if this cache is retained between transformations, as for a
+         * {@link PoolStrategy.WithTypePoolCache}. With a pool strategy that creates a new cache for every transformation, such as
+         * {@link PoolStrategy.Default}, prefetched types are discarded along with the transformation's type pool. To avoid that the
+         * prefetching thread and a matching thread parse the same class file at the same time, the cache should be a
+         * {@link TypePool.CacheProvider.Deduplicating} cache, as supplied by {@link PoolStrategy.WithTypePoolCache.Simple.Deduplicating}.
+         * Any exception during prefetching is suppressed and the super types are resolved on demand instead.
+         * </p>
+         * <p>
+         * The executor is owned by the caller, who is responsible for shutting it down. A bounded executor can be created by
+         * {@link Prefetching#executorService(int, int)}.
+         * </p>
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Prefetching implements DescriptionStrategy {
+
+            /**
+             * The delegate description strategy.
+             */
+            private final DescriptionStrategy delegate;
+
+            /**
+             * The executor to use for prefetching super types.
+             */
+            private final Executor executor;
+
+            /**
+             * Creates a new prefetching description strategy.
+             *
+             * @param delegate The delegate description strategy.
+             * @param executor The executor to use for prefetching super types.
+             */
+            public Prefetching(DescriptionStrategy delegate, Executor executor) {
+                this.delegate = delegate;
+                this.executor = executor;
+            }
+
+            /**
+             * Creates a bounded executor service for prefetching super types that runs on a fixed number of daemon threads. If
+             * more prefetches are pending than the queue can hold, additional prefetches are discarded. The caller is responsible
+             * for shutting down the returned executor service.
+             *
+             * @param threads  The number of threads to use.
+             * @param capacity The maximum number of pending prefetches.
+             * @return A bounded executor service for prefetching super types.
+             */
+            public static ExecutorService executorService(int threads, int capacity) {
+                return new ThreadPoolExecutor(threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<Runnable>(capacity),
+                        DaemonThreadFactory.INSTANCE,
+                        new ThreadPoolExecutor.DiscardPolicy());
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isLoadedFirst() {
+                return delegate.isLoadedFirst();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public TypeDescription apply(String name,
+                                         @MaybeNull Class<?> type,
+                                         TypePool typePool,
+                                         CircularityLock circularityLock,
+                                         @MaybeNull ClassLoader classLoader,
+                                         @MaybeNull JavaModule module) {
+                TypeDescription typeDescription = delegate.apply(name, type, typePool, circularityLock, classLoader, module);
+                if (!(typeDescription instanceof TypeDescription.ForLoadedType)) {
+                    try {
+                        executor.execute(new Prefetch(typePool, typeDescription));
+                    } catch (RejectedExecutionException ignored) {
+                        /* do nothing */
+                    }
+                }
+                return typeDescription;
+            }
+
+            /**
+             * A thread factory that creates daemon threads for prefetching super types.
+             */
+            protected enum DaemonThreadFactory implements ThreadFactory {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "byte-buddy-super-type-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }
+
+            /**
+             * A task that resolves the super class and interfaces of a type description and their super types from a type pool.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class Prefetch implements Runnable {
+
+                /**
+                 * The type pool to resolve super types from.
+                 */
+                private final TypePool typePool;
+
+                /**
+                 * The type description for which to resolve the super types.
+                 */
+                private final TypeDescription typeDescription;
+
+                /**
+                 * Creates a new prefetch task.
+                 *
+                 * @param typePool        The type pool to resolve super types from.
+                 * @param typeDescription The type description for which to resolve the super types.
+                 */
+                protected Prefetch(TypePool typePool, TypeDescription typeDescription) {
+                    this.typePool = typePool;
+                    this.typeDescription = typeDescription;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void run() {
+                    try {
+                        Set<String> names = new HashSet<String>();
+                        LinkedList<TypeDescription> typeDescriptions = new LinkedList<TypeDescription>(Collections.singleton(typeDescription));
+                        while (!typeDescriptions.isEmpty()) {
+                            TypeDescription typeDescription = typeDescriptions.removeFirst();
+                            TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                            List<String> superTypes = new ArrayList<String>();
+                            if (superClass != null) {
+                                superTypes.add(superClass.asErasure().getName());
+                            }
+                            for (TypeDescription interfaceType : typeDescription.getInterfaces().asErasures()) {
+                                superTypes.add(interfaceType.getName());
+                            }
+                            for (String superType : superTypes) {
+                                if (names.add(superType)) {
+                                    TypePool.Resolution resolution = typePool.describe(superType);
+                                    if (resolution.isResolved()) {
+                                        typeDescriptions.add(resolution.resolve());
+                                    }
+                                }
+                            }
+                        }
+                    } catch (Exception ignored) {
+                        /* do nothing */
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -6181,6 +6444,21 @@ public interface AgentBuilder {
              */
             Iterable<? extends List<Class<?>>> batch(List<Class<?>> types);
 
+            /**
+             * An iterator of batches that is notified of the time that was spent on redefining or retransforming each batch
+             * that it supplied. An iterator that is returned by a batch allocator might implement this interface.
+             */
+            interface Timed {
+
+                /**
+                 * Invoked after a batch that was supplied by this iterator was redefined or retransformed.
+                 *
+                 * @param types    The types of the applied batch.
+                 * @param duration The duration of the redefinition or retransformation in nanoseconds.
+                 */
+                void onApplied(List<Class<?>> types, long duration);
+            }
+
             /**
              * A batch allocator that includes all types in a single batch.
              */
@@ -6249,6 +6527,321 @@ public interface AgentBuilder {
                 }
             }
 
+            /**
+             * <p>
+             * A batch allocator that measures the duration of every applied batch and that sizes any subsequent batch such that its
+             * expected duration does not exceed a target duration. This way, the pause that a redefinition or retransformation imposes
+             * on a running application can be limited without knowing the cost of a type's transformation up front.
+             * </p>
+             * <p>
+             * <b>Note</b>: A batch's duration is only measured for the redefinition or retransformation of the batch's types and does
+             * not include the invocation of any {@link Listener}. If the iterator of batches is used outside of a redefinition, no batch
+             * is measured and all batches retain their initial size.
+             * </p>
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class Adaptive implements BatchAllocator {
+
+                /**
+                 * The default size of the first batch.
+                 */
+                private static final int DEFAULT_INITIAL_SIZE = 16;
+
+                /**
+                 * The target duration of a batch in nanoseconds.
+                 */
+                private final long duration;
+
+                /**
+                 * The size of the first batch.
+                 */
+                private final int initial;
+
+                /**
+                 * The minimum size of a batch.
+                 */
+                private final int minimum;
+
+                /**
+                 * The maximum size of a batch.
+                 */
+                private final int maximum;
+
+                /**
+                 * The monitor to notify of measured batches.
+                 */
+                private final Monitor monitor;
+
+                /**
+                 * Creates a new adaptive batch allocator.
+                 *
+                 * @param duration The target duration of a batch in nanoseconds.
+                 * @param initial  The size of the first batch.
+                 * @param minimum  The minimum size of a batch.
+                 * @param maximum  The maximum size of a batch.
+                 * @param monitor  The monitor to notify of measured batches.
+                 */
+                protected Adaptive(long duration, int initial, int minimum, int maximum, Monitor monitor) {
+                    this.duration = duration;
+                    this.initial = initial;
+                    this.minimum = minimum;
+                    this.maximum = maximum;
+                    this.monitor = monitor;
+                }
+
+                /**
+                 * Creates an adaptive batch allocator that targets the supplied maximum duration of a batch.
+                 *
+                 * @param value    The target duration of a batch.
+                 * @param timeUnit The time unit of {@code value}.
+                 * @return An appropriate batch allocator.
+                 */
+                public static Adaptive of(long value, TimeUnit timeUnit) {
+                    return of(value, timeUnit, DEFAULT_INITIAL_SIZE, 1, Integer.MAX_VALUE);
+                }
+
+                /**
+                 * Creates an adaptive batch allocator that targets the supplied maximum duration of a batch.
+                 *
+                 * @param value    The target duration of a batch.
+                 * @param timeUnit The time unit of {@code value}.
+                 * @param initial  The size of the first batch.
+                 * @param minimum  The minimum size of a batch.
+                 * @param maximum  The maximum size of a batch.
+                 * @return An appropriate batch allocator.
+                 */
+                public static Adaptive of(long value, TimeUnit timeUnit, int initial, int minimum, int maximum) {
+                    if (value <= 0L) {
+                        throw new IllegalArgumentException("Cannot target a non-positive duration: " + value);
+                    } else if (minimum <= 0) {
+                        throw new IllegalArgumentException("Cannot define a non-positive minimum: " + minimum);
+                    } else if (minimum > maximum) {
+                        throw new IllegalArgumentException("Minimum must not be bigger than maximum: " + minimum + " >" + maximum);
+                    } else if (initial < minimum || initial > maximum) {
+                        throw new IllegalArgumentException("Initial size must be within range: " + initial);
+                    }
+                    return new Adaptive(timeUnit.toNanos(value), initial, minimum, maximum, Monitor.NoOp.INSTANCE);
+                }
+
+                /**
+                 * Returns a version of this batch allocator that notifies the supplied monitor of any measured batch.
+                 *
+                 * @param monitor The monitor to notify of measured batches.
+                 * @return A version of this batch allocator that notifies the supplied monitor.
+                 */
+                public Adaptive with(Monitor monitor) {
+                    return new Adaptive(duration, initial, minimum, maximum, monitor);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    return new AdaptiveIterable(types);
+                }
+
+                /**
+                 * A monitor that is notified of the measured duration of any batch.
+                 */
+                public interface Monitor {
+
+                    /**
+                     * Invoked after a batch was applied.
+                     *
+                     * @param index    The index of the batch within the current allocation, starting at {@code 0}.
+                     * @param size     The size of the applied batch.
+                     * @param duration The measured duration of the batch in nanoseconds.
+                     * @param next     The size of the next batch.
+                     */
+                    void onBatch(int index, int size, long duration, int next);
+
+                    /**
+                     * A non-operational monitor.
+                     */
+                    enum NoOp implements Monitor {
+
+                        /**
+                         * The singleton instance.
+                         */
+                        INSTANCE;
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void onBatch(int index, int size, long duration, int next) {
+                            /* do nothing */
+                        }
+                    }
+
+                    /**
+                     * A monitor that writes all measurements to a {@link PrintStream}.
+                     */
+                    @HashCodeAndEqualsPlugin.Enhance
+                    class StreamWriting implements Monitor {
+
+                        /**
+                         * The print stream to write any measurement to.
+                         */
+                        private final PrintStream printStream;
+
+                        /**
+                         * Creates a new stream writing monitor.
+                         *
+                         * @param printStream The print stream to write any measurement to.
+                         */
+                        public StreamWriting(PrintStream printStream) {
+                            this.printStream = printStream;
+                        }
+
+                        /**
+                         * Creates a stream writing monitor that prints to {@link System#out}.
+                         *
+                         * @return A monitor that writes measurements to the system output stream.
+                         */
+                        public static Monitor toSystemOut() {
+                            return new StreamWriting(System.out);
+                        }
+
+                        /**
+                         * Creates a stream writing monitor that prints to {@link System#err}.
+                         *
+                         * @return A monitor that writes measurements to the system error stream.
+                         */
+                        public static Monitor toSystemError() {
+                            return new StreamWriting(System.err);
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void onBatch(int index, int size, long duration, int next) {
+                            printStream.printf(AgentBuilder.Listener.StreamWriting.PREFIX + " REDEFINE BATCH #%d containing %d types took %d us [next batch: %d types]%n",
+                                    index,
+                                    size,
+                                    TimeUnit.NANOSECONDS.toMicros(duration),
+                                    next);
+                        }
+                    }
+                }
+
+                /**
+                 * An iterable that creates batches of adaptive size.
+                 */
+                protected class AdaptiveIterable implements Iterable<List<Class<?>>> {
+
+                    /**
+                     * The types to allocate into batches.
+                     */
+                    private final List<Class<?>> types;
+
+                    /**
+                     * Creates a new adaptive iterable.
+                     *
+                     * @param types The types to allocate into batches.
+                     */
+                    protected AdaptiveIterable(List<Class<?>> types) {
+                        this.types = types;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public Iterator<List<Class<?>>> iterator() {
+                        return new AdaptiveIterator(types);
+                    }
+                }
+
+                /**
+                 * An iterator that is notified of the duration of every batch to determine the size of the subsequent batch.
+                 */
+                protected class AdaptiveIterator implements Iterator<List<Class<?>>>, Timed {
+
+                    /**
+                     * Indicates that no cost per type was measured yet.
+                     */
+                    private static final double UNKNOWN = -1d;
+
+                    /**
+                     * The types to allocate into batches.
+                     */
+                    private final List<Class<?>> types;
+
+                    /**
+                     * The index of the next type to allocate.
+                     */
+                    private int index;
+
+                    /**
+                     * The index of the next batch.
+                     */
+                    private int batch;
+
+                    /**
+                     * The size of the next batch.
+                     */
+                    private int size;
+
+                    /**
+                     * The smoothed cost of transforming a single type in nanoseconds.
+                     */
+                    private double cost;
+
+                    /**
+                     * Creates a new adaptive iterator.
+                     *
+                     * @param types The types to allocate into batches.
+                     */
+                    protected AdaptiveIterator(List<Class<?>> types) {
+                        this.types = types;
+                        size = initial;
+                        cost = UNKNOWN;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean hasNext() {
+                        return index < types.size();
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public List<Class<?>> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        List<Class<?>> types = new ArrayList<Class<?>>(this.types.subList(index, (int) Math.min(this.types.size(), (long) index + size)));
+                        index += types.size();
+                        return types;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void onApplied(List<Class<?>> types, long duration) {
+                        if (types.isEmpty()) {
+                            return;
+                        }
+                        double observed = (double) duration / types.size();
+                        cost = cost == UNKNOWN
+                                ? observed
+                                : (cost + observed) / 2;
+                        size = cost == 0
+                                ? (int) Math.min(maximum, 2L * size)
+                                : (int) Math.max(minimum, Math.min(maximum, Adaptive.this.duration / cost));
+                        monitor.onBatch(batch++, types.size(), duration, size);
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void remove() {
+                        throw new UnsupportedOperationException("remove");
+                    }
+                }
+            }
+
             /**
              * A batch allocator that groups all batches by discriminating types using a type matcher.
              */
@@ -8459,11 +9052,17 @@ public interface AgentBuilder {
                 while (prependableIterator.hasNext()) {
                     List<Class<?>> types = prependableIterator.next();
                     redefinitionListener.onBatch(batch, types, this.types);
+                    Throwable failure = null;
+                    long started = System.nanoTime();
                     try {
                         doApply(instrumentation, types);
                     } catch (Throwable throwable) {
-                        prependableIterator.prepend(redefinitionListener.onError(batch, types, throwable, this.types));
-                        failures.put(types, throwable);
+                        failure = throwable;
+                    }
+                    prependableIterator.onApplied(types, System.nanoTime() - started);
+                    if (failure != null) {
+                        prependableIterator.prepend(redefinitionListener.onError(batch, types, failure, this.types));
+                        failures.put(types, failure);
                     }
                     batch += 1;
                 }
@@ -8497,6 +9096,12 @@ public interface AgentBuilder {
                  */
                 private final List<Iterator<? extends List<Class<?>>>> backlog;
 
+                /**
+                 * The iterator that supplied the last batch or {@code null} if no batch was supplied yet.
+                 */
+                @MaybeNull
+                private Iterator<? extends List<Class<?>>> supplier;
+
                 /**
                  * Creates a new prependable iterator.
                  *
@@ -8507,6 +9112,19 @@ public interface AgentBuilder {
                     backlog = new ArrayList<Iterator<? extends List<Class<?>>>>();
                 }
 
+                /**
+                 * Notifies the iterator that supplied the last batch of the duration of this batch's application, if this
+                 * iterator is {@link BatchAllocator.Timed}.
+                 *
+                 * @param types    The types of the applied batch.
+                 * @param duration The duration of the batch's application in nanoseconds.
+                 */
+                public void onApplied(List<Class<?>> types, long duration) {
+                    if (supplier instanceof BatchAllocator.Timed) {
+                        ((BatchAllocator.Timed) supplier).onApplied(types, duration);
+                    }
+                }
+
                 /**
                  * Prepends an iterable to the backlog.
                  *
@@ -8533,6 +9151,7 @@ public interface AgentBuilder {
                  * {@inheritDoc}
                  */
                 public List<Class<?>> next() {
+                    supplier = current;
                     try {
                         return current.next();
                     } finally {
@@ -12293,6 +12912,162 @@ public interface AgentBuilder {
                 }
             }
 
+            /**
+             * An index of transformations that is derived from the name constraints of their raw matchers, as resolved by {@link NameConstraint}.
+             * Transformations whose matcher implies such a constraint are only considered for types of a matching name while all other
+             * transformations are always considered. The relative order of transformations is retained.
+             */
+            protected static class Index {
+
+                /**
+                 * The indexed transformations in their application order.
+                 */
+                private final List<Transformation> transformations;
+
+                /**
+                 * The indices of all transformations that do not imply a name constraint.
+                 */
+                private final BitSet unconstrained;
+
+                /**
+                 * A mapping of exact type names to the indices of transformations that might match types of this name.
+                 */
+                private final Map<String, BitSet> names;
+
+                /**
+                 * A mapping of type name prefixes to the indices of transformations that might match types with this name prefix.
+                 */
+                private final Map<String, BitSet> prefixes;
+
+                /**
+                 * The distinct lengths of all indexed prefixes in ascending order.
+                 */
+                private final int[] prefixLengths;
+
+                /**
+                 * Creates a new index.
+                 *
+                 * @param transformations The indexed transformations in their application order.
+                 * @param unconstrained   The indices of all transformations that do not imply a name constraint.
+                 * @param names           A mapping of exact type names to the indices of transformations that might match types of this name.
+                 * @param prefixes        A mapping of type name prefixes to the indices of transformations that might match types with this name prefix.
+                 * @param prefixLengths   The distinct lengths of all indexed prefixes in ascending order.
+                 */
+                protected Index(List<Transformation> transformations,
+                                BitSet unconstrained,
+                                Map<String, BitSet> names,
+                                Map<String, BitSet> prefixes,
+                                int[] prefixLengths) {
+                    this.transformations = transformations;
+                    this.unconstrained = unconstrained;
+                    this.names = names;
+                    this.prefixes = prefixes;
+                    this.prefixLengths = prefixLengths;
+                }
+
+                /**
+                 * Creates an index for a list of transformations.
+                 *
+                 * @param transformations The transformations to index in their application order.
+                 * @return An index of the supplied transformations.
+                 */
+                protected static Index of(List<Transformation> transformations) {
+                    BitSet unconstrained = new BitSet(transformations.size());
+                    Map<String, BitSet> names = new HashMap<String, BitSet>(), prefixes = new HashMap<String, BitSet>();
+                    SortedSet<Integer> prefixLengths = new TreeSet<Integer>();
+                    for (int index = 0; index < transformations.size(); index++) {
+                        NameConstraint nameConstraint = of(transformations.get(index).getMatcher());
+                        if (nameConstraint.isConstrained()) {
+                            for (String name : nameConstraint.getNames()) {
+                                BitSet indices = names.get(name);
+                                if (indices == null) {
+                                    indices = new BitSet(transformations.size());
+                                    names.put(name, indices);
+                                }
+                                indices.set(index);
+                            }
+                            for (String prefix : nameConstraint.getPrefixes()) {
+                                BitSet indices = prefixes.get(prefix);
+                                if (indices == null) {
+                                    indices = new BitSet(transformations.size());
+                                    prefixes.put(prefix, indices);
+                                }
+                                indices.set(index);
+                                prefixLengths.add(prefix.length());
+                            }
+                        } else {
+                            unconstrained.set(index);
+                        }
+                    }
+                    int[] lengths = new int[prefixLengths.size()];
+                    int index = 0;
+                    for (Integer prefixLength : prefixLengths) {
+                        lengths[index++] = prefixLength;
+                    }
+                    return new Index(transformations, unconstrained, names, prefixes, lengths);
+                }
+
+                /**
+                 * Resolves the name constraint that is implied by a raw matcher.
+                 *
+                 * @param matcher The raw matcher to resolve.
+                 * @return The name constraint that is implied by the supplied raw matcher.
+                 */
+                private static NameConstraint of(RawMatcher matcher) {
+                    if (matcher instanceof RawMatcher.ForElementMatchers) {
+                        return NameConstraint.of(((RawMatcher.ForElementMatchers) matcher).typeMatcher);
+                    } else if (matcher instanceof RawMatcher.Conjunction) {
+                        NameConstraint nameConstraint = NameConstraint.UNCONSTRAINED;
+                        for (RawMatcher element : ((RawMatcher.Conjunction) matcher).matchers) {
+                            nameConstraint = nameConstraint.and(of(element));
+                        }
+                        return nameConstraint;
+                    } else if (matcher instanceof RawMatcher.Disjunction && !((RawMatcher.Disjunction) matcher).matchers.isEmpty()) {
+                        NameConstraint nameConstraint = null;
+                        for (RawMatcher element : ((RawMatcher.Disjunction) matcher).matchers) {
+                            nameConstraint = nameConstraint == null
+                                    ? of(element)
+                                    : nameConstraint.or(of(element));
+                        }
+                        return nameConstraint;
+                    } else {
+                        return NameConstraint.UNCONSTRAINED;
+                    }
+                }
+
+                /**
+                 * Resolves all transformations that might match the supplied type in their application order.
+                 *
+                 * @param typeDescription The type to resolve transformations for.
+                 * @return A list of all transformations that might match the supplied type in their application order.
+                 */
+                protected List<Transformation> resolve(TypeDescription typeDescription) {
+                    if (unconstrained.cardinality() == transformations.size()) {
+                        return transformations;
+                    }
+                    String name = typeDescription.getActualName();
+                    BitSet candidates = (BitSet) unconstrained.clone();
+                    BitSet indices = names.get(name);
+                    if (indices != null) {
+                        candidates.or(indices);
+                    }
+                    for (int prefixLength : prefixLengths) {
+                        if (prefixLength > name.length()) {
+                            break;
+                        }
+                        indices = prefixes.get(name.substring(0, prefixLength));
+                        if (indices != null) {
+                            candidates.or(indices);
+                        }
+                    }
+                    List<Transformation> transformations = new ArrayList<Transformation>(candidates.cardinality());
+                    for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+                        transformations.add(this.transformations.get(index));
+                    }
+                    return transformations;
+                }
+            }
+
             /**
              * An iterator over a list of transformations that match a raw matcher specification.
              */
@@ -12496,6 +13271,11 @@ public interface AgentBuilder {
              */
             private final List<Transformation> transformations;
 
+            /**
+             * An index of the transformations to apply on non-ignored types.
+             */
+            private final Transformation.Index index;
+
             /**
              * A lock that prevents circular class transformations.
              */
@@ -12566,6 +13346,7 @@ public interface AgentBuilder {
                 this.resubmissionEnforcer = resubmissionEnforcer;
                 this.transformations = transformations;
                 this.circularityLock = circularityLock;
+                index = Transformation.Index.of(transformations);
                 accessControlContext = getContext();
             }
 
@@ -12736,7 +13517,7 @@ public interface AgentBuilder {
                 TypeDescription typeDescription = descriptionStrategy.apply(name, classBeingRedefined, typePool, circularityLock, classLoader, module);
                 List<Transformer> transformers = new ArrayList<Transformer>();
                 if (!ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)) {
-                    for (Transformation transformation : transformations) {
+                    for (Transformation transformation : index.resolve(typeDescription)) {
                         if (transformation.getMatcher().matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)) {
                             transformers.addAll(transformation.getTransformers());
                             if (transformation.isTerminal()) {
@@ -12776,7 +13557,7 @@ public interface AgentBuilder {
                                                   @MaybeNull ProtectionDomain protectionDomain) {
                 return ignoreMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)
                         ? Collections.<Transformer>emptySet().iterator()
-                        : new Transformation.TransformerIterator(typeDescription, classLoader, module, classBeingRedefined, protectionDomain, transformations);
+                        : new Transformation.TransformerIterator(typeDescription, classLoader, module, classBeingRedefined, protectionDomain, index.resolve(typeDescription));
             }
 
             /**
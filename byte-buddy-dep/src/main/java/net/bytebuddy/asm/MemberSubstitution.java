@@ -47,6 +47,7 @@ import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.matcher.NameConstraint;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.*;
 import net.bytebuddy.utility.nullability.MaybeNull;
@@ -7321,6 +7322,22 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                      String name,
                      List<JavaConstant> constants);
 
+        /**
+         * A replacement that constrains the names of the fields and methods it might bind. If a replacement does not implement
+         * this interface, the resolution of any field or method is attempted.
+         */
+        interface NameConstrained {
+
+            /**
+             * Returns a constraint on the names of fields and methods that this replacement might bind. Any field or method that does
+             * not satisfy this constraint is never bound such that its resolution can be skipped. The name of a constructor is
+             * considered to be empty.
+             *
+             * @return A constraint on the names of fields and methods that this replacement might bind.
+             */
+            NameConstraint getNameConstraint();
+        }
+
         /**
          * A binding for a replacement of a field or method access within another method.
          */
@@ -7623,7 +7640,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
         /**
          * A non-operational replacement.
          */
-        enum NoOp implements Replacement, Factory {
+        enum NoOp implements Replacement, NameConstrained, Factory {
 
             /**
              * The singleton instance.
@@ -7670,13 +7687,20 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                                 List<JavaConstant> constants) {
                 return Binding.Unresolved.INSTANCE;
             }
+
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                return NameConstraint.EMPTY;
+            }
         }
 
         /**
          * A replacement that substitutes a member based on a row of element matchers.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class ForElementMatchers implements Replacement {
+        class ForElementMatchers implements Replacement, NameConstrained {
 
             /**
              * The field matcher to consider when discovering fields.
@@ -7778,6 +7802,15 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 return Binding.Unresolved.INSTANCE;
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                return (matchFieldRead || matchFieldWrite
+                        ? NameConstraint.of(fieldMatcher)
+                        : NameConstraint.EMPTY).or(NameConstraint.of(methodMatcher));
+            }
+
             /**
              * A factory for creating a replacement that chooses members based on a row of element matchers.
              */
@@ -7902,7 +7935,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
          * A replacement that substitutes a invokedynamic instruction.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class ForDynamicInvocation implements Replacement {
+        class ForDynamicInvocation implements Replacement, NameConstrained {
 
             /**
              * A matcher for an invokedynamic bootstrap method.
@@ -7990,6 +8023,13 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 return Binding.Unresolved.INSTANCE;
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                return NameConstraint.EMPTY;
+            }
+
             /**
              * A factory for a replacement for an invokedynamic instruction.
              */
@@ -8059,7 +8099,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
          * A replacement that only resolves the first matching replacement of a list of replacements.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        class ForFirstBinding implements Replacement {
+        class ForFirstBinding implements Replacement, NameConstrained {
 
             /**
              * The list of replacements to consider.
@@ -8131,6 +8171,20 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 }
                 return Binding.Unresolved.INSTANCE;
             }
+
+            /**
+             * {@inheritDoc}
+             */
+            public NameConstraint getNameConstraint() {
+                NameConstraint nameConstraint = NameConstraint.EMPTY;
+                for (Replacement replacement : replacements) {
+                    if (!(replacement instanceof NameConstrained)) {
+                        return NameConstraint.UNCONSTRAINED;
+                    }
+                    nameConstraint = nameConstraint.or(((NameConstrained) replacement).getNameConstraint());
+                }
+                return nameConstraint;
+            }
         }
     }
 
@@ -8184,6 +8238,21 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
          */
         private final boolean virtualPrivateCalls;
 
+        /**
+         * A constraint on the names of fields and methods that the replacement might bind.
+         */
+        private final NameConstraint nameConstraint;
+
+        /**
+         * A cache of resolved field accesses by their opcode, owner, name and descriptor.
+         */
+        private final Map<MemberKey, Resolved<FieldDescription>> fields;
+
+        /**
+         * A cache of resolved method invocations by their opcode, owner, name and descriptor.
+         */
+        private final Map<MemberKey, Resolved<MethodDescription>> methods;
+
         /**
          * An additional buffer for the operand stack that is required.
          */
@@ -8233,12 +8302,79 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
             this.implementationContext = implementationContext;
             this.typePool = typePool;
             this.virtualPrivateCalls = virtualPrivateCalls;
+            nameConstraint = replacement instanceof Replacement.NameConstrained
+                    ? ((Replacement.NameConstrained) replacement).getNameConstraint()
+                    : NameConstraint.UNCONSTRAINED;
+            fields = new HashMap<MemberKey, Resolved<FieldDescription>>();
+            methods = new HashMap<MemberKey, Resolved<MethodDescription>>();
             stackSizeBuffer = 0;
             localVariableExtension = 0;
         }
 
         @Override
         public void visitFieldInsn(int opcode, String owner, String internalName, String descriptor) {
+            if (strict || nameConstraint.matches(internalName)) {
+                MemberKey key = new MemberKey(opcode, owner, internalName, descriptor);
+                Resolved<FieldDescription> resolved = fields.get(key);
+                if (resolved == null) {
+                    resolved = resolveField(opcode, owner, internalName, descriptor);
+                    fields.put(key, resolved);
+                }
+                if (resolved.getBinding().isBound()) {
+                    FieldDescription fieldDescription = resolved.getMember();
+                    TypeList.Generic parameters;
+                    TypeDescription.Generic result;
+                    boolean read;
+                    switch (opcode) {
+                        case Opcodes.PUTFIELD:
+                            parameters = new TypeList.Generic.Explicit(fieldDescription.getDeclaringType(), fieldDescription.getType());
+                            result = TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(void.class);
+                            read = false;
+                            break;
+                        case Opcodes.PUTSTATIC:
+                            parameters = new TypeList.Generic.Explicit(fieldDescription.getType());
+                            result = TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(void.class);
+                            read = false;
+                            break;
+                        case Opcodes.GETFIELD:
+                            parameters = new TypeList.Generic.Explicit(fieldDescription.getDeclaringType());
+                            result = fieldDescription.getType();
+                            read = true;
+                            break;
+                        case Opcodes.GETSTATIC:
+                            parameters = new TypeList.Generic.Empty();
+                            result = fieldDescription.getType();
+                            read = true;
+                            break;
+                        default:
+                            throw new IllegalStateException("Unexpected opcode: " + opcode);
+                    }
+                    stackSizeBuffer = Math.max(stackSizeBuffer, resolved.getBinding().make(parameters,
+                            result,
+                            read
+                                    ? JavaConstant.MethodHandle.ofGetter(fieldDescription.asDefined())
+                                    : JavaConstant.MethodHandle.ofSetter(fieldDescription.asDefined()),
+                            read
+                                    ? FieldAccess.forField(fieldDescription).read()
+                                    : FieldAccess.forField(fieldDescription).write(),
+                            getFreeOffset()).apply(new LocalVariableTracingMethodVisitor(mv), implementationContext).getMaximalSize());
+                    matched = true;
+                    return;
+                }
+            }
+            super.visitFieldInsn(opcode, owner, internalName, descriptor);
+        }
+
+        /**
+         * Resolves a field access and binds the replacement for the accessed field.
+         *
+         * @param opcode       The opcode of the field access.
+         * @param owner        The internal name of the field's owner.
+         * @param internalName The name of the field.
+         * @param descriptor   The descriptor of the field.
+         * @return A representation of the resolved field access.
+         */
+        private Resolved<FieldDescription> resolveField(int opcode, String owner, String internalName, String descriptor) {
             TypePool.Resolution resolution = typePool.describe(owner.replace('/', '.'));
             if (resolution.isResolved()) {
                 FieldList<?> candidates;
@@ -8249,62 +8385,75 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                             : ElementMatchers.<FieldDescription>failSafe(named(internalName).and(hasDescriptor(descriptor))));
                 } while (iterator.hasNext() && candidates.isEmpty());
                 if (!candidates.isEmpty()) {
-                    Replacement.Binding binding = replacement.bind(instrumentedType,
+                    return new Resolved<FieldDescription>(resolution.resolve(), candidates.getOnly(), replacement.bind(instrumentedType,
                             instrumentedMethod,
                             resolution.resolve(),
                             candidates.getOnly(),
-                            opcode == Opcodes.PUTFIELD || opcode == Opcodes.PUTSTATIC);
-                    if (binding.isBound()) {
-                        TypeList.Generic parameters;
-                        TypeDescription.Generic result;
-                        boolean read;
-                        switch (opcode) {
-                            case Opcodes.PUTFIELD:
-                                parameters = new TypeList.Generic.Explicit(candidates.getOnly().getDeclaringType(), candidates.getOnly().getType());
-                                result = TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(void.class);
-                                read = false;
-                                break;
-                            case Opcodes.PUTSTATIC:
-                                parameters = new TypeList.Generic.Explicit(candidates.getOnly().getType());
-                                result = TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(void.class);
-                                read = false;
-                                break;
-                            case Opcodes.GETFIELD:
-                                parameters = new TypeList.Generic.Explicit(candidates.getOnly().getDeclaringType());
-                                result = candidates.getOnly().getType();
-                                read = true;
-                                break;
-                            case Opcodes.GETSTATIC:
-                                parameters = new TypeList.Generic.Empty();
-                                result = candidates.getOnly().getType();
-                                read = true;
-                                break;
-                            default:
-                                throw new IllegalStateException("Unexpected opcode: " + opcode);
-                        }
-                        stackSizeBuffer = Math.max(stackSizeBuffer, binding.make(parameters,
-                                result,
-                                read
-                                        ? JavaConstant.MethodHandle.ofGetter(candidates.getOnly().asDefined())
-                                        : JavaConstant.MethodHandle.ofSetter(candidates.getOnly().asDefined()),
-                                read
-                                        ? FieldAccess.forField(candidates.getOnly()).read()
-                                        : FieldAccess.forField(candidates.getOnly()).write(),
-                                getFreeOffset()).apply(new LocalVariableTracingMethodVisitor(mv), implementationContext).getMaximalSize());
-                        matched = true;
-                        return;
-                    }
+                            opcode == Opcodes.PUTFIELD || opcode == Opcodes.PUTSTATIC));
                 } else if (strict) {
                     throw new IllegalStateException("Could not resolve " + owner.replace('/', '.') + "." + internalName + descriptor + " using " + typePool);
                 }
             } else if (strict) {
                 throw new IllegalStateException("Could not resolve " + owner.replace('/', '.') + " using " + typePool);
             }
-            super.visitFieldInsn(opcode, owner, internalName, descriptor);
+            return new Resolved<FieldDescription>();
         }
 
         @Override
         public void visitMethodInsn(int opcode, String owner, String internalName, String descriptor, boolean isInterface) {
+            if (strict || nameConstraint.matches(internalName.equals(MethodDescription.CONSTRUCTOR_INTERNAL_NAME)
+                    ? MethodDescription.EMPTY_NAME
+                    : internalName)) {
+                MemberKey key = new MemberKey(opcode, owner, internalName, descriptor);
+                Resolved<MethodDescription> resolved = methods.get(key);
+                if (resolved == null) {
+                    resolved = resolveMethod(opcode, owner, internalName, descriptor);
+                    methods.put(key, resolved);
+                }
+                if (resolved.getBinding().isBound()) {
+                    TypeDescription typeDescription = resolved.getTypeDescription();
+                    MethodDescription methodDescription = resolved.getMember();
+                    StackManipulation.Size size = resolved.getBinding().make(
+                            methodDescription.isStatic() || methodDescription.isConstructor()
+                                    ? methodDescription.getParameters().asTypeList()
+                                    : new TypeList.Generic.Explicit(CompoundList.of(typeDescription, methodDescription.getParameters().asTypeList())),
+                            methodDescription.isConstructor()
+                                    ? methodDescription.getDeclaringType().asGenericType()
+                                    : methodDescription.getReturnType(),
+                            opcode == Opcodes.INVOKESPECIAL && methodDescription.isMethod() && !methodDescription.isPrivate()
+                                    ? JavaConstant.MethodHandle.ofSpecial(methodDescription.asDefined(), typeDescription)
+                                    : JavaConstant.MethodHandle.of(methodDescription.asDefined()),
+                            opcode == Opcodes.INVOKESPECIAL && methodDescription.isMethod() && !methodDescription.isPrivate()
+                                    ? MethodInvocation.invoke(methodDescription).special(typeDescription)
+                                    : MethodInvocation.invoke(methodDescription), getFreeOffset()).apply(new LocalVariableTracingMethodVisitor(mv), implementationContext);
+                    if (methodDescription.isConstructor()) {
+                        stackSizeBuffer = Math.max(stackSizeBuffer, size.getMaximalSize() + 2);
+                        stackSizeBuffer = Math.max(stackSizeBuffer, new StackManipulation.Compound(Duplication.SINGLE.flipOver(TypeDescription.ForLoadedType.of(Object.class)),
+                                Removal.SINGLE,
+                                Removal.SINGLE,
+                                Duplication.SINGLE.flipOver(TypeDescription.ForLoadedType.of(Object.class)),
+                                Removal.SINGLE,
+                                Removal.SINGLE).apply(mv, implementationContext).getMaximalSize() + StackSize.SINGLE.getSize());
+                    } else {
+                        stackSizeBuffer = Math.max(stackSizeBuffer, size.getMaximalSize());
+                    }
+                    matched = true;
+                    return;
+                }
+            }
+            super.visitMethodInsn(opcode, owner, internalName, descriptor, isInterface);
+        }
+
+        /**
+         * Resolves a method invocation and binds the replacement for the invoked method.
+         *
+         * @param opcode       The opcode of the method invocation.
+         * @param owner        The internal name of the method's owner.
+         * @param internalName The internal name of the method.
+         * @param descriptor   The descriptor of the method.
+         * @return A representation of the resolved method invocation.
+         */
+        private Resolved<MethodDescription> resolveMethod(int opcode, String owner, String internalName, String descriptor) {
             TypePool.Resolution resolution = typePool.describe(owner.replace('/', '.'));
             if (resolution.isResolved()) {
                 MethodList<?> candidates;
@@ -8338,46 +8487,18 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                             : ElementMatchers.<MethodDescription>failSafe(named(internalName).and(hasDescriptor(descriptor))));
                 }
                 if (!candidates.isEmpty()) {
-                    Replacement.Binding binding = replacement.bind(instrumentedType,
+                    return new Resolved<MethodDescription>(resolution.resolve(), candidates.getOnly(), replacement.bind(instrumentedType,
                             instrumentedMethod,
                             resolution.resolve(),
                             candidates.getOnly(),
-                            Replacement.InvocationType.of(opcode, candidates.getOnly()));
-                    if (binding.isBound()) {
-                        StackManipulation.Size size = binding.make(
-                                candidates.getOnly().isStatic() || candidates.getOnly().isConstructor()
-                                        ? candidates.getOnly().getParameters().asTypeList()
-                                        : new TypeList.Generic.Explicit(CompoundList.of(resolution.resolve(), candidates.getOnly().getParameters().asTypeList())),
-                                candidates.getOnly().isConstructor()
-                                        ? candidates.getOnly().getDeclaringType().asGenericType()
-                                        : candidates.getOnly().getReturnType(),
-                                opcode == Opcodes.INVOKESPECIAL && candidates.getOnly().isMethod() && !candidates.getOnly().isPrivate()
-                                        ? JavaConstant.MethodHandle.ofSpecial(candidates.getOnly().asDefined(), resolution.resolve())
-                                        : JavaConstant.MethodHandle.of(candidates.getOnly().asDefined()),
-                                opcode == Opcodes.INVOKESPECIAL && candidates.getOnly().isMethod() && !candidates.getOnly().isPrivate()
-                                        ? MethodInvocation.invoke(candidates.getOnly()).special(resolution.resolve())
-                                        : MethodInvocation.invoke(candidates.getOnly()), getFreeOffset()).apply(new LocalVariableTracingMethodVisitor(mv), implementationContext);
-                        if (candidates.getOnly().isConstructor()) {
-                            stackSizeBuffer = Math.max(stackSizeBuffer, size.getMaximalSize() + 2);
-                            stackSizeBuffer = Math.max(stackSizeBuffer, new StackManipulation.Compound(Duplication.SINGLE.flipOver(TypeDescription.ForLoadedType.of(Object.class)),
-                                    Removal.SINGLE,
-                                    Removal.SINGLE,
-                                    Duplication.SINGLE.flipOver(TypeDescription.ForLoadedType.of(Object.class)),
-                                    Removal.SINGLE,
-                                    Removal.SINGLE).apply(mv, implementationContext).getMaximalSize() + StackSize.SINGLE.getSize());
-                        } else {
-                            stackSizeBuffer = Math.max(stackSizeBuffer, size.getMaximalSize());
-                        }
-                        matched = true;
-                        return;
-                    }
+                            Replacement.InvocationType.of(opcode, candidates.getOnly())));
                 } else if (strict) {
                     throw new IllegalStateException("Could not resolve " + owner.replace('/', '.') + "." + internalName + descriptor + " using " + typePool);
                 }
             } else if (strict) {
                 throw new IllegalStateException("Could not resolve " + owner.replace('/', '.') + " using " + typePool);
             }
-            super.visitMethodInsn(opcode, owner, internalName, descriptor, isInterface);
+            return new Resolved<MethodDescription>();
         }
 
         @Override
@@ -8458,6 +8579,126 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 super.visitVarInsn(opcode, offset);
             }
         }
+
+        /**
+         * A key for a field access or method invocation by its opcode, owner, name and descriptor.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class MemberKey {
+
+            /**
+             * The opcode of the field access or method invocation.
+             */
+            private final int opcode;
+
+            /**
+             * The internal name of the member's owner.
+             */
+            private final String owner;
+
+            /**
+             * The internal name of the member.
+             */
+            private final String internalName;
+
+            /**
+             * The descriptor of the member.
+             */
+            private final String descriptor;
+
+            /**
+             * Creates a new member key.
+             *
+             * @param opcode       The opcode of the field access or method invocation.
+             * @param owner        The internal name of the member's owner.
+             * @param internalName The internal name of the member.
+             * @param descriptor   The descriptor of the member.
+             */
+            protected MemberKey(int opcode, String owner, String internalName, String descriptor) {
+                this.opcode = opcode;
+                this.owner = owner;
+                this.internalName = internalName;
+                this.descriptor = descriptor;
+            }
+        }
+
+        /**
+         * A resolved field access or method invocation together with the binding of the replacement for this member.
+         *
+         * @param <T> The type of the resolved member.
+         */
+        protected static class Resolved<T extends ByteCodeElement.Member> {
+
+            /**
+             * The type on which the member is accessed or {@code null} if the member was not resolved.
+             */
+            @MaybeNull
+            private final TypeDescription typeDescription;
+
+            /**
+             * The resolved member or {@code null} if the member was not resolved.
+             */
+            @MaybeNull
+            private final T member;
+
+            /**
+             * The binding of the replacement for the resolved member.
+             */
+            private final Replacement.Binding binding;
+
+            /**
+             * Creates a representation of a member that could not be resolved or that is not bound.
+             */
+            protected Resolved() {
+                this(null, null, Replacement.Binding.Unresolved.INSTANCE);
+            }
+
+            /**
+             * Creates a representation of a resolved member.
+             *
+             * @param typeDescription The type on which the member is accessed or {@code null} if the member was not resolved.
+             * @param member          The resolved member or {@code null} if the member was not resolved.
+             * @param binding         The binding of the replacement for the resolved member.
+             */
+            protected Resolved(@MaybeNull TypeDescription typeDescription, @MaybeNull T member, Replacement.Binding binding) {
+                this.typeDescription = typeDescription;
+                this.member = member;
+                this.binding = binding;
+            }
+
+            /**
+             * Returns the type on which the member is accessed. Must only be called for a bound member.
+             *
+             * @return The type on which the member is accessed.
+             */
+            protected TypeDescription getTypeDescription() {
+                if (typeDescription == null) {
+                    throw new IllegalStateException("Member was not resolved");
+                }
+                return typeDescription;
+            }
+
+            /**
+             * Returns the resolved member. Must only be called for a bound member.
+             *
+             * @return The resolved member.
+             */
+            protected T getMember() {
+                if (member == null) {
+                    throw new IllegalStateException("Member was not resolved");
+                }
+                return member;
+            }
+
+            /**
+             * Returns the binding of the replacement for the resolved member.
+             *
+             * @return The binding of the replacement for the resolved member.
+             */
+            protected Replacement.Binding getBinding() {
+                return binding;
+            }
+        }
     }
 
     /**
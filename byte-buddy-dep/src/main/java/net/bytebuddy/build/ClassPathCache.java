@@ -0,0 +1,722 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.build;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.nullability.MaybeNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A cache for class file locators and type pools of class path elements that outlives a single application of a {@link Plugin.Engine}.
+ * Build tools that retain a plugin's class loader in between builds, such as a build daemon, can hold an instance of this cache to
+ * avoid indexing the same archives and parsing the same class files for every task or module that shares a class path.
+ * </p>
+ * <p>
+ * Class file locators are cached per jar file where a jar file is identified by its path, size and last modification time. If a
+ * jar file changes, a new locator is created for it. The cached locators are composed for every acquired class path and a type
+ * pool is cached for each distinct composition of jar files, as a type description resolves the types it references from the
+ * type pool that parsed it and can therefore only be shared by class paths that consist of the same elements in the same order.
+ * Folders are never cached, as their content cannot be validated without visiting all of their files. A class path that contains
+ * a folder is therefore composed from the cached locators of its jar files but is given a type pool that is not shared.
+ * Outdated locators and the type pools that reference them are closed as soon as they are no longer in use. Other locators and
+ * type pools that are not currently in use are evicted in least-recently-used order once the summarized size of the cached jar
+ * files exceeds this cache's ceiling. Build tools should {@link ClassPathCache#clear() clear} a shared cache once a build is
+ * finished to not retain open jar files in between builds.
+ * </p>
+ * <p>
+ * <b>Important</b>: The type pool of a class path is used as the parent of any type pool that is created by the
+ * {@link Handle#getPoolStrategy()}. As type pools resolve types parent-first, a transformed type cannot shadow a type of the
+ * class path.
+ * </p>
+ */
+public class ClassPathCache {
+
+    /**
+     * The ceiling of the summarized size of all cached jar files in bytes.
+     */
+    private long maximumWeight;
+
+    /**
+     * The cached jar files in their access order.
+     */
+    private final Map<Element.Key, Element> elements;
+
+    /**
+     * The cached compositions of jar files in their access order.
+     */
+    private final Map<Composition.Key, Composition> compositions;
+
+    /**
+     * The summarized size of all cached jar files.
+     */
+    private long weight;
+
+    /**
+     * Creates a new class path cache.
+     *
+     * @param maximumWeight The ceiling of the summarized size of all cached jar files in bytes.
+     */
+    public ClassPathCache(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        elements = new LinkedHashMap<Element.Key, Element>(16, 0.75f, true);
+        compositions = new LinkedHashMap<Composition.Key, Composition>(16, 0.75f, true);
+    }
+
+    /**
+     * Raises the ceiling of this cache's weight if the supplied ceiling exceeds the current one. This allows a single cache to
+     * be shared by several users that configure different ceilings where the largest configured ceiling is applied.
+     *
+     * @param maximumWeight The minimal ceiling of the summarized size of all cached jar files in bytes.
+     */
+    public synchronized void raise(long maximumWeight) {
+        if (maximumWeight > this.maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+
+    /**
+     * Acquires a handle for a class path. The handle must be closed once it is no longer used. Jar files that are not yet
+     * cached are opened without holding this cache's monitor, such that concurrent users of the cache are not blocked by
+     * opening large archives.
+     *
+     * @param classPath        The class path elements, either jar files or folders.
+     * @param classFileVersion The class file version to consider for multi-release jar files or folders.
+     * @param readerMode       The reader mode to use for parsing class files.
+     * @return A handle for the supplied class path.
+     * @throws IOException If an I/O error occurs.
+     */
+    public Handle acquire(List<? extends File> classPath,
+                          ClassFileVersion classFileVersion,
+                          TypePool.Default.ReaderMode readerMode) throws IOException {
+        List<Element.Key> keys = new ArrayList<Element.Key>(classPath.size());
+        for (File file : classPath) {
+            keys.add(file.isFile()
+                    ? new Element.Key(file.getAbsolutePath(), file.length(), file.lastModified(), classFileVersion)
+                    : null);
+        }
+        Element[] pinned = new Element[classPath.size()];
+        synchronized (this) {
+            for (int index = 0; index < keys.size(); index++) {
+                Element.Key key = keys.get(index);
+                if (key != null) {
+                    Element element = elements.get(key);
+                    if (element != null) {
+                        element.references++;
+                        pinned[index] = element;
+                    }
+                }
+            }
+        }
+        Map<Element.Key, ClassFileLocator> opened = new HashMap<Element.Key, ClassFileLocator>();
+        List<ClassFileLocator> folders = new ArrayList<ClassFileLocator>();
+        try {
+            for (int index = 0; index < keys.size(); index++) {
+                Element.Key key = keys.get(index);
+                if (key == null) {
+                    folders.add(ClassFileLocator.ForFolder.of(classPath.get(index), classFileVersion));
+                } else if (pinned[index] == null && !opened.containsKey(key)) {
+                    opened.put(key, ClassFileLocator.ForJarFile.of(classPath.get(index), classFileVersion));
+                }
+            }
+        } catch (IOException exception) {
+            List<Element> released;
+            synchronized (this) {
+                for (Element element : pinned) {
+                    if (element != null) {
+                        element.references--;
+                    }
+                }
+                released = evict();
+            }
+            folders.addAll(opened.values());
+            close(released, folders);
+            throw exception;
+        }
+        List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(classPath.size());
+        List<Element> acquired = new ArrayList<Element>(classPath.size());
+        List<Element> evicted;
+        Composition composition;
+        synchronized (this) {
+            Iterator<ClassFileLocator> iterator = folders.iterator();
+            for (int index = 0; index < keys.size(); index++) {
+                Element.Key key = keys.get(index);
+                if (key == null) {
+                    classFileLocators.add(iterator.next());
+                    continue;
+                }
+                Element element = pinned[index];
+                if (element == null) {
+                    element = elements.get(key);
+                    if (element == null) {
+                        for (Element cached : elements.values()) {
+                            if (cached.key.path.equals(key.path)) {
+                                cached.stale = true;
+                            }
+                        }
+                        element = new Element(key, opened.remove(key));
+                        elements.put(key, element);
+                        weight += element.weight;
+                    }
+                    element.references++;
+                }
+                acquired.add(element);
+                classFileLocators.add(element.classFileLocator);
+            }
+            if (folders.isEmpty()) {
+                Composition.Key key = new Composition.Key(acquired, readerMode);
+                composition = compositions.get(key);
+                if (composition == null) {
+                    composition = Composition.of(acquired, readerMode);
+                    compositions.put(key, composition);
+                    for (Element element : acquired) {
+                        element.references++;
+                    }
+                }
+                composition.users++;
+            } else {
+                composition = null;
+            }
+            evicted = evict();
+        }
+        close(evicted, new ArrayList<ClassFileLocator>(opened.values()));
+        if (composition == null) {
+            ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileLocators);
+            return new Handle(this,
+                    acquired,
+                    null,
+                    folders,
+                    classFileLocator,
+                    new TypePool.Default.WithLazyResolution(new TypePool.CacheProvider.Simple(),
+                            classFileLocator,
+                            readerMode,
+                            TypePool.ClassLoading.ofPlatformLoader()),
+                    readerMode);
+        } else {
+            return new Handle(this,
+                    acquired,
+                    composition,
+                    folders,
+                    composition.classFileLocator,
+                    composition.typePool,
+                    readerMode);
+        }
+    }
+
+    /**
+     * Releases the jar files and the composition of a handle that was previously acquired.
+     *
+     * @param elements    The jar files that were acquired by the handle.
+     * @param composition The composition that was acquired by the handle or {@code null} if no composition was acquired.
+     * @param folders     The class file locators of folders that were created for the handle.
+     * @throws IOException If an I/O error occurs.
+     */
+    protected void release(List<Element> elements, @MaybeNull Composition composition, List<ClassFileLocator> folders) throws IOException {
+        List<Element> evicted;
+        synchronized (this) {
+            for (Element element : elements) {
+                element.references--;
+            }
+            if (composition != null) {
+                composition.users--;
+            }
+            evicted = evict();
+        }
+        close(evicted, folders);
+    }
+
+    /**
+     * Removes all jar files and compositions that are currently not in use from this cache.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void clear() throws IOException {
+        List<Element> evicted = new ArrayList<Element>();
+        synchronized (this) {
+            Iterator<Composition> compositions = this.compositions.values().iterator();
+            while (compositions.hasNext()) {
+                Composition composition = compositions.next();
+                if (composition.users == 0) {
+                    compositions.remove();
+                    composition.release();
+                }
+            }
+            Iterator<Element> elements = this.elements.values().iterator();
+            while (elements.hasNext()) {
+                Element element = elements.next();
+                if (element.references == 0) {
+                    elements.remove();
+                    weight -= element.weight;
+                    evicted.add(element);
+                }
+            }
+        }
+        close(evicted, new ArrayList<ClassFileLocator>());
+    }
+
+    /**
+     * Returns the number of jar files that are currently cached.
+     *
+     * @return The number of jar files that are currently cached.
+     */
+    public synchronized int size() {
+        return elements.size();
+    }
+
+    /**
+     * Evicts all outdated jar files, i.e. jar files for which a newer version was cached, together with the compositions that
+     * reference them once they are no longer in use. Afterwards, evicts the least recently used jar files that are not currently
+     * in use until the cache's weight does not exceed the maximum weight. If no such jar file exists, the least recently used
+     * composition that is not in use is evicted to release its jar files. Must only be invoked while holding this instance's monitor.
+     *
+     * @return The evicted jar files that can be closed.
+     */
+    private List<Element> evict() {
+        List<Element> evicted = new ArrayList<Element>();
+        Iterator<Composition> outdated = compositions.values().iterator();
+        while (outdated.hasNext()) {
+            Composition composition = outdated.next();
+            if (composition.users == 0 && composition.isStale()) {
+                outdated.remove();
+                composition.release();
+            }
+        }
+        Iterator<Element> stale = elements.values().iterator();
+        while (stale.hasNext()) {
+            Element element = stale.next();
+            if (element.stale && element.references == 0) {
+                stale.remove();
+                weight -= element.weight;
+                evicted.add(element);
+            }
+        }
+        while (weight > maximumWeight) {
+            Element element = null;
+            Iterator<Element> elements = this.elements.values().iterator();
+            while (elements.hasNext()) {
+                Element candidate = elements.next();
+                if (candidate.references == 0) {
+                    elements.remove();
+                    element = candidate;
+                    break;
+                }
+            }
+            if (element != null) {
+                weight -= element.weight;
+                evicted.add(element);
+                continue;
+            }
+            Composition composition = null;
+            Iterator<Composition> compositions = this.compositions.values().iterator();
+            while (compositions.hasNext()) {
+                Composition candidate = compositions.next();
+                if (candidate.users == 0) {
+                    compositions.remove();
+                    composition = candidate;
+                    break;
+                }
+            }
+            if (composition == null) {
+                break;
+            }
+            composition.release();
+        }
+        return evicted;
+    }
+
+    /**
+     * Closes all supplied jar files and folders.
+     *
+     * @param elements The jar files to close.
+     * @param folders  The class file locators of the folders to close.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void close(List<Element> elements, List<ClassFileLocator> folders) throws IOException {
+        List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(elements.size() + folders.size());
+        for (Element element : elements) {
+            classFileLocators.add(element.classFileLocator);
+        }
+        classFileLocators.addAll(folders);
+        IOException exception = null;
+        for (ClassFileLocator classFileLocator : classFileLocators) {
+            try {
+                classFileLocator.close();
+            } catch (IOException ioException) {
+                exception = ioException;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * A cached jar file.
+     */
+    protected static class Element {
+
+        /**
+         * The key of the jar file.
+         */
+        private final Key key;
+
+        /**
+         * The class file locator of the jar file.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * The size of the jar file.
+         */
+        private final long weight;
+
+        /**
+         * The number of handles and cached compositions that currently reference this jar file.
+         */
+        private int references;
+
+        /**
+         * {@code true} if a newer version of this jar file was cached such that this jar file is evicted once it is no longer in use.
+         */
+        private boolean stale;
+
+        /**
+         * Creates a new cached jar file.
+         *
+         * @param key              The key of the jar file.
+         * @param classFileLocator The class file locator of the jar file.
+         */
+        protected Element(Key key, ClassFileLocator classFileLocator) {
+            this.key = key;
+            this.classFileLocator = classFileLocator;
+            weight = key.length;
+        }
+
+        /**
+         * A key for a cached jar file.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class Key {
+
+            /**
+             * The jar file's absolute path.
+             */
+            private final String path;
+
+            /**
+             * The jar file's size.
+             */
+            private final long length;
+
+            /**
+             * The jar file's last modification time.
+             */
+            private final long lastModified;
+
+            /**
+             * The class file version to consider for multi-release jar files.
+             */
+            private final ClassFileVersion classFileVersion;
+
+            /**
+             * Creates a new key for a jar file.
+             *
+             * @param path             The jar file's absolute path.
+             * @param length           The jar file's size.
+             * @param lastModified     The jar file's last modification time.
+             * @param classFileVersion The class file version to consider for multi-release jar files.
+             */
+            protected Key(String path, long length, long lastModified, ClassFileVersion classFileVersion) {
+                this.path = path;
+                this.length = length;
+                this.lastModified = lastModified;
+                this.classFileVersion = classFileVersion;
+            }
+        }
+    }
+
+    /**
+     * A cached composition of jar files with a shared type pool.
+     */
+    protected static class Composition {
+
+        /**
+         * The composed jar files.
+         */
+        private final List<Element> elements;
+
+        /**
+         * The class file locator of the composed jar files.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * The shared type pool of the composed jar files.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The number of handles that currently use this composition.
+         */
+        private int users;
+
+        /**
+         * Creates a new composition.
+         *
+         * @param elements         The composed jar files.
+         * @param classFileLocator The class file locator of the composed jar files.
+         * @param typePool         The shared type pool of the composed jar files.
+         */
+        protected Composition(List<Element> elements, ClassFileLocator classFileLocator, TypePool typePool) {
+            this.elements = elements;
+            this.classFileLocator = classFileLocator;
+            this.typePool = typePool;
+        }
+
+        /**
+         * Creates a composition of the supplied jar files.
+         *
+         * @param elements   The jar files to compose.
+         * @param readerMode The reader mode to use for parsing class files.
+         * @return A composition of the supplied jar files.
+         */
+        protected static Composition of(List<Element> elements, TypePool.Default.ReaderMode readerMode) {
+            List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(elements.size());
+            for (Element element : elements) {
+                classFileLocators.add(element.classFileLocator);
+            }
+            ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileLocators);
+            return new Composition(new ArrayList<Element>(elements),
+                    classFileLocator,
+                    new TypePool.Default.WithLazyResolution(new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple()),
+                            classFileLocator,
+                            readerMode,
+                            TypePool.ClassLoading.ofPlatformLoader()));
+        }
+
+        /**
+         * Determines if this composition contains an outdated jar file. Must only be invoked while holding the cache's monitor.
+         *
+         * @return {@code true} if this composition contains an outdated jar file.
+         */
+        protected boolean isStale() {
+            for (Element element : elements) {
+                if (element.stale) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Releases the jar files of an evicted composition. Must only be invoked while holding the cache's monitor.
+         */
+        protected void release() {
+            for (Element element : elements) {
+                element.references--;
+            }
+        }
+
+        /**
+         * A key for a composition of jar files. Jar files are compared by identity as each cached jar file is represented by a
+         * single instance.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class Key {
+
+            /**
+             * The composed jar files.
+             */
+            private final List<Element> elements;
+
+            /**
+             * The reader mode to use for parsing class files.
+             */
+            private final TypePool.Default.ReaderMode readerMode;
+
+            /**
+             * Creates a new key for a composition.
+             *
+             * @param elements   The composed jar files.
+             * @param readerMode The reader mode to use for parsing class files.
+             */
+            protected Key(List<Element> elements, TypePool.Default.ReaderMode readerMode) {
+                this.elements = new ArrayList<Element>(elements);
+                this.readerMode = readerMode;
+            }
+        }
+    }
+
+    /**
+     * A handle for a class path that must be closed once it is no longer in use.
+     */
+    public static class Handle implements Closeable {
+
+        /**
+         * The cache that issued this handle.
+         */
+        private final ClassPathCache classPathCache;
+
+        /**
+         * The cached jar files that are used by this handle.
+         */
+        private final List<Element> elements;
+
+        /**
+         * The cached composition that is used by this handle or {@code null} if the class path contains a folder.
+         */
+        @MaybeNull
+        private final Composition composition;
+
+        /**
+         * The class file locators of folders that were created for this handle.
+         */
+        private final List<ClassFileLocator> folders;
+
+        /**
+         * The class file locator of the class path.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * The type pool of the class path.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The reader mode to use for parsing class files.
+         */
+        private final TypePool.Default.ReaderMode readerMode;
+
+        /**
+         * {@code true} if this handle was closed.
+         */
+        private boolean closed;
+
+        /**
+         * Creates a new handle.
+         *
+         * @param classPathCache   The cache that issued this handle.
+         * @param elements         The cached jar files that are used by this handle.
+         * @param composition      The cached composition that is used by this handle or {@code null} if the class path contains a folder.
+         * @param folders          The class file locators of folders that were created for this handle.
+         * @param classFileLocator The class file locator of the class path.
+         * @param typePool         The type pool of the class path.
+         * @param readerMode       The reader mode to use for parsing class files.
+         */
+        protected Handle(ClassPathCache classPathCache,
+                         List<Element> elements,
+                         @MaybeNull Composition composition,
+                         List<ClassFileLocator> folders,
+                         ClassFileLocator classFileLocator,
+                         TypePool typePool,
+                         TypePool.Default.ReaderMode readerMode) {
+            this.classPathCache = classPathCache;
+            this.elements = elements;
+            this.composition = composition;
+            this.folders = folders;
+            this.classFileLocator = classFileLocator;
+            this.typePool = typePool;
+            this.readerMode = readerMode;
+        }
+
+        /**
+         * Returns a class file locator for the class path. The locator must not be closed by the user of this handle.
+         *
+         * @return A class file locator for the class path.
+         */
+        public ClassFileLocator getClassFileLocator() {
+            return classFileLocator;
+        }
+
+        /**
+         * Returns the type pool of the class path which is shared if the class path only consists of jar files.
+         *
+         * @return The type pool of the class path.
+         */
+        public TypePool getTypePool() {
+            return typePool;
+        }
+
+        /**
+         * Returns a pool strategy that creates type pools which delegate to the type pool of the class path.
+         *
+         * @return A pool strategy that creates type pools which delegate to the type pool of the class path.
+         */
+        public Plugin.Engine.PoolStrategy getPoolStrategy() {
+            return new PoolStrategy(typePool, readerMode);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void close() throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            classPathCache.release(elements, composition, folders);
+        }
+    }
+
+    /**
+     * A pool strategy that creates type pools which use a shared type pool as their parent.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    protected static class PoolStrategy implements Plugin.Engine.PoolStrategy {
+
+        /**
+         * The shared type pool to use as a parent.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The reader mode to use for parsing class files.
+         */
+        private final TypePool.Default.ReaderMode readerMode;
+
+        /**
+         * Creates a new pool strategy.
+         *
+         * @param typePool   The shared type pool to use as a parent.
+         * @param readerMode The reader mode to use for parsing class files.
+         */
+        protected PoolStrategy(TypePool typePool, TypePool.Default.ReaderMode readerMode) {
+            this.typePool = typePool;
+            this.readerMode = readerMode;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public TypePool typePool(ClassFileLocator classFileLocator) {
+            return new TypePool.Default.WithLazyResolution(new TypePool.CacheProvider.Simple(), classFileLocator, readerMode, typePool);
+        }
+    }
+}
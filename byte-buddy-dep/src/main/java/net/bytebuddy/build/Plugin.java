@@ -25,6 +25,7 @@ import net.bytebuddy.dynamic.TypeResolutionStrategy;
 import net.bytebuddy.dynamic.scaffold.inline.MethodNameTransformer;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatcherOptimizer;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.FileSystem;
@@ -32,6 +33,7 @@ import net.bytebuddy.utility.QueueFactory;
 import net.bytebuddy.utility.StreamDrainer;
 import net.bytebuddy.utility.nullability.AlwaysNull;
 import net.bytebuddy.utility.nullability.MaybeNull;
+import net.bytebuddy.utility.nullability.UnknownNull;
 
 import java.io.*;
 import java.lang.annotation.*;
@@ -46,6 +48,10 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 import static net.bytebuddy.matcher.ElementMatchers.none;
 
@@ -2270,15 +2276,22 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                 ClassFileLocator toClassFileLocator(@MaybeNull ClassFileVersion classFileVersion) throws IOException;
 
                 /**
-                 * An origin implementation for a jar file.
+                 * An origin implementation for a jar file. The origin resolves raw entries of the represented jar file upon request
+                 * such that entries can be copied into another archive without inflating and deflating them.
                  */
-                class ForJarFile implements Origin {
+                class ForJarFile implements Origin, Element.RawEntry.Resolver {
 
                     /**
                      * The represented file.
                      */
                     private final JarFile file;
 
+                    /**
+                     * The index of raw entries or {@code null} if the index was not yet resolved.
+                     */
+                    @MaybeNull
+                    private RawIndex rawIndex;
+
                     /**
                      * Creates a new origin for a jar file.
                      *
@@ -2309,7 +2322,26 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                      * {@inheritDoc}
                      */
                     public void close() throws IOException {
-                        file.close();
+                        try {
+                            file.close();
+                        } finally {
+                            synchronized (this) {
+                                if (rawIndex != null) {
+                                    rawIndex.close();
+                                }
+                            }
+                        }
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @MaybeNull
+                    public synchronized Element.RawEntry resolve(JarEntry entry) {
+                        if (rawIndex == null) {
+                            rawIndex = RawIndex.of(file);
+                        }
+                        return rawIndex.resolve(entry);
                     }
 
                     /**
@@ -2349,7 +2381,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                          * {@inheritDoc}
                          */
                         public Element next() {
-                            return new Element.ForJarEntry(file, enumeration.nextElement());
+                            return new Element.ForJarEntry(file, enumeration.nextElement(), ForJarFile.this);
                         }
 
                         /**
@@ -2359,6 +2391,375 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                             throw new UnsupportedOperationException("remove");
                         }
                     }
+
+                    /**
+                     * An index of the raw entries of a jar file that is resolved from the file's central directory.
+                     */
+                    protected static class RawIndex implements Closeable {
+
+                        /**
+                         * The signature of a local file header.
+                         */
+                        private static final long LOCAL_FILE_HEADER = 0x04034b50L;
+
+                        /**
+                         * The signature of a central directory header.
+                         */
+                        private static final long CENTRAL_DIRECTORY_HEADER = 0x02014b50L;
+
+                        /**
+                         * The signature of the end of central directory record.
+                         */
+                        private static final long END_OF_CENTRAL_DIRECTORY = 0x06054b50L;
+
+                        /**
+                         * The signature of the ZIP64 end of central directory record.
+                         */
+                        private static final long ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50L;
+
+                        /**
+                         * The signature of the ZIP64 end of central directory locator.
+                         */
+                        private static final long ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR = 0x07064b50L;
+
+                        /**
+                         * The size of the end of central directory record without a comment.
+                         */
+                        private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+                        /**
+                         * The size of a local file header without name and extra field.
+                         */
+                        private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+                        /**
+                         * The value that indicates that a value is stored in the ZIP64 extra field.
+                         */
+                        private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+                        /**
+                         * The file to read from or {@code null} if no raw entries are available.
+                         */
+                        @MaybeNull
+                        private final RandomAccessFile file;
+
+                        /**
+                         * The raw entries by their name.
+                         */
+                        private final Map<String, Entry> entries;
+
+                        /**
+                         * Creates a new raw index.
+                         *
+                         * @param file    The file to read from or {@code null} if no raw entries are available.
+                         * @param entries The raw entries by their name.
+                         */
+                        protected RawIndex(@MaybeNull RandomAccessFile file, Map<String, Entry> entries) {
+                            this.file = file;
+                            this.entries = entries;
+                        }
+
+                        /**
+                         * Resolves a raw index for a jar file. If the index cannot be resolved, an empty index is returned.
+                         *
+                         * @param jarFile The jar file to resolve.
+                         * @return An index of the jar file's raw entries.
+                         */
+                        protected static RawIndex of(JarFile jarFile) {
+                            RandomAccessFile file;
+                            try {
+                                file = new RandomAccessFile(jarFile.getName(), "r");
+                            } catch (IOException ignored) {
+                                return new RawIndex(null, Collections.<String, Entry>emptyMap());
+                            }
+                            try {
+                                RawIndex rawIndex = new RawIndex(file, new HashMap<String, Entry>());
+                                rawIndex.read();
+                                return rawIndex;
+                            } catch (IOException ignored) {
+                                try {
+                                    file.close();
+                                } catch (IOException suppressed) {
+                                    /* do nothing */
+                                }
+                                return new RawIndex(null, Collections.<String, Entry>emptyMap());
+                            }
+                        }
+
+                        /**
+                         * Reads the central directory of this index's file.
+                         *
+                         * @throws IOException If an I/O error occurs.
+                         */
+                        private void read() throws IOException {
+                            if (file == null) {
+                                return;
+                            }
+                            long length = file.length();
+                            int tail = (int) Math.min(length, 0xFFFF + END_OF_CENTRAL_DIRECTORY_SIZE);
+                            byte[] buffer = new byte[tail];
+                            file.seek(length - tail);
+                            file.readFully(buffer);
+                            int index = tail - END_OF_CENTRAL_DIRECTORY_SIZE;
+                            while (index >= 0 && toInt(buffer, index) != END_OF_CENTRAL_DIRECTORY) {
+                                index--;
+                            }
+                            if (index < 0) {
+                                throw new ZipException("Cannot locate end of central directory");
+                            }
+                            long end = length - tail + index, count = toShort(buffer, index + 10), size = toInt(buffer, index + 12), start = toInt(buffer, index + 16);
+                            if (index >= 20 && toInt(buffer, index - 20) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR) {
+                                end = toLong(buffer, index - 12);
+                                byte[] record = new byte[56];
+                                file.seek(end);
+                                file.readFully(record);
+                                if (toInt(record, 0) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                                    throw new ZipException("Cannot locate ZIP64 end of central directory");
+                                }
+                                count = toLong(record, 32);
+                                size = toLong(record, 40);
+                                start = toLong(record, 48);
+                            }
+                            if (size > Integer.MAX_VALUE) {
+                                throw new ZipException("Central directory is too large: " + size);
+                            }
+                            long delta = end - size - start;
+                            byte[] directory = new byte[(int) size];
+                            file.seek(start + delta);
+                            file.readFully(directory);
+                            Set<String> duplicates = new HashSet<String>();
+                            int position = 0;
+                            for (long entry = 0; entry < count; entry++) {
+                                if (toInt(directory, position) != CENTRAL_DIRECTORY_HEADER) {
+                                    throw new ZipException("Invalid central directory header at " + position);
+                                }
+                                int flags = toShort(directory, position + 8), method = toShort(directory, position + 10);
+                                long time = toInt(directory, position + 12), crc = toInt(directory, position + 16);
+                                long compressedSize = toInt(directory, position + 20), uncompressedSize = toInt(directory, position + 24);
+                                int nameLength = toShort(directory, position + 28), extraLength = toShort(directory, position + 30), commentLength = toShort(directory, position + 32);
+                                long offset = toInt(directory, position + 42);
+                                String name = new String(directory, position + 46, nameLength, "UTF-8");
+                                int extra = position + 46 + nameLength;
+                                while (extra + 4 <= position + 46 + nameLength + extraLength) {
+                                    int identifier = toShort(directory, extra), dataSize = toShort(directory, extra + 2);
+                                    if (identifier == 0x0001) {
+                                        int cursor = extra + 4;
+                                        if (uncompressedSize == ZIP64_MARKER) {
+                                            uncompressedSize = toLong(directory, cursor);
+                                            cursor += 8;
+                                        }
+                                        if (compressedSize == ZIP64_MARKER) {
+                                            compressedSize = toLong(directory, cursor);
+                                            cursor += 8;
+                                        }
+                                        if (offset == ZIP64_MARKER) {
+                                            offset = toLong(directory, cursor);
+                                        }
+                                    }
+                                    extra += 4 + dataSize;
+                                }
+                                if (!duplicates.contains(name)) {
+                                    if (entries.remove(name) != null) {
+                                        duplicates.add(name);
+                                    } else if ((flags & 1) == 0 && (method == ZipEntry.STORED || method == ZipEntry.DEFLATED)) {
+                                        entries.put(name, new Entry(this, method, time, crc, uncompressedSize, compressedSize, offset + delta));
+                                    }
+                                }
+                                position += 46 + nameLength + extraLength + commentLength;
+                            }
+                        }
+
+                        /**
+                         * Reads an unsigned short in little-endian byte order.
+                         *
+                         * @param buffer The buffer to read from.
+                         * @param index  The index to read from.
+                         * @return The read value.
+                         */
+                        private static int toShort(byte[] buffer, int index) {
+                            return (buffer[index] & 0xFF) | (buffer[index + 1] & 0xFF) << 8;
+                        }
+
+                        /**
+                         * Reads an unsigned integer in little-endian byte order.
+                         *
+                         * @param buffer The buffer to read from.
+                         * @param index  The index to read from.
+                         * @return The read value.
+                         */
+                        private static long toInt(byte[] buffer, int index) {
+                            return toShort(buffer, index) | (long) toShort(buffer, index + 2) << 16;
+                        }
+
+                        /**
+                         * Reads a long in little-endian byte order.
+                         *
+                         * @param buffer The buffer to read from.
+                         * @param index  The index to read from.
+                         * @return The read value.
+                         */
+                        private static long toLong(byte[] buffer, int index) {
+                            return toInt(buffer, index) | toInt(buffer, index + 4) << 32;
+                        }
+
+                        /**
+                         * Resolves a raw entry for a jar file entry if the entry is consistent with the index.
+                         *
+                         * @param entry The jar file entry.
+                         * @return The raw entry or {@code null} if no consistent raw entry is available.
+                         */
+                        @MaybeNull
+                        protected Element.RawEntry resolve(JarEntry entry) {
+                            Entry rawEntry = entries.get(entry.getName());
+                            return rawEntry == null
+                                    || entry.getCrc() != -1L && entry.getCrc() != rawEntry.crc
+                                    || entry.getSize() != -1L && entry.getSize() != rawEntry.size
+                                    ? null
+                                    : rawEntry;
+                        }
+
+                        /**
+                         * Copies the compressed binary information of an entry.
+                         *
+                         * @param offset       The offset of the entry's local file header.
+                         * @param length       The length of the entry's compressed binary information.
+                         * @param outputStream The output stream to write to.
+                         * @throws IOException If an I/O error occurs.
+                         */
+                        protected synchronized void copy(long offset, long length, OutputStream outputStream) throws IOException {
+                            if (file == null) {
+                                throw new IllegalStateException("Raw index is not available");
+                            }
+                            byte[] buffer = new byte[8192];
+                            file.seek(offset);
+                            file.readFully(buffer, 0, LOCAL_FILE_HEADER_SIZE);
+                            if (toInt(buffer, 0) != LOCAL_FILE_HEADER) {
+                                throw new ZipException("Invalid local file header at " + offset);
+                            }
+                            file.seek(offset + LOCAL_FILE_HEADER_SIZE + toShort(buffer, 26) + toShort(buffer, 28));
+                            while (length > 0) {
+                                int read = file.read(buffer, 0, (int) Math.min(buffer.length, length));
+                                if (read == -1) {
+                                    throw new EOFException("Unexpected end of file at " + file.getFilePointer());
+                                }
+                                outputStream.write(buffer, 0, read);
+                                length -= read;
+                            }
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public void close() throws IOException {
+                            if (file != null) {
+                                file.close();
+                            }
+                        }
+
+                        /**
+                         * A raw entry of a jar file.
+                         */
+                        protected static class Entry implements Element.RawEntry {
+
+                            /**
+                             * The index that contains this entry.
+                             */
+                            private final RawIndex rawIndex;
+
+                            /**
+                             * The compression method of this entry.
+                             */
+                            private final int method;
+
+                            /**
+                             * The modification time of this entry in MS-DOS format.
+                             */
+                            private final long time;
+
+                            /**
+                             * The CRC-32 checksum of this entry's uncompressed binary information.
+                             */
+                            private final long crc;
+
+                            /**
+                             * The size of this entry's uncompressed binary information.
+                             */
+                            private final long size;
+
+                            /**
+                             * The size of this entry's compressed binary information.
+                             */
+                            private final long compressedSize;
+
+                            /**
+                             * The offset of this entry's local file header.
+                             */
+                            private final long offset;
+
+                            /**
+                             * Creates a new raw entry.
+                             *
+                             * @param rawIndex       The index that contains this entry.
+                             * @param method         The compression method of this entry.
+                             * @param time           The modification time of this entry in MS-DOS format.
+                             * @param crc            The CRC-32 checksum of this entry's uncompressed binary information.
+                             * @param size           The size of this entry's uncompressed binary information.
+                             * @param compressedSize The size of this entry's compressed binary information.
+                             * @param offset         The offset of this entry's local file header.
+                             */
+                            protected Entry(RawIndex rawIndex, int method, long time, long crc, long size, long compressedSize, long offset) {
+                                this.rawIndex = rawIndex;
+                                this.method = method;
+                                this.time = time;
+                                this.crc = crc;
+                                this.size = size;
+                                this.compressedSize = compressedSize;
+                                this.offset = offset;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public int getMethod() {
+                                return method;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public long getTime() {
+                                return time;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public long getCrc() {
+                                return crc;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public long getSize() {
+                                return size;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public long getCompressedSize() {
+                                return compressedSize;
+                            }
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            public void copyTo(OutputStream outputStream) throws IOException {
+                                rawIndex.copy(offset, compressedSize, outputStream);
+                            }
+                        }
+                    }
                 }
 
                 /**
@@ -2546,6 +2947,91 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                 @MaybeNull
                 <T> T resolveAs(Class<T> type);
 
+                /**
+                 * A raw representation of an element's compressed binary information within an archive. A raw entry allows
+                 * to copy an element into another archive without inflating and deflating its binary information.
+                 */
+                interface RawEntry {
+
+                    /**
+                     * Returns the compression method of this entry, either {@link java.util.zip.ZipEntry#STORED} or
+                     * {@link java.util.zip.ZipEntry#DEFLATED}.
+                     *
+                     * @return The compression method of this entry.
+                     */
+                    int getMethod();
+
+                    /**
+                     * Returns the modification time of this entry in MS-DOS format.
+                     *
+                     * @return The modification time of this entry in MS-DOS format.
+                     */
+                    long getTime();
+
+                    /**
+                     * Returns the CRC-32 checksum of this entry's uncompressed binary information.
+                     *
+                     * @return The CRC-32 checksum of this entry's uncompressed binary information.
+                     */
+                    long getCrc();
+
+                    /**
+                     * Returns the size of this entry's uncompressed binary information.
+                     *
+                     * @return The size of this entry's uncompressed binary information.
+                     */
+                    long getSize();
+
+                    /**
+                     * Returns the size of this entry's compressed binary information.
+                     *
+                     * @return The size of this entry's compressed binary information.
+                     */
+                    long getCompressedSize();
+
+                    /**
+                     * Copies this entry's compressed binary information to the supplied output stream.
+                     *
+                     * @param outputStream The output stream to write to.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    void copyTo(OutputStream outputStream) throws IOException;
+
+                    /**
+                     * A resolver for raw entries of jar file entries.
+                     */
+                    interface Resolver {
+
+                        /**
+                         * Resolves a raw entry for a jar file entry.
+                         *
+                         * @param entry The jar file entry to resolve.
+                         * @return The raw entry or {@code null} if the entry cannot be resolved in its raw form.
+                         */
+                        @MaybeNull
+                        RawEntry resolve(JarEntry entry);
+
+                        /**
+                         * A resolver that does not resolve any raw entries.
+                         */
+                        enum NoOp implements Resolver {
+
+                            /**
+                             * The singleton instance.
+                             */
+                            INSTANCE;
+
+                            /**
+                             * {@inheritDoc}
+                             */
+                            @MaybeNull
+                            public RawEntry resolve(JarEntry entry) {
+                                return null;
+                            }
+                        }
+                    }
+                }
+
                 /**
                  * An element representation for a byte array.
                  */
@@ -2666,6 +3152,11 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                      */
                     private final JarEntry entry;
 
+                    /**
+                     * The resolver to use for resolving the entry in its raw form.
+                     */
+                    private final RawEntry.Resolver resolver;
+
                     /**
                      * Creates a new element representation for a jar file entry.
                      *
@@ -2673,8 +3164,20 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                      * @param entry The entry that is represented by this element.
                      */
                     public ForJarEntry(JarFile file, JarEntry entry) {
+                        this(file, entry, RawEntry.Resolver.NoOp.INSTANCE);
+                    }
+
+                    /**
+                     * Creates a new element representation for a jar file entry.
+                     *
+                     * @param file     The source's underlying jar file.
+                     * @param entry    The entry that is represented by this element.
+                     * @param resolver The resolver to use for resolving the entry in its raw form.
+                     */
+                    public ForJarEntry(JarFile file, JarEntry entry, RawEntry.Resolver resolver) {
                         this.file = file;
                         this.entry = entry;
+                        this.resolver = resolver;
                     }
 
                     /**
@@ -2697,9 +3200,13 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                     @MaybeNull
                     @SuppressWarnings("unchecked")
                     public <T> T resolveAs(Class<T> type) {
-                        return JarEntry.class.isAssignableFrom(type)
-                                ? (T) entry
-                                : null;
+                        if (JarEntry.class.isAssignableFrom(type)) {
+                            return (T) entry;
+                        } else if (type == RawEntry.class) {
+                            return (T) resolver.resolve(entry);
+                        } else {
+                            return null;
+                        }
                     }
                 }
             }
@@ -3525,64 +4032,890 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                         outputStream.close();
                     }
                 }
-            }
-
-            /**
-             * A sink that discards any entry.
-             */
-            enum Discarding implements Target, Sink {
 
                 /**
-                 * The singleton instance.
+                 * A sink for a jar file that compresses entries in parallel. Entries are compressed by the threads of an executor
+                 * service, or by the calling thread if no threads are requested, while the archive is assembled sequentially in the
+                 * order in which entries are stored or retained. If an entry is retained from a jar file where it was stored without
+                 * compression, it is also stored without compression in the written jar file. If a retained entry exposes its raw
+                 * compressed data, this data is copied without inflating and deflating it. The extra field and the comment of a
+                 * retained jar file entry are carried over, except for ZIP64 information which is written as required.
                  */
-                INSTANCE;
+                class ForParallelCompression implements Sink {
 
-                /**
-                 * {@inheritDoc}
-                 */
-                public Sink write(@MaybeNull Manifest manifest) {
-                    return this;
-                }
+                    /**
+                     * The file name extensions of formats that are already compressed.
+                     */
+                    private static final Set<String> COMPRESSED_FORMATS = new HashSet<String>(Arrays.asList("jar",
+                            "zip",
+                            "war",
+                            "ear",
+                            "jmod",
+                            "gz",
+                            "tgz",
+                            "bz2",
+                            "xz",
+                            "7z",
+                            "png",
+                            "jpg",
+                            "jpeg",
+                            "gif",
+                            "webp",
+                            "woff",
+                            "woff2"));
 
-                /**
-                 * {@inheritDoc}
-                 */
-                public void store(Map<TypeDescription, byte[]> binaryRepresentations) {
-                    /* do nothing */
-                }
+                    /**
+                     * The signature of a local file header.
+                     */
+                    private static final int LOCAL_FILE_HEADER = 0x04034b50;
 
-                /**
-                 * {@inheritDoc}
-                 */
-                public void store(ClassFileVersion classFileVersion, Map<TypeDescription, byte[]> binaryRepresentations) throws IOException {
-                    /* do nothing */
-                }
+                    /**
+                     * The signature of a central directory header.
+                     */
+                    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
 
-                /**
-                 * {@inheritDoc}
-                 */
-                public void retain(Source.Element element) {
-                    /* do nothing */
-                }
+                    /**
+                     * The signature of the end of central directory record.
+                     */
+                    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
 
-                /**
-                 * {@inheritDoc}
-                 */
-                public void close() {
-                    /* do nothing */
-                }
-            }
+                    /**
+                     * The signature of the ZIP64 end of central directory record.
+                     */
+                    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
 
-            /**
-             * A sink that stores all elements in a memory map.
-             */
-            @HashCodeAndEqualsPlugin.Enhance
-            class InMemory implements Target, Sink {
+                    /**
+                     * The signature of the ZIP64 end of central directory locator.
+                     */
+                    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR = 0x07064b50;
 
-                /**
-                 * The map for storing all elements being received.
-                 */
-                @HashCodeAndEqualsPlugin.Identity
+                    /**
+                     * The general purpose flag that indicates UTF-8 encoded names.
+                     */
+                    private static final int UTF_8_FLAG = 0x0800;
+
+                    /**
+                     * The header id of the ZIP64 extended information extra field.
+                     */
+                    private static final int ZIP64_EXTRA_FIELD = 0x0001;
+
+                    /**
+                     * The version of the ZIP specification that is required for extracting ZIP64 records.
+                     */
+                    private static final int ZIP64_VERSION = 45;
+
+                    /**
+                     * The largest value that can be represented by an unsigned short.
+                     */
+                    private static final int MAXIMUM_SHORT = 0xFFFF;
+
+                    /**
+                     * The largest value that can be represented by an unsigned integer.
+                     */
+                    private static final long MAXIMUM_INTEGER = 0xFFFFFFFFL;
+
+                    /**
+                     * The output stream to write to.
+                     */
+                    private final OutputStream outputStream;
+
+                    /**
+                     * The executor service to use for compressing entries or {@code null} if entries are compressed by the calling thread.
+                     */
+                    @MaybeNull
+                    private final ExecutorService executorService;
+
+                    /**
+                     * {@code true} if entries of already compressed formats should be stored without compression.
+                     */
+                    private final boolean storeCompressedFormats;
+
+                    /**
+                     * The maximum number of entries that are compressed but not yet written.
+                     */
+                    private final int capacity;
+
+                    /**
+                     * The entries that are currently being compressed in their order.
+                     */
+                    private final Queue<Future<Entry>> pending;
+
+                    /**
+                     * The names of all entries that were added to this sink.
+                     */
+                    private final Set<String> names;
+
+                    /**
+                     * All entries that were written.
+                     */
+                    private final List<Entry> entries;
+
+                    /**
+                     * The number of bytes that were written.
+                     */
+                    private long offset;
+
+                    /**
+                     * Creates a new sink for parallel compression.
+                     *
+                     * @param outputStream           The output stream to write to.
+                     * @param threads                The number of threads to use for compressing entries or {@code 0} if entries should be
+                     *                               compressed by the calling thread.
+                     * @param storeCompressedFormats {@code true} if entries of already compressed formats should be stored without compression.
+                     */
+                    public ForParallelCompression(OutputStream outputStream, int threads, boolean storeCompressedFormats) {
+                        if (threads < 0) {
+                            throw new IllegalArgumentException("Number of threads must not be negative: " + threads);
+                        }
+                        this.outputStream = new BufferedOutputStream(outputStream);
+                        this.storeCompressedFormats = storeCompressedFormats;
+                        executorService = threads == 0
+                                ? null
+                                : Executors.newFixedThreadPool(threads);
+                        capacity = Math.max(1, threads * 4);
+                        pending = new LinkedList<Future<Entry>>();
+                        names = new HashSet<String>();
+                        entries = new ArrayList<Entry>();
+                    }
+
+                    /**
+                     * Creates a sink for parallel compression that writes to a file.
+                     *
+                     * @param file                   The file to write to.
+                     * @param threads                The number of threads to use for compressing entries or {@code 0} if entries should be
+                     *                               compressed by the calling thread.
+                     * @param storeCompressedFormats {@code true} if entries of already compressed formats should be stored without compression.
+                     * @param manifest               The manifest to write as the first entry or {@code null} if no manifest should be written.
+                     * @return A sink for parallel compression that writes to the supplied file.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    public static ForParallelCompression of(File file, int threads, boolean storeCompressedFormats, @MaybeNull Manifest manifest) throws IOException {
+                        ForParallelCompression sink = new ForParallelCompression(new FileOutputStream(file), threads, storeCompressedFormats);
+                        if (manifest != null) {
+                            try {
+                                sink.store(manifest);
+                            } catch (RuntimeException exception) {
+                                sink.close();
+                                throw exception;
+                            } catch (IOException exception) {
+                                sink.close();
+                                throw exception;
+                            } catch (Error error) {
+                                sink.close();
+                                throw error;
+                            }
+                        }
+                        return sink;
+                    }
+
+                    /**
+                     * Writes a manifest as the first entry of this sink.
+                     *
+                     * @param manifest The manifest to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    public void store(Manifest manifest) throws IOException {
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                        manifest.write(outputStream);
+                        add(JarFile.MANIFEST_NAME, -1L, outputStream.toByteArray(), true);
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void store(Map<TypeDescription, byte[]> binaryRepresentations) throws IOException {
+                        for (Map.Entry<TypeDescription, byte[]> entry : binaryRepresentations.entrySet()) {
+                            add(entry.getKey().getInternalName() + ClassFileLocator.CLASS_FILE_EXTENSION, -1L, entry.getValue(), true);
+                        }
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void store(ClassFileVersion classFileVersion, Map<TypeDescription, byte[]> binaryRepresentations) throws IOException {
+                        for (Map.Entry<TypeDescription, byte[]> entry : binaryRepresentations.entrySet()) {
+                            add(ClassFileLocator.META_INF_VERSIONS
+                                    + classFileVersion.getJavaVersion()
+                                    + "/"
+                                    + entry.getKey().getInternalName()
+                                    + ClassFileLocator.CLASS_FILE_EXTENSION, -1L, entry.getValue(), true);
+                        }
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void retain(Source.Element element) throws IOException {
+                        String name = element.getName();
+                        JarEntry entry = element.resolveAs(JarEntry.class);
+                        byte[] extra = entry == null
+                                ? new byte[0]
+                                : toExtra(entry.getExtra());
+                        byte[] comment = entry == null || entry.getComment() == null
+                                ? new byte[0]
+                                : entry.getComment().getBytes("UTF-8");
+                        if (comment.length > MAXIMUM_SHORT) {
+                            comment = new byte[0];
+                        }
+                        Source.Element.RawEntry rawEntry = element.resolveAs(Source.Element.RawEntry.class);
+                        if (rawEntry != null && !name.endsWith("/")) {
+                            FutureTask<Entry> future = new FutureTask<Entry>(new PassThrough(name, rawEntry, extra, comment));
+                            future.run();
+                            enqueue(name, future);
+                            return;
+                        }
+                        byte[] binaryRepresentation;
+                        if (entry == null && name.endsWith("/")) {
+                            binaryRepresentation = new byte[0];
+                        } else {
+                            InputStream inputStream = element.getInputStream();
+                            try {
+                                binaryRepresentation = StreamDrainer.DEFAULT.drain(inputStream);
+                            } finally {
+                                inputStream.close();
+                            }
+                        }
+                        add(name,
+                                entry == null ? -1L : entry.getTime(),
+                                binaryRepresentation,
+                                !name.endsWith("/") && (entry == null || entry.getMethod() != ZipEntry.STORED) && !(storeCompressedFormats && isCompressedFormat(name)),
+                                extra,
+                                comment);
+                    }
+
+                    /**
+                     * Resolves the extra field of a retained entry without any ZIP64 extended information, as this information is
+                     * written if required. If the extra field is malformed or too large to be extended, it is discarded.
+                     *
+                     * @param extra The extra field of the retained entry or {@code null} if the entry does not define an extra field.
+                     * @return The extra field to write for the retained entry.
+                     */
+                    private static byte[] toExtra(@MaybeNull byte[] extra) {
+                        if (extra == null) {
+                            return new byte[0];
+                        }
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(extra.length);
+                        int index = 0;
+                        while (index + 4 <= extra.length) {
+                            int id = (extra[index] & 0xFF) | (extra[index + 1] & 0xFF) << 8;
+                            int length = (extra[index + 2] & 0xFF) | (extra[index + 3] & 0xFF) << 8;
+                            if (index + 4 + length > extra.length) {
+                                return new byte[0];
+                            } else if (id != ZIP64_EXTRA_FIELD) {
+                                outputStream.write(extra, index, 4 + length);
+                            }
+                            index += 4 + length;
+                        }
+                        return index == extra.length && outputStream.size() <= MAXIMUM_SHORT - 28
+                                ? outputStream.toByteArray()
+                                : new byte[0];
+                    }
+
+                    /**
+                     * Returns {@code true} if the supplied entry name represents a format that is already compressed.
+                     *
+                     * @param name The name of the entry.
+                     * @return {@code true} if the supplied entry name represents a format that is already compressed.
+                     */
+                    private static boolean isCompressedFormat(String name) {
+                        int index = name.lastIndexOf('.');
+                        return index != -1
+                                && name.indexOf('/', index) == -1
+                                && COMPRESSED_FORMATS.contains(name.substring(index + 1).toLowerCase(Locale.US));
+                    }
+
+                    /**
+                     * Adds an entry to this sink.
+                     *
+                     * @param name                 The name of the entry.
+                     * @param time                 The modification time of the entry or {@code -1} if the current time should be used.
+                     * @param binaryRepresentation The binary representation of the entry.
+                     * @param compress             {@code true} if the entry should be compressed.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    protected void add(String name, long time, byte[] binaryRepresentation, boolean compress) throws IOException {
+                        add(name, time, binaryRepresentation, compress, new byte[0], new byte[0]);
+                    }
+
+                    /**
+                     * Adds an entry to this sink.
+                     *
+                     * @param name                 The name of the entry.
+                     * @param time                 The modification time of the entry or {@code -1} if the current time should be used.
+                     * @param binaryRepresentation The binary representation of the entry.
+                     * @param compress             {@code true} if the entry should be compressed.
+                     * @param extra                The extra field of the entry.
+                     * @param comment              The UTF-8 encoded comment of the entry.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    protected void add(String name, long time, byte[] binaryRepresentation, boolean compress, byte[] extra, byte[] comment) throws IOException {
+                        Compression compression = new Compression(name,
+                                time == -1L ? System.currentTimeMillis() : time,
+                                binaryRepresentation,
+                                compress,
+                                extra,
+                                comment);
+                        if (executorService == null) {
+                            FutureTask<Entry> future = new FutureTask<Entry>(compression);
+                            future.run();
+                            enqueue(name, future);
+                        } else {
+                            enqueue(name, executorService.submit(compression));
+                        }
+                    }
+
+                    /**
+                     * Enqueues an entry to be written once all previously added entries are written.
+                     *
+                     * @param name   The name of the entry.
+                     * @param future The future representing the entry.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void enqueue(String name, Future<Entry> future) throws IOException {
+                        if (!names.add(name)) {
+                            throw new ZipException("duplicate entry: " + name);
+                        }
+                        pending.add(future);
+                        while (!pending.isEmpty() && (pending.size() > capacity || pending.peek().isDone())) {
+                            write(resolve(pending.remove()));
+                        }
+                    }
+
+                    /**
+                     * Resolves the entry of a compression.
+                     *
+                     * @param future The future representing the compression.
+                     * @return The compressed entry.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private static Entry resolve(Future<Entry> future) throws IOException {
+                        try {
+                            return future.get();
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(exception);
+                        } catch (ExecutionException exception) {
+                            Throwable cause = exception.getCause();
+                            if (cause instanceof IOException) {
+                                throw (IOException) cause;
+                            } else if (cause instanceof RuntimeException) {
+                                throw (RuntimeException) cause;
+                            } else if (cause instanceof Error) {
+                                throw (Error) cause;
+                            } else {
+                                throw new IllegalStateException(cause);
+                            }
+                        }
+                    }
+
+                    /**
+                     * Writes an entry's local file header and data.
+                     *
+                     * @param entry The entry to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void write(Entry entry) throws IOException {
+                        entry.offset = offset;
+                        boolean zip64 = entry.size >= MAXIMUM_INTEGER || entry.compressedSize >= MAXIMUM_INTEGER;
+                        writeInt(LOCAL_FILE_HEADER);
+                        writeShort(zip64 ? ZIP64_VERSION : entry.getVersion());
+                        writeShort(UTF_8_FLAG);
+                        writeShort(entry.method);
+                        writeInt(entry.time);
+                        writeInt(entry.crc);
+                        writeInt(zip64 ? MAXIMUM_INTEGER : entry.compressedSize);
+                        writeInt(zip64 ? MAXIMUM_INTEGER : entry.size);
+                        writeShort(entry.name.length);
+                        writeShort((zip64 ? 20 : 0) + entry.extra.length);
+                        writeBytes(entry.name);
+                        if (zip64) {
+                            writeShort(ZIP64_EXTRA_FIELD);
+                            writeShort(16);
+                            writeLong(entry.size);
+                            writeLong(entry.compressedSize);
+                        }
+                        writeBytes(entry.extra);
+                        if (entry.rawEntry == null) {
+                            writeBytes(entry.binaryRepresentation);
+                        } else {
+                            entry.rawEntry.copyTo(outputStream);
+                            offset += entry.compressedSize;
+                        }
+                        entries.add(entry.release());
+                    }
+
+                    /**
+                     * Writes a short in little-endian byte order.
+                     *
+                     * @param value The value to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void writeShort(int value) throws IOException {
+                        outputStream.write(value & 0xFF);
+                        outputStream.write((value >>> 8) & 0xFF);
+                        offset += 2;
+                    }
+
+                    /**
+                     * Writes an integer in little-endian byte order.
+                     *
+                     * @param value The value to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void writeInt(long value) throws IOException {
+                        writeShort((int) (value & MAXIMUM_SHORT));
+                        writeShort((int) ((value >>> 16) & MAXIMUM_SHORT));
+                    }
+
+                    /**
+                     * Writes a long in little-endian byte order.
+                     *
+                     * @param value The value to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void writeLong(long value) throws IOException {
+                        writeInt(value & MAXIMUM_INTEGER);
+                        writeInt((value >>> 32) & MAXIMUM_INTEGER);
+                    }
+
+                    /**
+                     * Writes an array of bytes.
+                     *
+                     * @param value The value to write.
+                     * @throws IOException If an I/O error occurs.
+                     */
+                    private void writeBytes(byte[] value) throws IOException {
+                        outputStream.write(value);
+                        offset += value.length;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public void close() throws IOException {
+                        try {
+                            while (!pending.isEmpty()) {
+                                write(resolve(pending.remove()));
+                            }
+                            long start = offset;
+                            for (Entry entry : entries) {
+                                int extra = (entry.size >= MAXIMUM_INTEGER ? 8 : 0)
+                                        + (entry.compressedSize >= MAXIMUM_INTEGER ? 8 : 0)
+                                        + (entry.offset >= MAXIMUM_INTEGER ? 8 : 0);
+                                writeInt(CENTRAL_DIRECTORY_HEADER);
+                                writeShort(extra == 0 ? entry.getVersion() : ZIP64_VERSION);
+                                writeShort(extra == 0 ? entry.getVersion() : ZIP64_VERSION);
+                                writeShort(UTF_8_FLAG);
+                                writeShort(entry.method);
+                                writeInt(entry.time);
+                                writeInt(entry.crc);
+                                writeInt(Math.min(entry.compressedSize, MAXIMUM_INTEGER));
+                                writeInt(Math.min(entry.size, MAXIMUM_INTEGER));
+                                writeShort(entry.name.length);
+                                writeShort((extra == 0 ? 0 : extra + 4) + entry.extra.length);
+                                writeShort(entry.comment.length);
+                                writeShort(0);
+                                writeShort(0);
+                                writeInt(0);
+                                writeInt(Math.min(entry.offset, MAXIMUM_INTEGER));
+                                writeBytes(entry.name);
+                                if (extra != 0) {
+                                    writeShort(ZIP64_EXTRA_FIELD);
+                                    writeShort(extra);
+                                    if (entry.size >= MAXIMUM_INTEGER) {
+                                        writeLong(entry.size);
+                                    }
+                                    if (entry.compressedSize >= MAXIMUM_INTEGER) {
+                                        writeLong(entry.compressedSize);
+                                    }
+                                    if (entry.offset >= MAXIMUM_INTEGER) {
+                                        writeLong(entry.offset);
+                                    }
+                                }
+                                writeBytes(entry.extra);
+                                writeBytes(entry.comment);
+                            }
+                            long end = offset;
+                            if (entries.size() >= MAXIMUM_SHORT || start >= MAXIMUM_INTEGER || end - start >= MAXIMUM_INTEGER) {
+                                writeInt(ZIP64_END_OF_CENTRAL_DIRECTORY);
+                                writeLong(44);
+                                writeShort(ZIP64_VERSION);
+                                writeShort(ZIP64_VERSION);
+                                writeInt(0);
+                                writeInt(0);
+                                writeLong(entries.size());
+                                writeLong(entries.size());
+                                writeLong(end - start);
+                                writeLong(start);
+                                writeInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR);
+                                writeInt(0);
+                                writeLong(end);
+                                writeInt(1);
+                            }
+                            writeInt(END_OF_CENTRAL_DIRECTORY);
+                            writeShort(0);
+                            writeShort(0);
+                            writeShort(Math.min(entries.size(), MAXIMUM_SHORT));
+                            writeShort(Math.min(entries.size(), MAXIMUM_SHORT));
+                            writeInt(Math.min(end - start, MAXIMUM_INTEGER));
+                            writeInt(Math.min(start, MAXIMUM_INTEGER));
+                            writeShort(0);
+                        } finally {
+                            if (executorService != null) {
+                                executorService.shutdownNow();
+                            }
+                            outputStream.close();
+                        }
+                    }
+
+                    /**
+                     * An entry of a jar file that is compressed in parallel.
+                     */
+                    protected static class Entry {
+
+                        /**
+                         * The UTF-8 encoded name of the entry.
+                         */
+                        private final byte[] name;
+
+                        /**
+                         * The compression method of the entry.
+                         */
+                        private final int method;
+
+                        /**
+                         * The modification time of the entry in MS-DOS format.
+                         */
+                        private final long time;
+
+                        /**
+                         * The CRC-32 checksum of the uncompressed entry.
+                         */
+                        private final long crc;
+
+                        /**
+                         * The size of the uncompressed entry.
+                         */
+                        private final long size;
+
+                        /**
+                         * The size of the compressed entry.
+                         */
+                        private final long compressedSize;
+
+                        /**
+                         * The extra field of the entry without any ZIP64 extended information.
+                         */
+                        private final byte[] extra;
+
+                        /**
+                         * The UTF-8 encoded comment of the entry.
+                         */
+                        private final byte[] comment;
+
+                        /**
+                         * The binary representation of the entry as it is written or {@code null} if the entry was written
+                         * or if the entry is copied from a raw entry.
+                         */
+                        @UnknownNull
+                        private byte[] binaryRepresentation;
+
+                        /**
+                         * The raw entry to copy the binary representation from or {@code null} if the binary representation is
+                         * supplied explicitly or if the entry was written.
+                         */
+                        @MaybeNull
+                        private Source.Element.RawEntry rawEntry;
+
+                        /**
+                         * The offset of the entry's local file header.
+                         */
+                        private long offset;
+
+                        /**
+                         * Creates a new entry.
+                         *
+                         * @param name                 The UTF-8 encoded name of the entry.
+                         * @param method               The compression method of the entry.
+                         * @param time                 The modification time of the entry in MS-DOS format.
+                         * @param crc                  The CRC-32 checksum of the uncompressed entry.
+                         * @param size                 The size of the uncompressed entry.
+                         * @param extra                The extra field of the entry without any ZIP64 extended information.
+                         * @param comment              The UTF-8 encoded comment of the entry.
+                         * @param binaryRepresentation The binary representation of the entry as it is written.
+                         */
+                        protected Entry(byte[] name, int method, long time, long crc, int size, byte[] extra, byte[] comment, byte[] binaryRepresentation) {
+                            this.name = name;
+                            this.method = method;
+                            this.time = time;
+                            this.crc = crc;
+                            this.size = size;
+                            this.extra = extra;
+                            this.comment = comment;
+                            this.binaryRepresentation = binaryRepresentation;
+                            compressedSize = binaryRepresentation.length;
+                        }
+
+                        /**
+                         * Creates a new entry that copies its binary representation from a raw entry without inflating it.
+                         *
+                         * @param name     The UTF-8 encoded name of the entry.
+                         * @param extra    The extra field of the entry without any ZIP64 extended information.
+                         * @param comment  The UTF-8 encoded comment of the entry.
+                         * @param rawEntry The raw entry to copy the binary representation from.
+                         */
+                        protected Entry(byte[] name, byte[] extra, byte[] comment, Source.Element.RawEntry rawEntry) {
+                            this.name = name;
+                            this.extra = extra;
+                            this.comment = comment;
+                            this.rawEntry = rawEntry;
+                            method = rawEntry.getMethod();
+                            time = rawEntry.getTime();
+                            crc = rawEntry.getCrc();
+                            size = rawEntry.getSize();
+                            compressedSize = rawEntry.getCompressedSize();
+                        }
+
+                        /**
+                         * Returns the version of the ZIP specification that is required for extracting this entry.
+                         *
+                         * @return The version of the ZIP specification that is required for extracting this entry.
+                         */
+                        protected int getVersion() {
+                            return method == ZipEntry.STORED ? 10 : 20;
+                        }
+
+                        /**
+                         * Releases the binary representation of this entry after it was written.
+                         *
+                         * @return This entry.
+                         */
+                        protected Entry release() {
+                            binaryRepresentation = null;
+                            rawEntry = null;
+                            return this;
+                        }
+                    }
+
+                    /**
+                     * A pass-through of a raw entry that is copied without inflating and deflating its binary representation.
+                     */
+                    protected static class PassThrough implements Callable<Entry> {
+
+                        /**
+                         * The name of the entry.
+                         */
+                        private final String name;
+
+                        /**
+                         * The raw entry to copy.
+                         */
+                        private final Source.Element.RawEntry rawEntry;
+
+                        /**
+                         * The extra field of the entry without any ZIP64 extended information.
+                         */
+                        private final byte[] extra;
+
+                        /**
+                         * The UTF-8 encoded comment of the entry.
+                         */
+                        private final byte[] comment;
+
+                        /**
+                         * Creates a new pass-through.
+                         *
+                         * @param name     The name of the entry.
+                         * @param rawEntry The raw entry to copy.
+                         * @param extra    The extra field of the entry without any ZIP64 extended information.
+                         * @param comment  The UTF-8 encoded comment of the entry.
+                         */
+                        protected PassThrough(String name, Source.Element.RawEntry rawEntry, byte[] extra, byte[] comment) {
+                            this.name = name;
+                            this.rawEntry = rawEntry;
+                            this.extra = extra;
+                            this.comment = comment;
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public Entry call() throws IOException {
+                            return new Entry(name.getBytes("UTF-8"), extra, comment, rawEntry);
+                        }
+                    }
+
+                    /**
+                     * A compression of an entry that is executed by a worker thread.
+                     */
+                    protected static class Compression implements Callable<Entry> {
+
+                        /**
+                         * The name of the entry.
+                         */
+                        private final String name;
+
+                        /**
+                         * The modification time of the entry.
+                         */
+                        private final long time;
+
+                        /**
+                         * The binary representation of the entry.
+                         */
+                        private final byte[] binaryRepresentation;
+
+                        /**
+                         * {@code true} if the entry should be compressed.
+                         */
+                        private final boolean compress;
+
+                        /**
+                         * The extra field of the entry without any ZIP64 extended information.
+                         */
+                        private final byte[] extra;
+
+                        /**
+                         * The UTF-8 encoded comment of the entry.
+                         */
+                        private final byte[] comment;
+
+                        /**
+                         * Creates a new compression.
+                         *
+                         * @param name                 The name of the entry.
+                         * @param time                 The modification time of the entry.
+                         * @param binaryRepresentation The binary representation of the entry.
+                         * @param compress             {@code true} if the entry should be compressed.
+                         * @param extra                The extra field of the entry without any ZIP64 extended information.
+                         * @param comment              The UTF-8 encoded comment of the entry.
+                         */
+                        protected Compression(String name, long time, byte[] binaryRepresentation, boolean compress, byte[] extra, byte[] comment) {
+                            this.name = name;
+                            this.time = time;
+                            this.binaryRepresentation = binaryRepresentation;
+                            this.compress = compress;
+                            this.extra = extra;
+                            this.comment = comment;
+                        }
+
+                        /**
+                         * Converts a time stamp to the MS-DOS format.
+                         *
+                         * @param time The time stamp to convert.
+                         * @return The time stamp in MS-DOS format.
+                         */
+                        private static long toDosTime(long time) {
+                            Calendar calendar = Calendar.getInstance();
+                            calendar.setTimeInMillis(time);
+                            int year = calendar.get(Calendar.YEAR);
+                            if (year < 1980) {
+                                return (1 << 21) | (1 << 16);
+                            }
+                            return ((long) (year - 1980) << 25)
+                                    | ((long) (calendar.get(Calendar.MONTH) + 1) << 21)
+                                    | ((long) calendar.get(Calendar.DAY_OF_MONTH) << 16)
+                                    | ((long) calendar.get(Calendar.HOUR_OF_DAY) << 11)
+                                    | ((long) calendar.get(Calendar.MINUTE) << 5)
+                                    | ((long) calendar.get(Calendar.SECOND) >> 1);
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        public Entry call() throws IOException {
+                            CRC32 crc = new CRC32();
+                            crc.update(binaryRepresentation);
+                            byte[] compressed;
+                            int method;
+                            if (compress) {
+                                Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+                                try {
+                                    deflater.setInput(binaryRepresentation);
+                                    deflater.finish();
+                                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, binaryRepresentation.length / 2));
+                                    byte[] buffer = new byte[8192];
+                                    while (!deflater.finished()) {
+                                        outputStream.write(buffer, 0, deflater.deflate(buffer));
+                                    }
+                                    compressed = outputStream.toByteArray();
+                                } finally {
+                                    deflater.end();
+                                }
+                                method = ZipEntry.DEFLATED;
+                            } else {
+                                compressed = binaryRepresentation;
+                                method = ZipEntry.STORED;
+                            }
+                            return new Entry(name.getBytes("UTF-8"),
+                                    method,
+                                    toDosTime(time),
+                                    crc.getValue(),
+                                    binaryRepresentation.length,
+                                    extra,
+                                    comment,
+                                    compressed);
+                        }
+                    }
+                }
+            }
+
+            /**
+             * A sink that discards any entry.
+             */
+            enum Discarding implements Target, Sink {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Sink write(@MaybeNull Manifest manifest) {
+                    return this;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void store(Map<TypeDescription, byte[]> binaryRepresentations) {
+                    /* do nothing */
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void store(ClassFileVersion classFileVersion, Map<TypeDescription, byte[]> binaryRepresentations) throws IOException {
+                    /* do nothing */
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void retain(Source.Element element) {
+                    /* do nothing */
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void close() {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * A sink that stores all elements in a memory map.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class InMemory implements Target, Sink {
+
+                /**
+                 * The map for storing all elements being received.
+                 */
+                @HashCodeAndEqualsPlugin.Identity
                 private final Map<String, byte[]> storage;
 
                 /**
@@ -3878,7 +5211,8 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
             }
 
             /**
-             * Represents a jar file as a target.
+             * Represents a jar file as a target. Entries are compressed by the calling thread and retained entries are copied
+             * without inflating and deflating them if their source exposes their raw compressed data.
              */
             @HashCodeAndEqualsPlugin.Enhance
             class ForJarFile implements Target {
@@ -3901,21 +5235,61 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
                  * {@inheritDoc}
                  */
                 public Sink write(@MaybeNull Manifest manifest) throws IOException {
-                    OutputStream outputStream = new FileOutputStream(file);
-                    try {
-                        return manifest == null
-                                ? new Sink.ForJarOutputStream(new JarOutputStream(outputStream))
-                                : new Sink.ForJarOutputStream(new JarOutputStream(outputStream, manifest));
-                    } catch (RuntimeException exception) {
-                        outputStream.close();
-                        throw exception;
-                    } catch (IOException exception) {
-                        outputStream.close();
-                        throw exception;
-                    } catch (Error error) {
-                        outputStream.close();
-                        throw error;
+                    return Sink.ForParallelCompression.of(file, 0, false, manifest);
+                }
+            }
+
+            /**
+             * Represents a jar file as a target where entries are compressed in parallel.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class ForParallelJarFile implements Target {
+
+                /**
+                 * The jar file that is represented by this target.
+                 */
+                private final File file;
+
+                /**
+                 * The number of threads to use for compressing entries.
+                 */
+                private final int threads;
+
+                /**
+                 * {@code true} if retained entries of already compressed formats should be stored without compression.
+                 */
+                private final boolean storeCompressedFormats;
+
+                /**
+                 * Creates a new target for a jar file where entries are compressed using one thread per available processor.
+                 *
+                 * @param file The jar file that is represented by this target.
+                 */
+                public ForParallelJarFile(File file) {
+                    this(file, Runtime.getRuntime().availableProcessors(), false);
+                }
+
+                /**
+                 * Creates a new target for a jar file where entries are compressed in parallel.
+                 *
+                 * @param file                   The jar file that is represented by this target.
+                 * @param threads                The number of threads to use for compressing entries.
+                 * @param storeCompressedFormats {@code true} if retained entries of already compressed formats should be stored without compression.
+                 */
+                public ForParallelJarFile(File file, int threads, boolean storeCompressedFormats) {
+                    if (threads < 1) {
+                        throw new IllegalArgumentException("Number of threads must be positive: " + threads);
                     }
+                    this.file = file;
+                    this.threads = threads;
+                    this.storeCompressedFormats = storeCompressedFormats;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Sink write(@MaybeNull Manifest manifest) throws IOException {
+                    return Sink.ForParallelCompression.of(file, threads, storeCompressedFormats, manifest);
                 }
             }
         }
@@ -5436,7 +6810,8 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
     }
 
     /**
-     * An abstract base for a {@link Plugin} that matches types by a given {@link ElementMatcher}.
+     * An abstract base for a {@link Plugin} that matches types by a given {@link ElementMatcher}. The matcher is
+     * normalized by the {@link ElementMatcherOptimizer}.
      */
     @HashCodeAndEqualsPlugin.Enhance
     abstract class ForElementMatcher implements Plugin {
@@ -5452,7 +6827,7 @@ public interface Plugin extends ElementMatcher<TypeDescription>, Closeable {
          * @param matcher The element matcher to apply.
          */
         protected ForElementMatcher(ElementMatcher<? super TypeDescription> matcher) {
-            this.matcher = matcher;
+            this.matcher = ElementMatcherOptimizer.optimize(matcher);
         }
 
         /**
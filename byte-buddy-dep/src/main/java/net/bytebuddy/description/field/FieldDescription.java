@@ -139,6 +139,7 @@ public interface FieldDescription extends ModifierReviewable.ForFieldDescription
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("descriptor")
         public String getDescriptor() {
             return getType().asErasure().getDescriptor();
         }
@@ -204,6 +205,7 @@ public interface FieldDescription extends ModifierReviewable.ForFieldDescription
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("signatureToken")
         public SignatureToken asSignatureToken() {
             return new SignatureToken(getInternalName(), getType().asErasure());
         }
@@ -53,7 +53,7 @@ public interface FieldList<T extends FieldDescription> extends FilterableList<T,
      *
      * @param <S> The type of field descriptions represented by this list.
      */
-    abstract class AbstractBase<S extends FieldDescription> extends FilterableList.AbstractBase<S, FieldList<S>> implements FieldList<S> {
+    abstract class AbstractBase<S extends FieldDescription> extends FilterableList.WithNameIndex<S, FieldList<S>> implements FieldList<S> {
 
         /**
          * {@inheritDoc}
@@ -94,16 +94,16 @@ public interface FieldList<T extends FieldDescription> extends FilterableList<T,
         private final List<? extends Field> fields;
 
         /**
-         * Creates a new immutable field list that represents an array of loaded field.
+         * Creates a new immutable field list that represents an array of loaded field. The supplied array is copied.
          *
          * @param field An array of fields to be represented by this field list.
          */
         public ForLoadedFields(Field... field) {
-            this(Arrays.asList(field));
+            this(Arrays.asList(field.clone()));
         }
 
         /**
-         * Creates a new immutable field list that represents an array of loaded field.
+         * Creates a new immutable field list that represents an array of loaded field. The supplied list must not be altered.
          *
          * @param fields An array of fields to be represented by this field list.
          */
@@ -124,6 +124,14 @@ public interface FieldList<T extends FieldDescription> extends FilterableList<T,
         public int size() {
             return fields.size();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isIndexable() {
+            return true;
+        }
     }
 
     /**
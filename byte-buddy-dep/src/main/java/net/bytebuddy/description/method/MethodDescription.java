@@ -527,6 +527,7 @@ public interface MethodDescription extends TypeVariableSource,
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("descriptor")
         public String getDescriptor() {
             StringBuilder descriptor = new StringBuilder().append('(');
             for (TypeDescription parameterType : getParameters().asTypeList().asErasures()) {
@@ -910,6 +911,7 @@ public interface MethodDescription extends TypeVariableSource,
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("signatureToken")
         public SignatureToken asSignatureToken() {
             return new SignatureToken(getInternalName(), getReturnType().asErasure(), getParameters().asTypeList().asErasures());
         }
@@ -917,6 +919,7 @@ public interface MethodDescription extends TypeVariableSource,
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("typeToken")
         public TypeToken asTypeToken() {
             return new TypeToken(getReturnType().asErasure(), getParameters().asTypeList().asErasures());
         }
@@ -1157,6 +1160,7 @@ public interface MethodDescription extends TypeVariableSource,
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("descriptor")
         public String getDescriptor() {
             return Type.getConstructorDescriptor(executable);
         }
@@ -1309,6 +1313,7 @@ public interface MethodDescription extends TypeVariableSource,
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("descriptor")
         public String getDescriptor() {
             return Type.getMethodDescriptor(executable);
         }
@@ -2151,6 +2156,7 @@ public interface MethodDescription extends TypeVariableSource,
          *
          * @return A method descriptor for this token.
          */
+        @CachedReturnPlugin.Enhance("descriptor")
         public String getDescriptor() {
             StringBuilder stringBuilder = new StringBuilder().append('(');
             for (TypeDescription typeDescription : parameterTypes) {
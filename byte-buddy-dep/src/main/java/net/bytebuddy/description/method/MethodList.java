@@ -74,7 +74,7 @@ public interface MethodList<T extends MethodDescription> extends FilterableList<
      *
      * @param <S> The type of method descriptions represented by this list.
      */
-    abstract class AbstractBase<S extends MethodDescription> extends FilterableList.AbstractBase<S, MethodList<S>> implements MethodList<S> {
+    abstract class AbstractBase<S extends MethodDescription> extends FilterableList.WithNameIndex<S, MethodList<S>> implements MethodList<S> {
 
         @Override
         protected MethodList<S> wrap(List<S> values) {
@@ -148,24 +148,24 @@ public interface MethodList<T extends MethodDescription> extends FilterableList<
          * @param type The type to be represented by this method list.
          */
         public ForLoadedMethods(Class<?> type) {
-            this(GraalImageCode.getCurrent().sorted(type.getDeclaredConstructors(), ConstructorComparator.INSTANCE),
-                    GraalImageCode.getCurrent().sorted(type.getDeclaredMethods(), MethodComparator.INSTANCE));
+            this(Arrays.asList(GraalImageCode.getCurrent().sorted(type.getDeclaredConstructors(), ConstructorComparator.INSTANCE)),
+                    Arrays.asList(GraalImageCode.getCurrent().sorted(type.getDeclaredMethods(), MethodComparator.INSTANCE)));
         }
 
         /**
          * Creates a method list that represents the given constructors and methods in their given order. The
-         * constructors are assigned the indices before the methods.
+         * constructors are assigned the indices before the methods. The supplied arrays are copied.
          *
          * @param constructor The constructors to be represented by the method list.
          * @param method      The methods to be represented by the method list.
          */
         public ForLoadedMethods(Constructor<?>[] constructor, Method[] method) {
-            this(Arrays.asList(constructor), Arrays.asList(method));
+            this(Arrays.asList(constructor.clone()), Arrays.asList(method.clone()));
         }
 
         /**
          * Creates a method list that represents the given constructors and methods in their given order. The
-         * constructors are assigned the indices before the methods.
+         * constructors are assigned the indices before the methods. The supplied lists must not be altered.
          *
          * @param constructors The constructors to be represented by the method list.
          * @param methods      The methods to be represented by the method list.
@@ -191,6 +191,14 @@ public interface MethodList<T extends MethodDescription> extends FilterableList<
         public int size() {
             return constructors.size() + methods.size();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isIndexable() {
+            return true;
+        }
     }
 
     /**
@@ -50,9 +50,15 @@ import org.objectweb.asm.signature.SignatureWriter;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.security.PrivilegedAction;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 
@@ -8780,6 +8786,17 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             TYPE_CACHE.put(double.class, new ForLoadedType(double.class));
         }
 
+        /**
+         * The class loaders that are never unloaded, besides the bootstrap loader, i.e. the system class loader and its parents.
+         */
+        private static final Set<ClassLoader> PERMANENT_CLASS_LOADERS = doPrivileged(PermanentClassLoaders.INSTANCE);
+
+        /**
+         * A cache of type descriptions for any other type of a class loader that is never unloaded such that their lazily
+         * resolved properties are shared.
+         */
+        private static final Cache CACHE = new Cache();
+
         /**
          * The loaded type this instance represents.
          */
@@ -8824,16 +8841,23 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         }
 
         /**
-         * Returns a new immutable type description for a loaded type.
+         * Returns an immutable type description for a loaded type. Descriptions of types that are loaded by the bootstrap
+         * loader, the platform loader or the system class loader are shared such that member lists, generic signatures and
+         * annotations are only resolved once. Types of any other class loader are described by a new instance to avoid
+         * retaining a class loader that could otherwise be unloaded.
          *
          * @param type The type to be represented by this type description.
          * @return The type description representing the given type.
          */
         public static TypeDescription of(Class<?> type) {
             TypeDescription typeDescription = TYPE_CACHE.get(type);
-            return typeDescription == null
-                    ? new ForLoadedType(type)
-                    : typeDescription;
+            if (typeDescription != null) {
+                return typeDescription;
+            }
+            ClassLoader classLoader = type.getClassLoader();
+            return classLoader == null || PERMANENT_CLASS_LOADERS.contains(classLoader)
+                    ? CACHE.find(type)
+                    : new ForLoadedType(type);
         }
 
         @Override
@@ -8906,6 +8930,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
          * {@inheritDoc}
          */
         @MaybeNull
+        @CachedReturnPlugin.Enhance("superClass")
         public Generic getSuperClass() {
             if (RAW_TYPES) {
                 return type.getSuperclass() == null
@@ -8918,6 +8943,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("interfaces")
         public TypeList.Generic getInterfaces() {
             if (RAW_TYPES) {
                 return isArray()
@@ -9016,7 +9042,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
          */
         @CachedReturnPlugin.Enhance("declaredFields")
         public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
-            return new FieldList.ForLoadedFields(GraalImageCode.getCurrent().sorted(type.getDeclaredFields(), FieldComparator.INSTANCE));
+            return new FieldList.ForLoadedFields(Arrays.asList(GraalImageCode.getCurrent().sorted(type.getDeclaredFields(), FieldComparator.INSTANCE)));
         }
 
         /**
@@ -9106,6 +9132,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("typeVariables")
         public TypeList.Generic getTypeVariables() {
             if (RAW_TYPES) {
                 return new TypeList.Generic.Empty();
@@ -9124,6 +9151,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         /**
          * {@inheritDoc}
          */
+        @CachedReturnPlugin.Enhance("genericType")
         public Generic asGenericType() {
             return Generic.OfNonGenericType.ForLoadedType.of(type);
         }
@@ -9207,6 +9235,191 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             }
         }
 
+        /**
+         * A privileged action for resolving the system class loader and its parents which are never unloaded.
+         */
+        protected enum PermanentClassLoaders implements PrivilegedAction<Set<ClassLoader>> {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public Set<ClassLoader> run() {
+                Set<ClassLoader> classLoaders = new HashSet<ClassLoader>();
+                try {
+                    ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+                    while (classLoader != null) {
+                        classLoaders.add(classLoader);
+                        classLoader = classLoader.getParent();
+                    }
+                } catch (SecurityException ignored) {
+                    /* do nothing */
+                } catch (IllegalStateException ignored) {
+                    /* do nothing */
+                }
+                return classLoaders;
+            }
+        }
+
+        /**
+         * <p>
+         * A cache of type descriptions for loaded types that neither strongly references a type nor its description. A description
+         * is referenced softly and is typically retained until memory is required. As a description references its type, and
+         * thereby its class loader, the shared cache of {@link ForLoadedType#of(Class)} is only applied for types of class loaders
+         * that are never unloaded. This cache is fully thread-safe.
+         * </p>
+         * <p>
+         * <b>Note</b>: A {@code java.lang.ClassValue} is not available on all versions of the JVM that are supported by Byte Buddy.
+         * </p>
+         */
+        protected static class Cache extends ReferenceQueue<Class<?>> {
+
+            /**
+             * The cached type descriptions by their {@link LookupKey} or {@link StorageKey}.
+             */
+            private final ConcurrentMap<Object, SoftReference<TypeDescription>> descriptions;
+
+            /**
+             * Creates a new cache.
+             */
+            protected Cache() {
+                descriptions = new ConcurrentHashMap<Object, SoftReference<TypeDescription>>();
+            }
+
+            /**
+             * Finds a cached type description or creates and caches a new one if no description is cached.
+             *
+             * @param type The type to describe.
+             * @return A type description of the supplied type.
+             */
+            @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Cross-comparison is intended.")
+            protected TypeDescription find(Class<?> type) {
+                SoftReference<TypeDescription> reference = descriptions.get(new LookupKey(type));
+                TypeDescription typeDescription = reference == null
+                        ? null
+                        : reference.get();
+                if (typeDescription == null) {
+                    expungeStaleEntries();
+                    typeDescription = new ForLoadedType(type);
+                    descriptions.put(new StorageKey(type, this), new SoftReference<TypeDescription>(typeDescription));
+                }
+                return typeDescription;
+            }
+
+            /**
+             * Removes all entries of types that were garbage collected.
+             */
+            protected void expungeStaleEntries() {
+                Reference<?> reference;
+                while ((reference = poll()) != null) {
+                    descriptions.remove(reference);
+                }
+            }
+
+            /**
+             * Returns the number of cached type descriptions, including descriptions that were cleared but not yet expunged.
+             *
+             * @return The number of cached type descriptions.
+             */
+            protected int size() {
+                return descriptions.size();
+            }
+
+            /**
+             * A key for looking up a type description.
+             */
+            protected static class LookupKey {
+
+                /**
+                 * The represented type.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * The type's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new lookup key.
+                 *
+                 * @param type The represented type.
+                 */
+                protected LookupKey(Class<?> type) {
+                    this.type = type;
+                    hashCode = System.identityHashCode(type);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                public boolean equals(@MaybeNull Object other) {
+                    if (this == other) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        return type == ((LookupKey) other).type;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        return hashCode == storageKey.hashCode && type == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * A key for storing a type description that references its type weakly.
+             */
+            protected static class StorageKey extends WeakReference<Class<?>> {
+
+                /**
+                 * The type's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new storage key.
+                 *
+                 * @param type           The represented type.
+                 * @param referenceQueue The reference queue to notify upon a garbage collection.
+                 */
+                protected StorageKey(Class<?> type, ReferenceQueue<? super Class<?>> referenceQueue) {
+                    super(type, referenceQueue);
+                    hashCode = System.identityHashCode(type);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                public boolean equals(@MaybeNull Object other) {
+                    if (this == other) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        LookupKey lookupKey = (LookupKey) other;
+                        return hashCode == lookupKey.hashCode && get() == lookupKey.type;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        Class<?> type = get();
+                        return hashCode == storageKey.hashCode && type != null && type == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+        }
+
         /**
          * A dispatcher for using methods of {@link Class} that are not declared for Java 6.
          */
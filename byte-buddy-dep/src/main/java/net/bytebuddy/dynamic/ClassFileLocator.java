@@ -35,6 +35,8 @@ import java.io.*;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.lang.instrument.UnmodifiableClassException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -43,6 +45,8 @@ import java.net.URLClassLoader;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -194,6 +198,23 @@ public interface ClassFileLocator extends Closeable {
         }
     }
 
+    /**
+     * A class file locator that is able to enumerate the packages of all class files it can locate. A {@link Compound}
+     * class file locator only queries such a locator for types that reside in one of these packages.
+     */
+    interface Enumerable extends ClassFileLocator {
+
+        /**
+         * Returns the names of all packages that contain a class file that this locator might locate where an empty string
+         * donates the default package. The returned set might include packages for which no class file can be located
+         * but must not omit any package of a locatable class file.
+         *
+         * @return The names of all packages that contain class files of this locator.
+         * @throws IOException If an I/O error occurs.
+         */
+        Set<String> getPackages() throws IOException;
+    }
+
     /**
      * A class file locator that is aware of multi-release JAR file semantics.
      */
@@ -419,6 +440,84 @@ public interface ClassFileLocator extends Closeable {
             return new ForClassLoader(classLoader == null ? BOOT_LOADER_PROXY : classLoader);
         }
 
+        /**
+         * <p>
+         * Creates a class file locator for a given class loader that reads class files directly from the jar files and folders of
+         * the class loader and its parents if they are {@link URLClassLoader}s. The jar files are opened only once and are kept open
+         * until the returned class file locator is closed. Class files are located in the order of the class loader's resource lookup,
+         * i.e. by querying the parent class loader first.
+         * </p>
+         * <p>
+         * <b>Important</b>: Only class loaders of the exact type {@link URLClassLoader} are resolved directly as subclasses might alter
+         * the resource lookup. For any other class loader, or if a class loader references a location that is not a local jar file or folder
+         * or a jar file that declares a {@code Class-Path} manifest attribute, the class loader's resource API is queried. The returned class file
+         * locator does not reflect URLs that are added to a class loader after its creation.
+         * </p>
+         *
+         * @param classLoader The class loader to be used which might be {@code null} to represent the bootstrap loader.
+         * @return A class file locator that reads class files directly where possible.
+         * @throws IOException If an I/O exception occurs.
+         */
+        public static ClassFileLocator ofDirectAccess(@MaybeNull ClassLoader classLoader) throws IOException {
+            if (classLoader == null || classLoader.getClass() != URLClassLoader.class) {
+                return of(classLoader);
+            }
+            URL[] url = ((URLClassLoader) classLoader).getURLs();
+            List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(url.length + 1);
+            classFileLocators.add(ofDirectAccess(classLoader.getParent()));
+            ClassFileVersion classFileVersion = ClassFileVersion.ofThisVm();
+            boolean direct = false;
+            try {
+                for (URL anUrl : url) {
+                    File file = toFile(anUrl);
+                    if (file == null) {
+                        return of(classLoader);
+                    } else if (file.isDirectory()) {
+                        classFileLocators.add(new ForFolder(file));
+                    } else if (file.isFile()) {
+                        JarFile jarFile = new JarFile(file, false, ZipFile.OPEN_READ);
+                        boolean registered = false;
+                        try {
+                            Manifest manifest = jarFile.getManifest();
+                            if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null) {
+                                return of(classLoader);
+                            }
+                            classFileLocators.add(ForJarFile.of(jarFile, classFileVersion, true));
+                            registered = true;
+                        } finally {
+                            if (!registered) {
+                                jarFile.close();
+                            }
+                        }
+                    }
+                }
+                direct = true;
+            } finally {
+                if (!direct) {
+                    new Compound(classFileLocators).close();
+                }
+            }
+            return new Compound(classFileLocators);
+        }
+
+        /**
+         * Resolves a URL to a local file.
+         *
+         * @param url The URL to resolve.
+         * @return The file that is represented by the URL or {@code null} if the URL does not represent a local file.
+         */
+        @MaybeNull
+        private static File toFile(URL url) {
+            if (!url.getProtocol().equals("file")) {
+                return null;
+            }
+            try {
+                return new File(url.toURI());
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+
         /**
          * Attempts to create a binary representation of a loaded type by requesting data from its
          * {@link java.lang.ClassLoader}.
@@ -800,7 +899,7 @@ public interface ClassFileLocator extends Closeable {
      * A class file locator that locates classes within a Java <i>jar</i> file.
      */
     @HashCodeAndEqualsPlugin.Enhance
-    class ForJarFile extends MultiReleaseAware {
+    class ForJarFile extends MultiReleaseAware implements Enumerable {
 
         /**
          * A list of potential locations of the runtime jar for different platforms.
@@ -1002,6 +1101,29 @@ public interface ClassFileLocator extends Closeable {
             }
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public Set<String> getPackages() {
+            Set<String> packages = new HashSet<String>();
+            Enumeration<JarEntry> enumeration = jarFile.entries();
+            while (enumeration.hasMoreElements()) {
+                String name = enumeration.nextElement().getName();
+                if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                    int offset = 0;
+                    if (name.startsWith(META_INF_VERSIONS)) {
+                        offset = name.indexOf('/', META_INF_VERSIONS.length()) + 1;
+                        if (offset == 0) {
+                            continue;
+                        }
+                    }
+                    int index = name.lastIndexOf('/');
+                    packages.add(index < offset ? NamedElement.EMPTY_NAME : name.substring(offset, index).replace('/', '.'));
+                }
+            }
+            return packages;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1017,7 +1139,7 @@ public interface ClassFileLocator extends Closeable {
      * for reading modular jar files for which {@link ForJarFile} is appropriate.
      */
     @HashCodeAndEqualsPlugin.Enhance
-    class ForModuleFile implements ClassFileLocator {
+    class ForModuleFile implements Enumerable {
 
         /**
          * The file extension of a modular Java package.
@@ -1029,6 +1151,11 @@ public interface ClassFileLocator extends Closeable {
          */
         private static final List<String> BOOT_LOCATIONS = Arrays.asList("jmods", "../jmods", "modules");
 
+        /**
+         * The folder within a jmod file that contains the module's class files.
+         */
+        private static final String CLASSES_FOLDER = "classes/";
+
         /**
          * The represented jmod file.
          */
@@ -1173,7 +1300,7 @@ public interface ClassFileLocator extends Closeable {
          * {@inheritDoc}
          */
         public Resolution locate(String name) throws IOException {
-            ZipEntry zipEntry = zipFile.getEntry("classes/" + name.replace('.', '/') + CLASS_FILE_EXTENSION);
+            ZipEntry zipEntry = zipFile.getEntry(CLASSES_FOLDER + name.replace('.', '/') + CLASS_FILE_EXTENSION);
             if (zipEntry == null) {
                 return new Resolution.Illegal(name);
             } else {
@@ -1186,6 +1313,22 @@ public interface ClassFileLocator extends Closeable {
             }
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public Set<String> getPackages() {
+            Set<String> packages = new HashSet<String>();
+            Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+            while (enumeration.hasMoreElements()) {
+                String name = enumeration.nextElement().getName();
+                if (name.startsWith(CLASSES_FOLDER) && name.endsWith(CLASS_FILE_EXTENSION)) {
+                    int index = name.lastIndexOf('/');
+                    packages.add(index < CLASSES_FOLDER.length() ? NamedElement.EMPTY_NAME : name.substring(CLASSES_FOLDER.length(), index).replace('/', '.'));
+                }
+            }
+            return packages;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1420,6 +1563,12 @@ public interface ClassFileLocator extends Closeable {
          */
         private final ClassLoadingDelegate classLoadingDelegate;
 
+        /**
+         * The cache for extracted class files.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final Cache cache;
+
         /**
          * Creates an agent-based class file locator.
          *
@@ -1449,11 +1598,23 @@ public interface ClassFileLocator extends Closeable {
          * @param classLoadingDelegate The delegate responsible for class loading.
          */
         public ForInstrumentation(Instrumentation instrumentation, ClassLoadingDelegate classLoadingDelegate) {
+            this(instrumentation, classLoadingDelegate, Cache.NoOp.INSTANCE);
+        }
+
+        /**
+         * Creates an agent-based class file locator.
+         *
+         * @param instrumentation      The instrumentation to be used.
+         * @param classLoadingDelegate The delegate responsible for class loading.
+         * @param cache                The cache for extracted class files.
+         */
+        protected ForInstrumentation(Instrumentation instrumentation, ClassLoadingDelegate classLoadingDelegate, Cache cache) {
             if (!DISPATCHER.isRetransformClassesSupported(instrumentation)) {
                 throw new IllegalArgumentException(instrumentation + " does not support retransformation");
             }
             this.instrumentation = instrumentation;
             this.classLoadingDelegate = classLoadingDelegate;
+            this.cache = cache;
         }
 
         /**
@@ -1499,20 +1660,42 @@ public interface ClassFileLocator extends Closeable {
             return new ForInstrumentation(instrumentation, ClassLoadingDelegate.Explicit.of(type));
         }
 
+        /**
+         * Returns a version of this class file locator that retains up to the given number of extracted class files. Extracted
+         * class files are cached by the identity of the represented class such that a repeated lookup does not require a
+         * retransformation. Once the cache is full, the least recently used class file is evicted.
+         *
+         * @param size The maximum number of class files to retain.
+         * @return A version of this class file locator that caches extracted class files.
+         */
+        public ForInstrumentation withCache(int size) {
+            return new ForInstrumentation(instrumentation, classLoadingDelegate, size > 0
+                    ? new Cache.Bounded(size)
+                    : Cache.NoOp.INSTANCE);
+        }
+
         /**
          * {@inheritDoc}
          */
         public Resolution locate(String name) {
             try {
-                ExtractionClassFileTransformer classFileTransformer = new ExtractionClassFileTransformer(classLoadingDelegate.getClassLoader(), name);
-                DISPATCHER.addTransformer(instrumentation, classFileTransformer, true);
-                try {
-                    DISPATCHER.retransformClasses(instrumentation, new Class<?>[]{classLoadingDelegate.locate(name)});
-                    byte[] binaryRepresentation = classFileTransformer.getBinaryRepresentation();
-                    return binaryRepresentation == null ? new Resolution.Illegal(name) : new Resolution.Explicit(binaryRepresentation);
-                } finally {
-                    instrumentation.removeTransformer(classFileTransformer);
+                Class<?> type = classLoadingDelegate.locate(name);
+                byte[] binaryRepresentation = cache.find(type);
+                if (binaryRepresentation == null) {
+                    ExtractionClassFileTransformer classFileTransformer = new ExtractionClassFileTransformer(classLoadingDelegate.getClassLoader(), name);
+                    DISPATCHER.addTransformer(instrumentation, classFileTransformer, true);
+                    try {
+                        DISPATCHER.retransformClasses(instrumentation, new Class<?>[]{type});
+                        binaryRepresentation = classFileTransformer.getBinaryRepresentation();
+                    } finally {
+                        instrumentation.removeTransformer(classFileTransformer);
+                    }
+                    if (binaryRepresentation == null) {
+                        return new Resolution.Illegal(name);
+                    }
+                    cache.register(type, binaryRepresentation);
                 }
+                return new Resolution.Explicit(binaryRepresentation);
             } catch (RuntimeException exception) {
                 throw exception;
             } catch (Exception ignored) {
@@ -1520,6 +1703,66 @@ public interface ClassFileLocator extends Closeable {
             }
         }
 
+        /**
+         * Locates the class files of all supplied types by a single retransformation of all types that are not already
+         * cached. If the retransformation of all types fails, each type is located individually.
+         *
+         * @param names The names of the types to locate.
+         * @return A mapping of the supplied names to their resolutions in the order of the supplied names.
+         */
+        public Map<String, Resolution> locateAll(Collection<String> names) {
+            Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
+            Map<Class<?>, byte[]> binaryRepresentations = new HashMap<Class<?>, byte[]>();
+            List<Class<?>> extractions = new ArrayList<Class<?>>(names.size());
+            for (String name : names) {
+                Class<?> type;
+                try {
+                    type = classLoadingDelegate.locate(name);
+                } catch (ClassNotFoundException ignored) {
+                    continue;
+                }
+                types.put(name, type);
+                byte[] binaryRepresentation = cache.find(type);
+                if (binaryRepresentation != null) {
+                    binaryRepresentations.put(type, binaryRepresentation);
+                } else if (DISPATCHER.isModifiableClass(instrumentation, type) && !binaryRepresentations.containsKey(type)) {
+                    binaryRepresentations.put(type, null);
+                    extractions.add(type);
+                }
+            }
+            if (!extractions.isEmpty()) {
+                BatchExtractionClassFileTransformer classFileTransformer = new BatchExtractionClassFileTransformer(extractions);
+                DISPATCHER.addTransformer(instrumentation, classFileTransformer, true);
+                try {
+                    DISPATCHER.retransformClasses(instrumentation, extractions.toArray(new Class<?>[0]));
+                    binaryRepresentations.putAll(classFileTransformer.getBinaryRepresentations());
+                } catch (UnmodifiableClassException ignored) {
+                    /* do nothing */
+                } finally {
+                    instrumentation.removeTransformer(classFileTransformer);
+                }
+                for (Class<?> type : extractions) {
+                    byte[] binaryRepresentation = binaryRepresentations.get(type);
+                    if (binaryRepresentation != null) {
+                        cache.register(type, binaryRepresentation);
+                    }
+                }
+            }
+            Map<String, Resolution> resolutions = new LinkedHashMap<String, Resolution>();
+            for (String name : names) {
+                Class<?> type = types.get(name);
+                byte[] binaryRepresentation = type == null ? null : binaryRepresentations.get(type);
+                if (binaryRepresentation != null) {
+                    resolutions.put(name, new Resolution.Explicit(binaryRepresentation));
+                } else if (type != null && binaryRepresentations.containsKey(type)) {
+                    resolutions.put(name, locate(name));
+                } else {
+                    resolutions.put(name, new Resolution.Illegal(name));
+                }
+            }
+            return resolutions;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1558,6 +1801,220 @@ public interface ClassFileLocator extends Closeable {
              * @throws UnmodifiableClassException If any of the supplied types are unmodifiable.
              */
             void retransformClasses(Instrumentation instrumentation, Class<?>[] type) throws UnmodifiableClassException;
+
+            /**
+             * Invokes the {@code Instrumentation#isModifiableClass} method.
+             *
+             * @param instrumentation The instrumentation instance to invoke the method on.
+             * @param type            The type to check for being modifiable.
+             * @return {@code true} if the supplied type can be retransformed.
+             */
+            boolean isModifiableClass(Instrumentation instrumentation, Class<?> type);
+        }
+
+        /**
+         * A cache for class files that were extracted by a retransformation.
+         */
+        protected interface Cache {
+
+            /**
+             * Returns the cached class file of a type.
+             *
+             * @param type The type for which to look up the class file.
+             * @return The cached class file or {@code null} if no class file is cached.
+             */
+            @MaybeNull
+            byte[] find(Class<?> type);
+
+            /**
+             * Registers an extracted class file.
+             *
+             * @param type                 The type of the class file.
+             * @param binaryRepresentation The extracted class file.
+             */
+            void register(Class<?> type, byte[] binaryRepresentation);
+
+            /**
+             * A cache that does not retain any class file.
+             */
+            enum NoOp implements Cache {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @MaybeNull
+                public byte[] find(Class<?> type) {
+                    return null;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void register(Class<?> type, byte[] binaryRepresentation) {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * A cache that retains a bounded number of class files and evicts the least recently used class file when full.
+             * The cached types are referenced weakly and compared by identity such that the cache does not prevent the
+             * unloading of a type or its class loader.
+             */
+            class Bounded extends ReferenceQueue<Class<?>> implements Cache {
+
+                /**
+                 * The cached class files by their {@link LookupKey} or {@link StorageKey}.
+                 */
+                private final Map<Object, byte[]> binaryRepresentations;
+
+                /**
+                 * Creates a new bounded cache.
+                 *
+                 * @param size The maximum number of class files to retain.
+                 */
+                protected Bounded(final int size) {
+                    binaryRepresentations = new LinkedHashMap<Object, byte[]>(16, 0.75f, true) {
+                        /**
+                         * The class's serial version UID.
+                         */
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<Object, byte[]> eldest) {
+                            return size() > size;
+                        }
+                    };
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @MaybeNull
+                @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Cross-comparison is intended.")
+                public byte[] find(Class<?> type) {
+                    synchronized (binaryRepresentations) {
+                        expungeStaleEntries();
+                        return binaryRepresentations.get(new LookupKey(type));
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void register(Class<?> type, byte[] binaryRepresentation) {
+                    synchronized (binaryRepresentations) {
+                        expungeStaleEntries();
+                        binaryRepresentations.remove(new LookupKey(type));
+                        binaryRepresentations.put(new StorageKey(type, this), binaryRepresentation);
+                    }
+                }
+
+                /**
+                 * Removes all entries of types that were garbage collected. This method must only be invoked while holding
+                 * the monitor of the cached class files.
+                 */
+                private void expungeStaleEntries() {
+                    Reference<?> reference;
+                    while ((reference = poll()) != null) {
+                        binaryRepresentations.remove(reference);
+                    }
+                }
+
+                /**
+                 * A key for looking up a cached class file.
+                 */
+                protected static class LookupKey {
+
+                    /**
+                     * The represented type.
+                     */
+                    private final Class<?> type;
+
+                    /**
+                     * The type's identity hash code.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new lookup key.
+                     *
+                     * @param type The represented type.
+                     */
+                    protected LookupKey(Class<?> type) {
+                        this.type = type;
+                        hashCode = System.identityHashCode(type);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                    public boolean equals(@MaybeNull Object other) {
+                        if (this == other) {
+                            return true;
+                        } else if (other instanceof LookupKey) {
+                            return type == ((LookupKey) other).type;
+                        } else if (other instanceof StorageKey) {
+                            StorageKey storageKey = (StorageKey) other;
+                            return hashCode == storageKey.hashCode && type == storageKey.get();
+                        } else {
+                            return false;
+                        }
+                    }
+                }
+
+                /**
+                 * A key for storing a cached class file that references its type weakly.
+                 */
+                protected static class StorageKey extends WeakReference<Class<?>> {
+
+                    /**
+                     * The type's identity hash code.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new storage key.
+                     *
+                     * @param type           The represented type.
+                     * @param referenceQueue The reference queue to notify upon a garbage collection.
+                     */
+                    protected StorageKey(Class<?> type, ReferenceQueue<? super Class<?>> referenceQueue) {
+                        super(type, referenceQueue);
+                        hashCode = System.identityHashCode(type);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                    public boolean equals(@MaybeNull Object other) {
+                        if (this == other) {
+                            return true;
+                        } else if (other instanceof LookupKey) {
+                            LookupKey lookupKey = (LookupKey) other;
+                            return hashCode == lookupKey.hashCode && get() == lookupKey.type;
+                        } else if (other instanceof StorageKey) {
+                            StorageKey storageKey = (StorageKey) other;
+                            Class<?> type = get();
+                            return hashCode == storageKey.hashCode && type != null && type == storageKey.get();
+                        } else {
+                            return false;
+                        }
+                    }
+                }
+            }
         }
 
         /**
@@ -1999,6 +2456,62 @@ public interface ClassFileLocator extends Closeable {
                 return binaryRepresentation;
             }
         }
+
+        /**
+         * A class file transformer that extracts the class files of several types during a single retransformation.
+         */
+        protected static class BatchExtractionClassFileTransformer implements ClassFileTransformer {
+
+            /**
+             * An indicator that an attempted class file transformation did not alter the handed class file.
+             */
+            @AlwaysNull
+            private static final byte[] DO_NOT_TRANSFORM = null;
+
+            /**
+             * The types to extract.
+             */
+            private final Set<Class<?>> types;
+
+            /**
+             * The extracted class files by their type.
+             */
+            private final Map<Class<?>, byte[]> binaryRepresentations;
+
+            /**
+             * Creates a class file transformer for the purpose of extracting several class files.
+             *
+             * @param types The types to extract.
+             */
+            protected BatchExtractionClassFileTransformer(Collection<? extends Class<?>> types) {
+                this.types = new HashSet<Class<?>>(types);
+                binaryRepresentations = new ConcurrentHashMap<Class<?>, byte[]>();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @MaybeNull
+            public byte[] transform(@MaybeNull ClassLoader classLoader,
+                                    @MaybeNull String internalName,
+                                    @MaybeNull Class<?> redefinedType,
+                                    @MaybeNull ProtectionDomain protectionDomain,
+                                    byte[] binaryRepresentation) {
+                if (redefinedType != null && types.contains(redefinedType)) {
+                    binaryRepresentations.put(redefinedType, binaryRepresentation.clone());
+                }
+                return DO_NOT_TRANSFORM;
+            }
+
+            /**
+             * Returns the extracted class files by their type. The returned arrays must never be modified.
+             *
+             * @return The extracted class files by their type.
+             */
+            protected Map<Class<?>, byte[]> getBinaryRepresentations() {
+                return binaryRepresentations;
+            }
+        }
     }
 
     /**
@@ -2085,7 +2598,8 @@ public interface ClassFileLocator extends Closeable {
     /**
      * A compound {@link ClassFileLocator} that chains several locators.
      * Any class file locator is queried in the supplied order until one locator is able to provide an input
-     * stream of the class file.
+     * stream of the class file. Upon the first lookup, any {@link Enumerable} class file locator is indexed by its packages
+     * such that it is only queried for types within these packages.
      */
     @HashCodeAndEqualsPlugin.Enhance
     class Compound implements ClassFileLocator, Closeable {
@@ -2096,6 +2610,13 @@ public interface ClassFileLocator extends Closeable {
          */
         private final List<ClassFileLocator> classFileLocators;
 
+        /**
+         * The package index of the represented class file locators or {@code null} if the index was not yet computed.
+         */
+        @MaybeNull
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private volatile Index index;
+
         /**
          * Creates a new compound class file locator.
          *
@@ -2127,8 +2648,15 @@ public interface ClassFileLocator extends Closeable {
          * {@inheritDoc}
          */
         public Resolution locate(String name) throws IOException {
-            for (ClassFileLocator classFileLocator : classFileLocators) {
-                Resolution resolution = classFileLocator.locate(name);
+            Index index = this.index;
+            if (index == null) {
+                index = Index.of(classFileLocators);
+                this.index = index;
+            }
+            int packageIndex = name.lastIndexOf('.');
+            BitSet candidates = index.resolve(packageIndex == -1 ? NamedElement.EMPTY_NAME : name.substring(0, packageIndex));
+            for (int candidate = candidates.nextSetBit(0); candidate != -1; candidate = candidates.nextSetBit(candidate + 1)) {
+                Resolution resolution = classFileLocators.get(candidate).locate(name);
                 if (resolution.isResolved()) {
                     return resolution;
                 }
@@ -2144,5 +2672,87 @@ public interface ClassFileLocator extends Closeable {
                 classFileLocator.close();
             }
         }
+
+        /**
+         * An index of the class file locators of a compound class file locator by the packages they are able to locate.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class Index {
+
+            /**
+             * A mapping of package names to the indices of the enumerable class file locators that contain this package.
+             */
+            private final Map<String, BitSet> packages;
+
+            /**
+             * The indices of all class file locators that cannot be indexed and that must therefore always be queried.
+             */
+            private final BitSet unindexed;
+
+            /**
+             * Creates a new index.
+             *
+             * @param packages  A mapping of package names to the indices of the enumerable class file locators that contain this package.
+             * @param unindexed The indices of all class file locators that cannot be indexed and that must therefore always be queried.
+             */
+            protected Index(Map<String, BitSet> packages, BitSet unindexed) {
+                this.packages = packages;
+                this.unindexed = unindexed;
+            }
+
+            /**
+             * Creates an index for the supplied class file locators. If an enumerable class file locator cannot
+             * enumerate its packages, it is not indexed but always queried.
+             *
+             * @param classFileLocators The class file locators to index in the order of their application.
+             * @return An index for the supplied class file locators.
+             */
+            protected static Index of(List<? extends ClassFileLocator> classFileLocators) {
+                Map<String, BitSet> packages = new HashMap<String, BitSet>();
+                BitSet unindexed = new BitSet(classFileLocators.size());
+                for (int index = 0; index < classFileLocators.size(); index++) {
+                    ClassFileLocator classFileLocator = classFileLocators.get(index);
+                    Set<String> names = null;
+                    if (classFileLocator instanceof Enumerable) {
+                        try {
+                            names = ((Enumerable) classFileLocator).getPackages();
+                        } catch (IOException ignored) {
+                            /* do nothing */
+                        } catch (IllegalStateException ignored) {
+                            /* do nothing */
+                        }
+                    }
+                    if (names == null) {
+                        unindexed.set(index);
+                    } else {
+                        for (String name : names) {
+                            BitSet locators = packages.get(name);
+                            if (locators == null) {
+                                locators = new BitSet(classFileLocators.size());
+                                packages.put(name, locators);
+                            }
+                            locators.set(index);
+                        }
+                    }
+                }
+                return new Index(packages, unindexed);
+            }
+
+            /**
+             * Resolves the indices of all class file locators that need to be queried for a type of the given package.
+             *
+             * @param name The name of the package where an empty string donates the default package.
+             * @return The indices of all class file locators to query in ascending order.
+             */
+            protected BitSet resolve(String name) {
+                BitSet locators = packages.get(name);
+                if (locators == null) {
+                    return unindexed;
+                }
+                locators = (BitSet) locators.clone();
+                locators.or(unindexed);
+                return locators;
+            }
+        }
     }
 }
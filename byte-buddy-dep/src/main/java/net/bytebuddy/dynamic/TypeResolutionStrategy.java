@@ -16,12 +16,22 @@
 package net.bytebuddy.dynamic;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassInjector;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeInitializer;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.utility.nullability.MaybeNull;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -197,6 +207,170 @@ public interface TypeResolutionStrategy {
         }
     }
 
+    /**
+     * <p>
+     * A type resolution strategy that defines the instrumented type as a hidden class and that hands its {@link LoadedTypeInitializer}
+     * to the hidden class as class data. The loaded type initializer is executed as a first action of the hidden class's type initializer
+     * which is triggered lazily, upon the hidden class's first use. Unlike {@link Active}, this strategy does not register the loaded type
+     * initializer in the {@link Nexus} and does not use reflection from within the type initializer.
+     * </p>
+     * <p>
+     * <b>Important</b>: This strategy is only available from Java 16 and ignores the class loader and class loading strategy that are
+     * supplied when loading a dynamic type. Instead, the type is defined using the supplied lookup-based class injector, within the lookup
+     * type's package. As a hidden class cannot be referenced by its name, this strategy does not support dynamic types with auxiliary types.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class UsingClassData implements TypeResolutionStrategy, Resolved {
+
+        /**
+         * The class injector to use for defining the hidden class.
+         */
+        private final ClassInjector.UsingLookup classInjector;
+
+        /**
+         * Creates a new type resolution strategy that hands the loaded type initializer to a hidden class as class data.
+         *
+         * @param classInjector The class injector to use for defining the hidden class.
+         */
+        public UsingClassData(ClassInjector.UsingLookup classInjector) {
+            this.classInjector = classInjector;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Resolved resolve() {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public TypeInitializer injectedInto(TypeInitializer typeInitializer) {
+            return typeInitializer.expandWith(InitializationAppender.INSTANCE);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public <S extends ClassLoader> Map<TypeDescription, Class<?>> initialize(DynamicType dynamicType,
+                                                                                 @MaybeNull S classLoader,
+                                                                                 ClassLoadingStrategy<? super S> classLoadingStrategy) {
+            if (!dynamicType.getAuxiliaryTypes().isEmpty()) {
+                throw new IllegalStateException("Cannot define auxiliary types " + dynamicType.getAuxiliaryTypeDescriptions()
+                        + " for hidden class " + dynamicType.getTypeDescription());
+            }
+            Initializer initializer = new Initializer(dynamicType.getLoadedTypeInitializer());
+            Class<?> type = classInjector.injectHidden(dynamicType.getBytes(), initializer, false);
+            initializer.bind(type);
+            Map<TypeDescription, Class<?>> types = new HashMap<TypeDescription, Class<?>>();
+            types.put(dynamicType.getTypeDescription(), type);
+            return types;
+        }
+
+        /**
+         * An appender that resolves the class data of a hidden class as a {@link Runnable} and that invokes it.
+         */
+        protected enum InitializationAppender implements ByteCodeAppender {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * The internal name of the {@code java.lang.invoke.MethodHandles} type.
+             */
+            private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+
+            /**
+             * The name of the {@code java.lang.invoke.MethodHandles#classData} method.
+             */
+            private static final String CLASS_DATA = "classData";
+
+            /**
+             * The descriptor of the {@code java.lang.invoke.MethodHandles#classData} method.
+             */
+            private static final String CLASS_DATA_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;";
+
+            /**
+             * The name of a class data constant.
+             */
+            private static final String DEFAULT_NAME = "_";
+
+            /**
+             * {@inheritDoc}
+             */
+            public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext, MethodDescription instrumentedMethod) {
+                if (implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11)) {
+                    methodVisitor.visitLdcInsn(new ConstantDynamic(DEFAULT_NAME,
+                            Type.getDescriptor(Runnable.class),
+                            new Handle(Opcodes.H_INVOKESTATIC, METHOD_HANDLES, CLASS_DATA, CLASS_DATA_DESCRIPTOR, false)));
+                } else {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC,
+                            METHOD_HANDLES,
+                            "lookup",
+                            "()Ljava/lang/invoke/MethodHandles$Lookup;",
+                            false);
+                    methodVisitor.visitLdcInsn(DEFAULT_NAME);
+                    methodVisitor.visitLdcInsn(Type.getType(Runnable.class));
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, METHOD_HANDLES, CLASS_DATA, CLASS_DATA_DESCRIPTOR, false);
+                    methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(Runnable.class));
+                }
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Runnable.class), "run", "()V", true);
+                return new Size(3, instrumentedMethod.getStackSize());
+            }
+        }
+
+        /**
+         * A runnable that is handed to a hidden class as class data and that applies a loaded type initializer when it is invoked
+         * from the hidden class's type initializer.
+         */
+        protected static class Initializer implements Runnable {
+
+            /**
+             * The loaded type initializer to apply.
+             */
+            private final LoadedTypeInitializer loadedTypeInitializer;
+
+            /**
+             * The hidden class or {@code null} if the class is not yet defined.
+             */
+            @MaybeNull
+            private volatile Class<?> type;
+
+            /**
+             * Creates a new initializer.
+             *
+             * @param loadedTypeInitializer The loaded type initializer to apply.
+             */
+            protected Initializer(LoadedTypeInitializer loadedTypeInitializer) {
+                this.loadedTypeInitializer = loadedTypeInitializer;
+            }
+
+            /**
+             * Binds this initializer to the defined hidden class.
+             *
+             * @param type The hidden class.
+             */
+            protected void bind(Class<?> type) {
+                this.type = type;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void run() {
+                Class<?> type = this.type;
+                if (type == null) {
+                    throw new IllegalStateException("Hidden class was initialized before it was bound to its initializer");
+                }
+                loadedTypeInitializer.onLoad(type);
+            }
+        }
+    }
+
     /**
      * A type resolution strategy that does not apply any {@link LoadedTypeInitializer}s but only loads all types.
      */
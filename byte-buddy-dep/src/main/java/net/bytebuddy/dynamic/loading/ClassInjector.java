@@ -1611,6 +1611,11 @@ public interface ClassInjector {
          */
         private static final MethodHandles.Lookup METHOD_HANDLES_LOOKUP = doPrivileged(JavaDispatcher.of(MethodHandles.Lookup.class));
 
+        /**
+         * The dispatcher to interacting with {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}.
+         */
+        private static final MethodHandles.Lookup.ClassOption CLASS_OPTION = doPrivileged(JavaDispatcher.of(MethodHandles.Lookup.ClassOption.class));
+
         /**
          * Indicates a lookup instance's package lookup mode.
          */
@@ -1712,6 +1717,31 @@ public interface ClassInjector {
             return result;
         }
 
+        /**
+         * Defines a hidden class within the lookup type's package that is associated with the supplied class data. The class data
+         * can be resolved by the hidden class via {@code java.lang.invoke.MethodHandles#classData}. A hidden class cannot be
+         * resolved by its name, neither by its class loader nor from the constant pool of any other class.
+         *
+         * @param binaryRepresentation The binary representation of the hidden class.
+         * @param classData            The class data to associate with the hidden class.
+         * @param initialize           {@code true} if the hidden class should be initialized upon its definition.
+         * @return The defined hidden class.
+         */
+        public Class<?> injectHidden(byte[] binaryRepresentation, Object classData, boolean initialize) {
+            if (!isHiddenClassAvailable()) {
+                throw new IllegalStateException("The current VM does not support hidden classes with class data");
+            }
+            try {
+                return METHOD_HANDLES_LOOKUP.lookupClass(METHOD_HANDLES_LOOKUP.defineHiddenClassWithClassData(lookup,
+                        binaryRepresentation,
+                        classData,
+                        initialize,
+                        CLASS_OPTION.toArray(0)));
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
         /**
          * Checks if the current VM is capable of defining classes using a method handle lookup.
          *
@@ -1721,6 +1751,15 @@ public interface ClassInjector {
             return JavaType.MODULE.isAvailable();
         }
 
+        /**
+         * Checks if the current VM is capable of defining hidden classes with class data using a method handle lookup.
+         *
+         * @return {@code true} if the current VM is capable of defining hidden classes with class data using a lookup.
+         */
+        public static boolean isHiddenClassAvailable() {
+            return ClassFileVersion.ofThisVm(ClassFileVersion.JAVA_V5).isAtLeast(ClassFileVersion.JAVA_V16);
+        }
+
         /**
          * A dispatcher for {@code java.lang.invoke.MethodHandles}.
          */
@@ -1769,6 +1808,39 @@ public interface ClassInjector {
                  * @throws IllegalAccessException If the definition implies an illegal access.
                  */
                 Class<?> defineClass(Object lookup, byte[] binaryRepresentation) throws IllegalAccessException;
+
+                /**
+                 * Defines a hidden class with class data.
+                 *
+                 * @param lookup               The lookup instance.
+                 * @param binaryRepresentation The binary representation.
+                 * @param classData            The class data to associate with the hidden class.
+                 * @param initialize           {@code true} if the hidden class should be initialized.
+                 * @param classOption          An array of {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}s.
+                 * @return A {@code java.lang.invoke.MethodHandles$Lookup} for the hidden class.
+                 * @throws IllegalAccessException If the definition implies an illegal access.
+                 */
+                Object defineHiddenClassWithClassData(Object lookup,
+                                                      byte[] binaryRepresentation,
+                                                      Object classData,
+                                                      boolean initialize,
+                                                      @JavaDispatcher.Proxied("java.lang.invoke.MethodHandles$Lookup$ClassOption") Object[] classOption) throws IllegalAccessException;
+
+                /**
+                 * A dispatcher for {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}.
+                 */
+                @JavaDispatcher.Proxied("java.lang.invoke.MethodHandles$Lookup$ClassOption")
+                interface ClassOption {
+
+                    /**
+                     * Creates an array of type {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}.
+                     *
+                     * @param size The array's size.
+                     * @return An array of type {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}.
+                     */
+                    @JavaDispatcher.Container
+                    Object[] toArray(int size);
+                }
             }
         }
     }
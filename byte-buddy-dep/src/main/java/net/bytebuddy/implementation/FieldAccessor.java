@@ -83,6 +83,11 @@ public abstract class FieldAccessor implements Implementation {
      */
     protected final Assigner.Typing typing;
 
+    /**
+     * The field access resolver to use.
+     */
+    protected final FieldAccessResolver fieldAccessResolver;
+
     /**
      * Creates a new field accessor.
      *
@@ -91,9 +96,22 @@ public abstract class FieldAccessor implements Implementation {
      * @param typing        Indicates if dynamic type castings should be attempted for incompatible assignments.
      */
     protected FieldAccessor(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing) {
+        this(fieldLocation, assigner, typing, FieldAccessResolver.Direct.INSTANCE);
+    }
+
+    /**
+     * Creates a new field accessor.
+     *
+     * @param fieldLocation       The field's location.
+     * @param assigner            The assigner to use.
+     * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+     * @param fieldAccessResolver The field access resolver to use.
+     */
+    protected FieldAccessor(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing, FieldAccessResolver fieldAccessResolver) {
         this.fieldLocation = fieldLocation;
         this.assigner = assigner;
         this.typing = typing;
+        this.fieldAccessResolver = fieldAccessResolver;
     }
 
     /**
@@ -345,6 +363,68 @@ public abstract class FieldAccessor implements Implementation {
         }
     }
 
+    /**
+     * A field access resolver determines the byte code instructions that are used for reading or writing a field.
+     */
+    public interface FieldAccessResolver {
+
+        /**
+         * Resolves the access to a field.
+         *
+         * @param fieldDescription The field being accessed.
+         * @return A field access definition for the given field.
+         */
+        FieldAccess.Defined resolve(FieldDescription fieldDescription);
+
+        /**
+         * A field access resolver that accesses fields directly by their field instructions.
+         */
+        enum Direct implements FieldAccessResolver {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public FieldAccess.Defined resolve(FieldDescription fieldDescription) {
+                return FieldAccess.forField(fieldDescription);
+            }
+        }
+
+        /**
+         * A field access resolver that accesses fields via a {@code java.lang.invoke.VarHandle} that is loaded as a dynamic
+         * constant, what requires a class file version of at least Java 11. Doing so allows for reading or writing a field
+         * with a specific memory order without defining accessor methods.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForVarHandle implements FieldAccessResolver {
+
+            /**
+             * The access mode to apply.
+             */
+            private final FieldAccess.VarHandleAccess varHandleAccess;
+
+            /**
+             * Creates a new field access resolver for a var handle.
+             *
+             * @param varHandleAccess The access mode to apply.
+             */
+            public ForVarHandle(FieldAccess.VarHandleAccess varHandleAccess) {
+                this.varHandleAccess = varHandleAccess;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public FieldAccess.Defined resolve(FieldDescription fieldDescription) {
+                return FieldAccess.forField(fieldDescription, varHandleAccess);
+            }
+        }
+    }
+
     /**
      * A field name extractor is responsible for determining a field name to a method that is implemented
      * to access this method.
@@ -652,6 +732,24 @@ public abstract class FieldAccessor implements Implementation {
          * @return This field accessor with the given assigner and runtime type use configuration.
          */
         PropertyConfigurable withAssigner(Assigner assigner, Assigner.Typing typing);
+
+        /**
+         * Returns a field accessor that is identical to this field accessor but that reads and writes the field via
+         * a {@code java.lang.invoke.VarHandle} using the given access mode. This requires a class file version of at
+         * least Java 11.
+         *
+         * @param varHandleAccess The access mode to apply.
+         * @return This field accessor where the field is accessed via a var handle.
+         */
+        AssignerConfigurable withVarHandle(FieldAccess.VarHandleAccess varHandleAccess);
+
+        /**
+         * Returns a field accessor that is identical to this field accessor but that uses the given field access resolver.
+         *
+         * @param fieldAccessResolver The field access resolver to use.
+         * @return This field accessor using the given field access resolver.
+         */
+        AssignerConfigurable with(FieldAccessResolver fieldAccessResolver);
     }
 
     /**
@@ -697,18 +795,19 @@ public abstract class FieldAccessor implements Implementation {
          * @param fieldLocation The field's location.
          */
         protected ForImplicitProperty(FieldLocation fieldLocation) {
-            this(fieldLocation, Assigner.DEFAULT, Assigner.Typing.STATIC);
+            this(fieldLocation, Assigner.DEFAULT, Assigner.Typing.STATIC, FieldAccessResolver.Direct.INSTANCE);
         }
 
         /**
          * Creates a field accessor for an implicit property.
          *
-         * @param fieldLocation The field's location.
-         * @param assigner      The assigner to use.
-         * @param typing        The typing to use.
+         * @param fieldLocation       The field's location.
+         * @param assigner            The assigner to use.
+         * @param typing              The typing to use.
+         * @param fieldAccessResolver The field access resolver to use.
          */
-        private ForImplicitProperty(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing) {
-            super(fieldLocation, assigner, typing);
+        private ForImplicitProperty(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing, FieldAccessResolver fieldAccessResolver) {
+            super(fieldLocation, assigner, typing, fieldAccessResolver);
         }
 
         /**
@@ -735,6 +834,7 @@ public abstract class FieldAccessor implements Implementation {
             return new ForSetter.OfParameterValue(fieldLocation,
                     assigner,
                     typing,
+                    fieldAccessResolver,
                     ForSetter.TerminationHandler.RETURNING,
                     index);
         }
@@ -743,7 +843,7 @@ public abstract class FieldAccessor implements Implementation {
          * {@inheritDoc}
          */
         public Composable setsDefaultValue() {
-            return new ForSetter.OfDefaultValue(fieldLocation, assigner, typing, ForSetter.TerminationHandler.RETURNING);
+            return new ForSetter.OfDefaultValue(fieldLocation, assigner, typing, fieldAccessResolver, ForSetter.TerminationHandler.RETURNING);
         }
 
         /**
@@ -794,6 +894,7 @@ public abstract class FieldAccessor implements Implementation {
             return new ForSetter.OfConstantValue(fieldLocation,
                     assigner,
                     typing,
+                    fieldAccessResolver,
                     ForSetter.TerminationHandler.RETURNING,
                     typeDescription,
                     stackManipulation);
@@ -813,6 +914,7 @@ public abstract class FieldAccessor implements Implementation {
             return new ForSetter.OfReferenceValue(fieldLocation,
                     assigner,
                     typing,
+                    fieldAccessResolver,
                     ForSetter.TerminationHandler.RETURNING,
                     value,
                     name);
@@ -832,6 +934,7 @@ public abstract class FieldAccessor implements Implementation {
             return new ForSetter.OfFieldValue(fieldLocation,
                     assigner,
                     typing,
+                    fieldAccessResolver,
                     ForSetter.TerminationHandler.RETURNING,
                     new FieldLocation.Absolute(fieldDescription));
         }
@@ -850,6 +953,7 @@ public abstract class FieldAccessor implements Implementation {
             return new ForSetter.OfFieldValue(fieldLocation,
                     assigner,
                     typing,
+                    fieldAccessResolver,
                     ForSetter.TerminationHandler.RETURNING,
                     new FieldLocation.Relative(Collections.singletonList(fieldNameExtractor)));
         }
@@ -858,7 +962,7 @@ public abstract class FieldAccessor implements Implementation {
          * {@inheritDoc}
          */
         public PropertyConfigurable withAssigner(Assigner assigner, Assigner.Typing typing) {
-            return new ForImplicitProperty(fieldLocation, assigner, typing);
+            return new ForImplicitProperty(fieldLocation, assigner, typing, fieldAccessResolver);
         }
 
         /**
@@ -879,7 +983,21 @@ public abstract class FieldAccessor implements Implementation {
          * {@inheritDoc}
          */
         public AssignerConfigurable in(FieldLocator.Factory fieldLocatorFactory) {
-            return new ForImplicitProperty(fieldLocation.with(fieldLocatorFactory), assigner, typing);
+            return new ForImplicitProperty(fieldLocation.with(fieldLocatorFactory), assigner, typing, fieldAccessResolver);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AssignerConfigurable withVarHandle(FieldAccess.VarHandleAccess varHandleAccess) {
+            return with(new FieldAccessResolver.ForVarHandle(varHandleAccess));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public AssignerConfigurable with(FieldAccessResolver fieldAccessResolver) {
+            return new ForImplicitProperty(fieldLocation, assigner, typing, fieldAccessResolver);
         }
 
         /**
@@ -919,7 +1037,7 @@ public abstract class FieldAccessor implements Implementation {
                 if (!instrumentedMethod.getReturnType().represents(void.class)) {
                     implementation = new StackManipulation.Compound(
                             initialization,
-                            FieldAccess.forField(fieldDescription).read(),
+                            fieldAccessResolver.resolve(fieldDescription).read(),
                             assigner.assign(fieldDescription.getType(), instrumentedMethod.getReturnType(), typing),
                             MethodReturn.of(instrumentedMethod.getReturnType())
                     );
@@ -931,7 +1049,7 @@ public abstract class FieldAccessor implements Implementation {
                             initialization,
                             MethodVariableAccess.load(instrumentedMethod.getParameters().get(0)),
                             assigner.assign(instrumentedMethod.getParameters().get(0).getType(), fieldDescription.getType(), typing),
-                            FieldAccess.forField(fieldDescription).write(),
+                            fieldAccessResolver.resolve(fieldDescription).write(),
                             MethodReturn.VOID
                     );
                 } else {
@@ -961,13 +1079,18 @@ public abstract class FieldAccessor implements Implementation {
         /**
          * Creates a new field accessor for a setter instrumentation.
          *
-         * @param fieldLocation      The field's location.
-         * @param assigner           The assigner to use.
-         * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-         * @param terminationHandler The termination handler to apply.
+         * @param fieldLocation       The field's location.
+         * @param assigner            The assigner to use.
+         * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+         * @param fieldAccessResolver The field access resolver to use.
+         * @param terminationHandler  The termination handler to apply.
          */
-        protected ForSetter(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing, TerminationHandler terminationHandler) {
-            super(fieldLocation, assigner, typing);
+        protected ForSetter(FieldLocation fieldLocation,
+                            Assigner assigner,
+                            Assigner.Typing typing,
+                            FieldAccessResolver fieldAccessResolver,
+                            TerminationHandler terminationHandler) {
+            super(fieldLocation, assigner, typing, fieldAccessResolver);
             this.terminationHandler = terminationHandler;
         }
 
@@ -1054,18 +1177,20 @@ public abstract class FieldAccessor implements Implementation {
             /**
              * Creates a new setter instrumentation for a parameter value.
              *
-             * @param fieldLocation      The field's location.
-             * @param assigner           The assigner to use.
-             * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-             * @param terminationHandler The termination handler to apply.
-             * @param index              The parameter's index.
+             * @param fieldLocation       The field's location.
+             * @param assigner            The assigner to use.
+             * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+             * @param fieldAccessResolver The field access resolver to use.
+             * @param terminationHandler  The termination handler to apply.
+             * @param index               The parameter's index.
              */
             protected OfParameterValue(FieldLocation fieldLocation,
                                        Assigner assigner,
                                        Assigner.Typing typing,
+                                       FieldAccessResolver fieldAccessResolver,
                                        TerminationHandler terminationHandler,
                                        int index) {
-                super(fieldLocation, assigner, typing, terminationHandler);
+                super(fieldLocation, assigner, typing, fieldAccessResolver, terminationHandler);
                 this.index = index;
             }
 
@@ -1108,6 +1233,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound(new OfParameterValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         index), implementation);
             }
@@ -1119,6 +1245,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound.Composable(new OfParameterValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         index), implementation);
             }
@@ -1132,13 +1259,18 @@ public abstract class FieldAccessor implements Implementation {
             /**
              * Creates an intrumentation that sets a field's default value.
              *
-             * @param fieldLocation      The field's location.
-             * @param assigner           The assigner to use.
-             * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-             * @param terminationHandler The termination handler to apply.
-             */
-            protected OfDefaultValue(FieldLocation fieldLocation, Assigner assigner, Assigner.Typing typing, TerminationHandler terminationHandler) {
-                super(fieldLocation, assigner, typing, terminationHandler);
+             * @param fieldLocation       The field's location.
+             * @param assigner            The assigner to use.
+             * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+             * @param fieldAccessResolver The field access resolver to use.
+             * @param terminationHandler  The termination handler to apply.
+             */
+            protected OfDefaultValue(FieldLocation fieldLocation,
+                                     Assigner assigner,
+                                     Assigner.Typing typing,
+                                     FieldAccessResolver fieldAccessResolver,
+                                     TerminationHandler terminationHandler) {
+                super(fieldLocation, assigner, typing, fieldAccessResolver, terminationHandler);
             }
 
             /**
@@ -1173,6 +1305,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound(new OfDefaultValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL), implementation);
             }
 
@@ -1183,6 +1316,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound.Composable(new OfDefaultValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL), implementation);
             }
         }
@@ -1206,20 +1340,22 @@ public abstract class FieldAccessor implements Implementation {
             /**
              * Creates a setter instrumentation for setting a constant value.
              *
-             * @param fieldLocation      The field's location.
-             * @param assigner           The assigner to use.
-             * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-             * @param terminationHandler The termination handler to apply.
-             * @param typeDescription    The value's type.
-             * @param stackManipulation  A stack manipulation to load the constant value.
+             * @param fieldLocation       The field's location.
+             * @param assigner            The assigner to use.
+             * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+             * @param fieldAccessResolver The field access resolver to use.
+             * @param terminationHandler  The termination handler to apply.
+             * @param typeDescription     The value's type.
+             * @param stackManipulation   A stack manipulation to load the constant value.
              */
             protected OfConstantValue(FieldLocation fieldLocation,
                                       Assigner assigner,
                                       Assigner.Typing typing,
+                                      FieldAccessResolver fieldAccessResolver,
                                       TerminationHandler terminationHandler,
                                       TypeDescription.Generic typeDescription,
                                       StackManipulation stackManipulation) {
-                super(fieldLocation, assigner, typing, terminationHandler);
+                super(fieldLocation, assigner, typing, fieldAccessResolver, terminationHandler);
                 this.typeDescription = typeDescription;
                 this.stackManipulation = stackManipulation;
             }
@@ -1256,6 +1392,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound(new OfConstantValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         typeDescription,
                         stackManipulation), implementation);
@@ -1268,6 +1405,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound.Composable(new OfConstantValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         typeDescription,
                         stackManipulation), implementation);
@@ -1298,20 +1436,22 @@ public abstract class FieldAccessor implements Implementation {
             /**
              * Creates a setter instrumentation for setting a value stored in a static field of the instrumented type.
              *
-             * @param fieldLocation      The field's location.
-             * @param assigner           The assigner to use.
-             * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-             * @param terminationHandler The termination handler to apply.
-             * @param value              The value to store.
-             * @param name               The name of the field to store the reference in.
+             * @param fieldLocation       The field's location.
+             * @param assigner            The assigner to use.
+             * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+             * @param fieldAccessResolver The field access resolver to use.
+             * @param terminationHandler  The termination handler to apply.
+             * @param value               The value to store.
+             * @param name                The name of the field to store the reference in.
              */
             protected OfReferenceValue(FieldLocation fieldLocation,
                                        Assigner assigner,
                                        Assigner.Typing typing,
+                                       FieldAccessResolver fieldAccessResolver,
                                        TerminationHandler terminationHandler,
                                        Object value,
                                        String name) {
-                super(fieldLocation, assigner, typing, terminationHandler);
+                super(fieldLocation, assigner, typing, fieldAccessResolver, terminationHandler);
                 this.value = value;
                 this.name = name;
             }
@@ -1356,6 +1496,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound(new OfReferenceValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         value,
                         name), implementation);
@@ -1368,6 +1509,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound.Composable(new OfReferenceValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         value,
                         name), implementation);
@@ -1388,18 +1530,20 @@ public abstract class FieldAccessor implements Implementation {
             /**
              * Creates a setter that sets another field value.
              *
-             * @param fieldLocation      The field's location.
-             * @param assigner           The assigner to use.
-             * @param typing             Indicates if dynamic type castings should be attempted for incompatible assignments.
-             * @param terminationHandler The termination handler to apply.
-             * @param target             The target field locator.
+             * @param fieldLocation       The field's location.
+             * @param assigner            The assigner to use.
+             * @param typing              Indicates if dynamic type castings should be attempted for incompatible assignments.
+             * @param fieldAccessResolver The field access resolver to use.
+             * @param terminationHandler  The termination handler to apply.
+             * @param target              The target field locator.
              */
             protected OfFieldValue(FieldLocation fieldLocation,
                                    Assigner assigner,
                                    Assigner.Typing typing,
+                                   FieldAccessResolver fieldAccessResolver,
                                    TerminationHandler terminationHandler,
                                    FieldLocation target) {
-                super(fieldLocation, assigner, typing, terminationHandler);
+                super(fieldLocation, assigner, typing, fieldAccessResolver, terminationHandler);
                 this.target = target;
             }
 
@@ -1445,6 +1589,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound(new OfFieldValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         target), implementation);
             }
@@ -1456,6 +1601,7 @@ public abstract class FieldAccessor implements Implementation {
                 return new Compound.Composable(new OfFieldValue(fieldLocation,
                         assigner,
                         typing,
+                        fieldAccessResolver,
                         TerminationHandler.NON_OPERATIONAL,
                         target), implementation);
             }
@@ -1516,7 +1662,7 @@ public abstract class FieldAccessor implements Implementation {
                                 ? StackManipulation.Trivial.INSTANCE
                                 : MethodVariableAccess.loadThis(),
                         stackManipulation,
-                        FieldAccess.forField(fieldDescription).write(),
+                        fieldAccessResolver.resolve(fieldDescription).write(),
                         terminationHandler.resolve(instrumentedMethod)
                 ).apply(methodVisitor, implementationContext).getMaximalSize(), instrumentedMethod.getStackSize());
             }
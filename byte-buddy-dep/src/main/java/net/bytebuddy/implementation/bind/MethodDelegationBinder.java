@@ -32,6 +32,8 @@ import org.objectweb.asm.MethodVisitor;
 
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A method delegation binder is responsible for creating a method binding for a <i>source method</i> to a
@@ -775,6 +777,140 @@ public interface MethodDelegationBinder {
                 return methodBinding;
             }
         }
+
+        /**
+         * <p>
+         * A binding resolver that memorizes the outcome of a delegate binding resolver. The outcome is cached by the ambiguity resolver,
+         * the signature token of the source method and the target methods of the valid bindings such that the ambiguity resolution does not need
+         * to be repeated if a method of the same signature is bound to the same candidates, for example when instrumenting many types
+         * that implement the same interface. This is only correct if the applied {@link AmbiguityResolver} does not consider any
+         * other properties of the source method than its signature, what is the case for all resolvers that are contained in
+         * {@link AmbiguityResolver#DEFAULT}. Bindings that cannot be resolved are not cached. The cache is cleared once it reaches
+         * its maximum size.
+         * </p>
+         * <p>
+         * <b>Important</b>: This resolver only avoids repeated ambiguity resolution. The bindings that are supplied to it are still
+         * created by applying all {@link net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder.ParameterBinder}s
+         * for every source and target method.
+         * </p>
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Caching implements BindingResolver {
+
+            /**
+             * The default maximum number of cached resolutions.
+             */
+            public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+            /**
+             * The delegate binding resolver.
+             */
+            private final BindingResolver delegate;
+
+            /**
+             * The maximum number of cached resolutions.
+             */
+            private final int maximumSize;
+
+            /**
+             * A cache of previously resolved bindings, mapped to the chosen target method.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final ConcurrentMap<Key, MethodDescription> cache;
+
+            /**
+             * Creates a new caching binding resolver that delegates to the {@link Default} resolver.
+             */
+            public Caching() {
+                this(Default.INSTANCE);
+            }
+
+            /**
+             * Creates a new caching binding resolver.
+             *
+             * @param delegate The delegate binding resolver.
+             */
+            public Caching(BindingResolver delegate) {
+                this(delegate, DEFAULT_MAXIMUM_SIZE);
+            }
+
+            /**
+             * Creates a new caching binding resolver.
+             *
+             * @param delegate    The delegate binding resolver.
+             * @param maximumSize The maximum number of cached resolutions.
+             */
+            public Caching(BindingResolver delegate, int maximumSize) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+                }
+                this.delegate = delegate;
+                this.maximumSize = maximumSize;
+                cache = new ConcurrentHashMap<Key, MethodDescription>();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public MethodBinding resolve(AmbiguityResolver ambiguityResolver, MethodDescription source, List<MethodBinding> targets) {
+                if (targets.size() == 1) {
+                    return delegate.resolve(ambiguityResolver, source, targets);
+                }
+                List<MethodDescription> candidates = new ArrayList<MethodDescription>(targets.size());
+                for (MethodBinding target : targets) {
+                    candidates.add(target.getTarget());
+                }
+                Key key = new Key(ambiguityResolver, source.asSignatureToken(), candidates);
+                MethodDescription resolved = cache.get(key);
+                if (resolved != null) {
+                    int index = candidates.indexOf(resolved);
+                    if (index != -1) {
+                        return targets.get(index);
+                    }
+                }
+                MethodBinding methodBinding = delegate.resolve(ambiguityResolver, source, targets);
+                if (cache.size() >= maximumSize) {
+                    cache.clear();
+                }
+                cache.put(key, methodBinding.getTarget());
+                return methodBinding;
+            }
+
+            /**
+             * A key that identifies a resolution by its ambiguity resolver, source signature and the bound candidates.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class Key {
+
+                /**
+                 * The ambiguity resolver that is applied.
+                 */
+                private final AmbiguityResolver ambiguityResolver;
+
+                /**
+                 * The signature token of the source method.
+                 */
+                private final MethodDescription.SignatureToken signatureToken;
+
+                /**
+                 * The target methods of all valid bindings in their original order.
+                 */
+                private final List<MethodDescription> candidates;
+
+                /**
+                 * Creates a new key.
+                 *
+                 * @param ambiguityResolver The ambiguity resolver that is applied.
+                 * @param signatureToken    The signature token of the source method.
+                 * @param candidates        The target methods of all valid bindings in their original order.
+                 */
+                protected Key(AmbiguityResolver ambiguityResolver, MethodDescription.SignatureToken signatureToken, List<MethodDescription> candidates) {
+                    this.ambiguityResolver = ambiguityResolver;
+                    this.signatureToken = signatureToken;
+                    this.candidates = candidates;
+                }
+            }
+        }
     }
 
     /**
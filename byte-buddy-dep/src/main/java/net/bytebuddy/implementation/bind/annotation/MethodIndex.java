@@ -0,0 +1,421 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.implementation.bind.annotation;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.bind.MethodDelegationBinder;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.utility.nullability.MaybeNull;
+
+import java.io.Serializable;
+import java.lang.annotation.*;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Binds a dense index of the intercepted method to an {@code int} parameter. Each method of an instrumented type is assigned
+ * an index at generation time, such that an interceptor that is shared by many methods can {@code switch} on the index or use it
+ * for accessing an array instead of deriving its behavior from a {@link java.lang.reflect.Method} or {@link String} value that
+ * is bound by the {@link Origin} annotation.
+ * </p>
+ * <p>
+ * Indexed methods are all non-synthetic methods of the instrumented type's method graph, as resolved by {@link MethodGraph.Compiler#DEFAULT},
+ * and the type's declared constructors, {@code static} and {@code private} methods. The index of a method is its position within
+ * these methods when sorted by their internal name and descriptor. As a result, the index is stable for a given type and independent
+ * of the order in which methods are declared. A table of the indexed methods can be resolved by {@link Table}, or be assigned to a
+ * static field of the loaded type by registering an {@link Initializer}.
+ * </p>
+ * <p>
+ * <b>Important</b>: If the instrumented type is changed by adding or removing methods, the indices of other methods might change.
+ * </p>
+ *
+ * @see net.bytebuddy.implementation.MethodDelegation
+ * @see net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface MethodIndex {
+
+    /**
+     * A binder for binding parameters that are annotated with {@link MethodIndex}.
+     */
+    enum Binder implements TargetMethodAnnotationDrivenBinder.ParameterBinder<MethodIndex> {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<MethodIndex> getHandledType() {
+            return MethodIndex.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public MethodDelegationBinder.ParameterBinding<?> bind(AnnotationDescription.Loadable<MethodIndex> annotation,
+                                                               MethodDescription source,
+                                                               ParameterDescription target,
+                                                               Implementation.Target implementationTarget,
+                                                               Assigner assigner,
+                                                               Assigner.Typing typing) {
+            if (!target.getType().represents(int.class)) {
+                throw new IllegalStateException(target + " uses a MethodIndex annotation on a non-int type");
+            }
+            int index = Table.indexOf(implementationTarget, source);
+            return index == -1
+                    ? MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE
+                    : new MethodDelegationBinder.ParameterBinding.Anonymous(IntegerConstant.forValue(index));
+        }
+    }
+
+    /**
+     * Resolves the methods of a type in the order of their index.
+     */
+    class Table {
+
+        /**
+         * A comparator for sorting methods by their index.
+         */
+        private static final Comparator<MethodDescription> COMPARATOR = new Comparator<MethodDescription>() {
+            /**
+             * {@inheritDoc}
+             */
+            public int compare(MethodDescription left, MethodDescription right) {
+                int result = left.getInternalName().compareTo(right.getInternalName());
+                return result == 0
+                        ? left.asSignatureToken().getDescriptor().compareTo(right.asSignatureToken().getDescriptor())
+                        : result;
+            }
+        };
+
+        /**
+         * A cache of indexed methods by their implementation target.
+         */
+        private static final Cache CACHE = new Cache();
+
+        /**
+         * A utility class that is not meant for instantiation.
+         */
+        private Table() {
+            throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+        }
+
+        /**
+         * Resolves all methods of a type that are assigned an index, in the order of their index.
+         *
+         * @param typeDescription The type for which to resolve the indexed methods.
+         * @return A list of the indexed methods where each method's index is its position within the list.
+         */
+        public static List<MethodDescription> of(TypeDescription typeDescription) {
+            List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+            for (MethodGraph.Node node : MethodGraph.Compiler.DEFAULT.compile(typeDescription).listNodes()) {
+                if (isIndexed(node.getRepresentative())) {
+                    methodDescriptions.add(node.getRepresentative());
+                }
+            }
+            for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+                if (!methodDescription.isVirtual() && !methodDescription.isTypeInitializer() && isIndexed(methodDescription)) {
+                    methodDescriptions.add(methodDescription);
+                }
+            }
+            Collections.sort(methodDescriptions, COMPARATOR);
+            return methodDescriptions;
+        }
+
+        /**
+         * Resolves the index of a method of a given type.
+         *
+         * @param typeDescription   The type that defines the method.
+         * @param methodDescription The method for which to resolve the index.
+         * @return The method's index or {@code -1} if the method is not indexed.
+         */
+        public static int indexOf(TypeDescription typeDescription, MethodDescription methodDescription) {
+            if (!isIndexed(methodDescription)) {
+                return -1;
+            }
+            int index = Collections.binarySearch(of(typeDescription), methodDescription, COMPARATOR);
+            return index < 0
+                    ? -1
+                    : index;
+        }
+
+        /**
+         * Resolves the index of a method of an implementation target's instrumented type. The indexed methods are only resolved
+         * once for every implementation target.
+         *
+         * @param implementationTarget The implementation target of the instrumented type.
+         * @param methodDescription    The method for which to resolve the index.
+         * @return The method's index or {@code -1} if the method is not indexed.
+         */
+        public static int indexOf(Implementation.Target implementationTarget, MethodDescription methodDescription) {
+            if (!isIndexed(methodDescription)) {
+                return -1;
+            }
+            int index = Collections.binarySearch(CACHE.find(implementationTarget), methodDescription, COMPARATOR);
+            return index < 0
+                    ? -1
+                    : index;
+        }
+
+        /**
+         * Resolves the loaded methods and constructors of a loaded type in the order of their index.
+         *
+         * @param type The loaded type for which to resolve the indexed methods.
+         * @return An array of the indexed methods and constructors where each member's index is its position within the array.
+         */
+        public static Member[] of(Class<?> type) {
+            List<MethodDescription> methodDescriptions = of(TypeDescription.ForLoadedType.of(type));
+            Member[] member = new Member[methodDescriptions.size()];
+            for (int index = 0; index < member.length; index++) {
+                MethodDescription.InDefinedShape methodDescription = methodDescriptions.get(index).asDefined();
+                if (methodDescription instanceof MethodDescription.ForLoadedMethod) {
+                    member[index] = ((MethodDescription.ForLoadedMethod) methodDescription).getLoadedMethod();
+                } else if (methodDescription.isConstructor()) {
+                    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                        if (new MethodDescription.ForLoadedConstructor(constructor).getDescriptor().equals(methodDescription.getDescriptor())) {
+                            member[index] = constructor;
+                            break;
+                        }
+                    }
+                }
+                if (member[index] == null) {
+                    throw new IllegalStateException("Cannot resolve loaded representation of " + methodDescription);
+                }
+            }
+            return member;
+        }
+
+        /**
+         * Determines if a method is assigned an index.
+         *
+         * @param methodDescription The method to consider.
+         * @return {@code true} if the method is assigned an index.
+         */
+        private static boolean isIndexed(MethodDescription methodDescription) {
+            return !methodDescription.isSynthetic() && !methodDescription.isBridge();
+        }
+
+        /**
+         * A cache of the indexed methods of implementation targets. Implementation targets are referenced weakly and compared by
+         * their identity such that an entry is removed once an instrumented type was created.
+         */
+        protected static class Cache extends ReferenceQueue<Implementation.Target> {
+
+            /**
+             * The indexed methods by their {@link LookupKey} or {@link StorageKey}.
+             */
+            private final ConcurrentMap<Object, List<MethodDescription>> methods;
+
+            /**
+             * Creates a new cache.
+             */
+            protected Cache() {
+                methods = new ConcurrentHashMap<Object, List<MethodDescription>>();
+            }
+
+            /**
+             * Finds the indexed methods of an implementation target's instrumented type or resolves them if they are not cached.
+             *
+             * @param implementationTarget The implementation target.
+             * @return The indexed methods of the implementation target's instrumented type in the order of their index.
+             */
+            @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Cross-comparison is intended.")
+            protected List<MethodDescription> find(Implementation.Target implementationTarget) {
+                List<MethodDescription> methodDescriptions = methods.get(new LookupKey(implementationTarget));
+                if (methodDescriptions == null) {
+                    expungeStaleEntries();
+                    methodDescriptions = of(implementationTarget.getInstrumentedType());
+                    methods.put(new StorageKey(implementationTarget, this), methodDescriptions);
+                }
+                return methodDescriptions;
+            }
+
+            /**
+             * Removes all entries of implementation targets that were garbage collected.
+             */
+            protected void expungeStaleEntries() {
+                Reference<?> reference;
+                while ((reference = poll()) != null) {
+                    methods.remove(reference);
+                }
+            }
+
+            /**
+             * Returns the number of cached implementation targets, including targets that were collected but not yet expunged.
+             *
+             * @return The number of cached implementation targets.
+             */
+            protected int size() {
+                return methods.size();
+            }
+
+            /**
+             * A key for looking up the indexed methods of an implementation target.
+             */
+            protected static class LookupKey {
+
+                /**
+                 * The represented implementation target.
+                 */
+                private final Implementation.Target implementationTarget;
+
+                /**
+                 * The implementation target's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new lookup key.
+                 *
+                 * @param implementationTarget The represented implementation target.
+                 */
+                protected LookupKey(Implementation.Target implementationTarget) {
+                    this.implementationTarget = implementationTarget;
+                    hashCode = System.identityHashCode(implementationTarget);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                public boolean equals(@MaybeNull Object other) {
+                    if (this == other) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        return implementationTarget == ((LookupKey) other).implementationTarget;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        return hashCode == storageKey.hashCode && implementationTarget == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * A key for storing the indexed methods of an implementation target that references the target weakly.
+             */
+            protected static class StorageKey extends WeakReference<Implementation.Target> {
+
+                /**
+                 * The implementation target's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new storage key.
+                 *
+                 * @param implementationTarget The represented implementation target.
+                 * @param referenceQueue       The reference queue to notify upon a garbage collection.
+                 */
+                protected StorageKey(Implementation.Target implementationTarget, ReferenceQueue<? super Implementation.Target> referenceQueue) {
+                    super(implementationTarget, referenceQueue);
+                    hashCode = System.identityHashCode(implementationTarget);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended.")
+                public boolean equals(@MaybeNull Object other) {
+                    if (this == other) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        LookupKey lookupKey = (LookupKey) other;
+                        return hashCode == lookupKey.hashCode && get() == lookupKey.implementationTarget;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        Implementation.Target implementationTarget = get();
+                        return hashCode == storageKey.hashCode && implementationTarget != null && implementationTarget == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A loaded type initializer that assigns the methods and constructors of a loaded type in the order of their index to a static
+     * field of the loaded type. The field must be assignable from an array of {@link Member}s.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class Initializer implements LoadedTypeInitializer, Serializable {
+
+        /**
+         * This class's serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The name of the field to assign the table to.
+         */
+        private final String fieldName;
+
+        /**
+         * Creates a new loaded type initializer for a method index table.
+         *
+         * @param fieldName The name of the field to assign the table to.
+         */
+        public Initializer(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void onLoad(Class<?> type) {
+            new LoadedTypeInitializer.ForStaticField(fieldName, Table.of(type)).onLoad(type);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isAlive() {
+            return true;
+        }
+    }
+}
@@ -98,6 +98,16 @@ public @interface Origin {
      */
     boolean privileged() default false;
 
+    /**
+     * Determines if a cached {@link Method} or {@link Constructor} value is resolved lazily, upon its first use, rather than within the
+     * instrumented type's type initializer. For class files of at least version 11, such values are stored as dynamic constants within
+     * the instrumented type's constant pool. For older class file versions, this property is ignored. This property is also ignored if
+     * the value is not cached or if the value is resolved using an {@code java.security.AccessController}.
+     *
+     * @return {@code true} if a cached method or constructor value should be resolved lazily.
+     */
+    boolean lazy() default false;
+
     /**
      * A binder for binding parameters that are annotated with {@link net.bytebuddy.implementation.bind.annotation.Origin}.
      *
@@ -120,6 +130,11 @@ public @interface Origin {
          */
         private static final MethodDescription.InDefinedShape PRIVILEGED;
 
+        /**
+         * A description of the {@link Origin#lazy()} method.
+         */
+        private static final MethodDescription.InDefinedShape LAZY;
+
         /*
          * Resolves annotation properties.
          */
@@ -127,6 +142,7 @@ public @interface Origin {
             MethodList<MethodDescription.InDefinedShape> methods = TypeDescription.ForLoadedType.of(Origin.class).getDeclaredMethods();
             CACHE = methods.filter(named("cache")).getOnly();
             PRIVILEGED = methods.filter(named("privileged")).getOnly();
+            LAZY = methods.filter(named("lazy")).getOnly();
         }
 
         /**
@@ -137,6 +153,11 @@ public @interface Origin {
          * @return An appropriate stack manipulation.
          */
         private static StackManipulation methodConstant(AnnotationDescription.Loadable<Origin> annotation, MethodDescription.InDefinedShape methodDescription) {
+            if (annotation.getValue(CACHE).resolve(Boolean.class)
+                    && annotation.getValue(LAZY).resolve(Boolean.class)
+                    && !annotation.getValue(PRIVILEGED).resolve(Boolean.class)) {
+                return MethodConstant.ofLazy(methodDescription);
+            }
             MethodConstant.CanCache methodConstant = annotation.getValue(PRIVILEGED).resolve(Boolean.class)
                     ? MethodConstant.ofPrivileged(methodDescription)
                     : MethodConstant.of(methodDescription);
@@ -180,6 +180,7 @@ public class TargetMethodAnnotationDrivenBinder implements MethodDelegationBinde
                 FieldGetterHandle.Binder.INSTANCE,
                 FieldSetterHandle.Binder.INSTANCE,
                 StubValue.Binder.INSTANCE,
+                MethodIndex.Binder.INSTANCE,
                 Empty.Binder.INSTANCE));
 
         /**
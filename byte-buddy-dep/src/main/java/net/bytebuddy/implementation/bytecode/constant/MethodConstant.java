@@ -16,6 +16,8 @@
 package net.bytebuddy.implementation.bytecode.constant;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
@@ -27,6 +29,7 @@ import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
 import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
 import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.nullability.MaybeNull;
 import org.objectweb.asm.MethodVisitor;
 
@@ -128,6 +131,24 @@ public abstract class MethodConstant extends StackManipulation.AbstractBase {
         }
     }
 
+    /**
+     * Creates a stack manipulation that loads a method constant onto the operand stack where the method constant is resolved lazily,
+     * upon its first use. If the instrumented type is defined in a class file of at least version 11, the method constant is represented
+     * as a dynamic constant within the instrumented type's constant pool. Otherwise, or if the method's declaring type or any of
+     * its parameter types are not visible to the instrumented type, the method constant is cached in a {@code static} field as by
+     * {@link CanCache#cached()} such that the constant is resolved within the instrumented type's type initializer.
+     *
+     * @param methodDescription The method to be loaded onto the stack.
+     * @return A stack manipulation that assigns a lazily resolved method constant for the given method description.
+     */
+    public static StackManipulation ofLazy(MethodDescription.InDefinedShape methodDescription) {
+        if (methodDescription.isTypeInitializer()) {
+            return Illegal.INSTANCE;
+        } else {
+            return new LazyLookup(methodDescription);
+        }
+    }
+
     /**
      * Returns a list of type constant load operations for the given list of parameters.
      *
@@ -442,6 +463,62 @@ public abstract class MethodConstant extends StackManipulation.AbstractBase {
         }
     }
 
+    /**
+     * Loads a method constant as a dynamic constant that is resolved upon its first use, if possible.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    protected static class LazyLookup implements StackManipulation {
+
+        /**
+         * The method constant to load.
+         */
+        private final MethodDescription.InDefinedShape methodDescription;
+
+        /**
+         * Creates a new lazy lookup.
+         *
+         * @param methodDescription The method constant to load.
+         */
+        protected LazyLookup(MethodDescription.InDefinedShape methodDescription) {
+            this.methodDescription = methodDescription;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isValid() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            MethodConstant methodConstant = methodDescription.isConstructor()
+                    ? new ForConstructor(methodDescription)
+                    : new ForMethod(methodDescription);
+            if (!implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11)
+                    || !methodDescription.getDeclaringType().isVisibleTo(implementationContext.getInstrumentedType())) {
+                return ((CanCache) methodConstant).cached().apply(methodVisitor, implementationContext);
+            }
+            List<Object> constants = new ArrayList<Object>(methodDescription.getParameters().size() + 2);
+            constants.add(methodDescription.getDeclaringType());
+            if (!methodDescription.isConstructor()) {
+                constants.add(methodDescription.getInternalName());
+            }
+            for (TypeDescription parameterType : methodDescription.getParameters().asTypeList().asErasures()) {
+                if (parameterType.isPrimitive()) {
+                    constants.add(JavaConstant.Dynamic.ofPrimitiveType(parameterType));
+                } else if (parameterType.isVisibleTo(implementationContext.getInstrumentedType())) {
+                    constants.add(parameterType);
+                } else {
+                    return ((CanCache) methodConstant).cached().apply(methodVisitor, implementationContext);
+                }
+            }
+            return new JavaConstantValue(JavaConstant.Dynamic.ofInvocation(methodConstant.accessorMethod(), constants)).apply(methodVisitor, implementationContext);
+        }
+    }
+
     /**
      * Represents a cached method for a {@link net.bytebuddy.implementation.bytecode.constant.MethodConstant}.
      */
@@ -15,6 +15,7 @@
  */
 package net.bytebuddy.implementation.bytecode.member;
 
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.enumeration.EnumerationDescription;
 import net.bytebuddy.description.field.FieldDescription;
@@ -24,6 +25,8 @@ import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.StackSize;
 import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.constant.JavaConstantValue;
+import net.bytebuddy.utility.JavaConstant;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -115,6 +118,24 @@ public enum FieldAccess {
                 : OfGenericField.of(fieldDescription, forField(declaredField));
     }
 
+    /**
+     * Creates a field access representation for a given field that reads and writes the field via a {@code java.lang.invoke.VarHandle}
+     * which is loaded as a dynamic constant. Since equal dynamic constants are shared within a class's constant pool, a single handle
+     * is resolved per accessed field and class. This allows for accessing a field using a specific memory order without requiring an
+     * accessor method. Using this field access requires a class file version of at least Java 11. If the field's return type derives
+     * from its declared shape, the value is additionally casted to the generically resolved field.
+     *
+     * @param fieldDescription The field to be accessed.
+     * @param varHandleAccess  The access mode to apply when reading or writing the field.
+     * @return A field access definition for the given field.
+     */
+    public static Defined forField(FieldDescription fieldDescription, VarHandleAccess varHandleAccess) {
+        FieldDescription.InDefinedShape declaredField = fieldDescription.asDefined();
+        return fieldDescription.getType().asErasure().equals(declaredField.getType().asErasure())
+                ? new OfVarHandle(declaredField, varHandleAccess)
+                : OfGenericField.of(fieldDescription, new OfVarHandle(declaredField, varHandleAccess));
+    }
+
     /**
      * Representation of a field access for which a getter and a setter can be created.
      */
@@ -289,4 +310,260 @@ public enum FieldAccess {
             }
         }
     }
+
+    /**
+     * Describes the access mode that is used when reading or writing a field via a {@code java.lang.invoke.VarHandle}.
+     */
+    public enum VarHandleAccess {
+
+        /**
+         * Reads and writes the field with plain memory semantics, similar to a regular field access.
+         */
+        PLAIN("get", "set"),
+
+        /**
+         * Reads and writes the field in opaque mode.
+         */
+        OPAQUE("getOpaque", "setOpaque"),
+
+        /**
+         * Reads the field with acquire and writes the field with release semantics.
+         */
+        ACQUIRE_RELEASE("getAcquire", "setRelease"),
+
+        /**
+         * Reads and writes the field with volatile semantics.
+         */
+        VOLATILE("getVolatile", "setVolatile");
+
+        /**
+         * The name of the var handle method for reading a value.
+         */
+        private final String getter;
+
+        /**
+         * The name of the var handle method for writing a value.
+         */
+        private final String setter;
+
+        /**
+         * Creates a new var handle access mode.
+         *
+         * @param getter The name of the var handle method for reading a value.
+         * @param setter The name of the var handle method for writing a value.
+         */
+        VarHandleAccess(String getter, String setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * Returns the name of the var handle method for reading a value.
+         *
+         * @return The name of the var handle method for reading a value.
+         */
+        protected String getGetter() {
+            return getter;
+        }
+
+        /**
+         * Returns the name of the var handle method for writing a value.
+         *
+         * @return The name of the var handle method for writing a value.
+         */
+        protected String getSetter() {
+            return setter;
+        }
+    }
+
+    /**
+     * A dispatcher for reading or writing a field via a {@code java.lang.invoke.VarHandle} that is loaded as a dynamic constant.
+     * The var handle is pushed onto the operand stack after any receiver or value that is already present such that the stack
+     * is reordered prior to invoking the signature polymorphic accessor.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    protected static class OfVarHandle implements Defined {
+
+        /**
+         * The internal name of the {@code java.lang.invoke.VarHandle} type.
+         */
+        private static final String VAR_HANDLE = "java/lang/invoke/VarHandle";
+
+        /**
+         * A description of the accessed field.
+         */
+        private final FieldDescription.InDefinedShape fieldDescription;
+
+        /**
+         * The access mode to apply.
+         */
+        private final VarHandleAccess varHandleAccess;
+
+        /**
+         * Creates a new var handle-based field access.
+         *
+         * @param fieldDescription A description of the accessed field.
+         * @param varHandleAccess  The access mode to apply.
+         */
+        protected OfVarHandle(FieldDescription.InDefinedShape fieldDescription, VarHandleAccess varHandleAccess) {
+            this.fieldDescription = fieldDescription;
+            this.varHandleAccess = varHandleAccess;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation read() {
+            return new Getter(fieldDescription, varHandleAccess);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation write() {
+            return new Setter(fieldDescription, varHandleAccess);
+        }
+
+        /**
+         * An abstract base implementation of a field access via a var handle.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected abstract static class AbstractVarHandleInstruction extends StackManipulation.AbstractBase {
+
+            /**
+             * A description of the accessed field.
+             */
+            protected final FieldDescription.InDefinedShape fieldDescription;
+
+            /**
+             * The access mode to apply.
+             */
+            protected final VarHandleAccess varHandleAccess;
+
+            /**
+             * Creates a new var handle instruction.
+             *
+             * @param fieldDescription A description of the accessed field.
+             * @param varHandleAccess  The access mode to apply.
+             */
+            protected AbstractVarHandleInstruction(FieldDescription.InDefinedShape fieldDescription, VarHandleAccess varHandleAccess) {
+                this.fieldDescription = fieldDescription;
+                this.varHandleAccess = varHandleAccess;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                if (implementationContext.getClassFileVersion().isLessThan(ClassFileVersion.JAVA_V11)) {
+                    throw new IllegalStateException("Cannot access " + fieldDescription + " via a var handle for class file version " + implementationContext.getClassFileVersion());
+                }
+                return doApply(methodVisitor, new JavaConstantValue(JavaConstant.Dynamic.ofVarHandle(fieldDescription)), implementationContext);
+            }
+
+            /**
+             * Applies the var handle access.
+             *
+             * @param methodVisitor         The method visitor to write to.
+             * @param varHandle             A stack manipulation that loads the var handle.
+             * @param implementationContext The implementation context to use.
+             * @return The size of the applied instructions.
+             */
+            protected abstract Size doApply(MethodVisitor methodVisitor, StackManipulation varHandle, Implementation.Context implementationContext);
+
+            /**
+             * Returns the descriptor prefix of the invoked accessor, containing the receiver type for instance fields.
+             *
+             * @return The descriptor prefix of the invoked accessor.
+             */
+            protected String toReceiverDescriptor() {
+                return fieldDescription.isStatic()
+                        ? "("
+                        : "(" + fieldDescription.getDeclaringType().getDescriptor();
+            }
+        }
+
+        /**
+         * Reads a field value via a var handle.
+         */
+        protected static class Getter extends AbstractVarHandleInstruction {
+
+            /**
+             * Creates a new getter.
+             *
+             * @param fieldDescription A description of the accessed field.
+             * @param varHandleAccess  The access mode to apply.
+             */
+            protected Getter(FieldDescription.InDefinedShape fieldDescription, VarHandleAccess varHandleAccess) {
+                super(fieldDescription, varHandleAccess);
+            }
+
+            @Override
+            protected Size doApply(MethodVisitor methodVisitor, StackManipulation varHandle, Implementation.Context implementationContext) {
+                varHandle.apply(methodVisitor, implementationContext);
+                if (!fieldDescription.isStatic()) {
+                    methodVisitor.visitInsn(Opcodes.SWAP);
+                }
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                        VAR_HANDLE,
+                        varHandleAccess.getGetter(),
+                        toReceiverDescriptor() + ")" + fieldDescription.getDescriptor(),
+                        false);
+                int sizeChange = fieldDescription.getType().getStackSize().getSize() - (fieldDescription.isStatic() ? 0 : 1);
+                return new Size(sizeChange, Math.max(1, sizeChange));
+            }
+        }
+
+        /**
+         * Writes a field value via a var handle.
+         */
+        protected static class Setter extends AbstractVarHandleInstruction {
+
+            /**
+             * Creates a new setter.
+             *
+             * @param fieldDescription A description of the accessed field.
+             * @param varHandleAccess  The access mode to apply.
+             */
+            protected Setter(FieldDescription.InDefinedShape fieldDescription, VarHandleAccess varHandleAccess) {
+                super(fieldDescription, varHandleAccess);
+            }
+
+            @Override
+            protected Size doApply(MethodVisitor methodVisitor, StackManipulation varHandle, Implementation.Context implementationContext) {
+                StackSize fieldSize = fieldDescription.getType().getStackSize();
+                int maximalSize;
+                if (fieldDescription.isStatic()) {
+                    varHandle.apply(methodVisitor, implementationContext);
+                    if (fieldSize == StackSize.SINGLE) {
+                        methodVisitor.visitInsn(Opcodes.SWAP);
+                        maximalSize = 1;
+                    } else {
+                        methodVisitor.visitInsn(Opcodes.DUP_X2);
+                        methodVisitor.visitInsn(Opcodes.POP);
+                        maximalSize = 2;
+                    }
+                } else if (fieldSize == StackSize.SINGLE) {
+                    varHandle.apply(methodVisitor, implementationContext);
+                    methodVisitor.visitInsn(Opcodes.DUP_X2);
+                    methodVisitor.visitInsn(Opcodes.POP);
+                    maximalSize = 2;
+                } else {
+                    methodVisitor.visitInsn(Opcodes.DUP2_X1);
+                    methodVisitor.visitInsn(Opcodes.POP2);
+                    varHandle.apply(methodVisitor, implementationContext);
+                    methodVisitor.visitInsn(Opcodes.SWAP);
+                    methodVisitor.visitInsn(Opcodes.DUP2_X2);
+                    methodVisitor.visitInsn(Opcodes.POP2);
+                    maximalSize = 3;
+                }
+                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                        VAR_HANDLE,
+                        varHandleAccess.getSetter(),
+                        toReceiverDescriptor() + fieldDescription.getDescriptor() + ")V",
+                        false);
+                return new Size(-1 * (fieldSize.getSize() + (fieldDescription.isStatic() ? 0 : 1)), maximalSize);
+            }
+        }
+    }
 }
@@ -140,6 +140,15 @@ public interface ElementMatcher<T> {
                 }
             }
 
+            /**
+             * Returns the element matchers that constitute this conjunction in application order.
+             *
+             * @return The element matchers that constitute this conjunction in application order.
+             */
+            List<ElementMatcher<? super W>> getMatchers() {
+                return matchers;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -209,6 +218,15 @@ public interface ElementMatcher<T> {
                 }
             }
 
+            /**
+             * Returns the element matchers that constitute this disjunction in application order.
+             *
+             * @return The element matchers that constitute this disjunction in application order.
+             */
+            List<ElementMatcher<? super W>> getMatchers() {
+                return matchers;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.NamedElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Normalizes trees of {@link ElementMatcher.Junction.Conjunction}s and {@link ElementMatcher.Junction.Disjunction}s
+ * without altering their result. Within a disjunction, matchers for equal names are merged into a single
+ * {@link StringSetMatcher} and matchers for name prefixes are merged into a single {@link StringPrefixSetMatcher}.
+ * Within any junction, duplicate matchers are removed and matchers that only consider an element's name, modifiers
+ * or sort are applied prior to any other matcher, while the order among any other matchers is retained.
+ * </p>
+ * <p>
+ * <b>Important</b>: Matchers are expected to be free of side effects. A user matcher might be invoked less often or
+ * not at all if a cheaper matcher of the same junction already determines the result.
+ * </p>
+ */
+public class ElementMatcherOptimizer {
+
+    /**
+     * An element matcher optimizer cannot be created.
+     */
+    private ElementMatcherOptimizer() {
+        throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+    }
+
+    /**
+     * Optimizes the supplied element matcher. If the matcher cannot be optimized, the supplied instance is returned.
+     *
+     * @param matcher The matcher to optimize.
+     * @param <T>     The type of the matched entity.
+     * @return A matcher that yields the same result as the supplied matcher.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ElementMatcher<T> optimize(ElementMatcher<T> matcher) {
+        return (ElementMatcher<T>) doOptimize(matcher);
+    }
+
+    /**
+     * Optimizes the supplied element matcher.
+     *
+     * @param matcher The matcher to optimize.
+     * @return A matcher that yields the same result as the supplied matcher.
+     */
+    @SuppressWarnings("unchecked")
+    private static ElementMatcher<?> doOptimize(ElementMatcher<?> matcher) {
+        if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+            List<ElementMatcher<? super Object>> original = ((ElementMatcher.Junction.Conjunction<Object>) matcher).getMatchers();
+            List<ElementMatcher<? super Object>> matchers = hoist(deduplicate(optimize(original)));
+            if (isUnchanged(original, matchers)) {
+                return matcher;
+            }
+            return matchers.size() == 1
+                    ? matchers.get(0)
+                    : new ElementMatcher.Junction.Conjunction<Object>(matchers);
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+            List<ElementMatcher<? super Object>> original = ((ElementMatcher.Junction.Disjunction<Object>) matcher).getMatchers();
+            List<ElementMatcher<? super Object>> matchers = hoist(deduplicate(mergeNames(optimize(original))));
+            if (isUnchanged(original, matchers)) {
+                return matcher;
+            }
+            return matchers.size() == 1
+                    ? matchers.get(0)
+                    : new ElementMatcher.Junction.Disjunction<Object>(matchers);
+        } else if (matcher instanceof NegatingMatcher<?>) {
+            ElementMatcher<? super Object> negated = ((NegatingMatcher<Object>) matcher).getMatcher();
+            ElementMatcher<?> optimized = doOptimize(negated);
+            return optimized == negated
+                    ? matcher
+                    : new NegatingMatcher<Object>((ElementMatcher<? super Object>) optimized);
+        } else {
+            return matcher;
+        }
+    }
+
+    /**
+     * Optimizes all supplied matchers.
+     *
+     * @param matchers The matchers to optimize.
+     * @return A list of the optimized matchers.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<ElementMatcher<? super Object>> optimize(List<ElementMatcher<? super Object>> matchers) {
+        List<ElementMatcher<? super Object>> optimized = new ArrayList<ElementMatcher<? super Object>>(matchers.size());
+        for (ElementMatcher<? super Object> matcher : matchers) {
+            optimized.add((ElementMatcher<? super Object>) doOptimize(matcher));
+        }
+        return optimized;
+    }
+
+    /**
+     * Merges all name matchers of a disjunction that match equal names or name prefixes.
+     *
+     * @param matchers The matchers of a disjunction.
+     * @return A list of matchers where name matchers are merged.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<ElementMatcher<? super Object>> mergeNames(List<ElementMatcher<? super Object>> matchers) {
+        Set<String> names = new HashSet<String>(), prefixes = new HashSet<String>();
+        int nameMatchers = 0, prefixMatchers = 0;
+        for (ElementMatcher<? super Object> matcher : matchers) {
+            if (isNameMatcher(matcher)) {
+                nameMatchers++;
+                names.addAll(toNames(((NameMatcher<?>) matcher).getMatcher()));
+            } else if (isPrefixMatcher(matcher)) {
+                prefixMatchers++;
+                prefixes.addAll(toPrefixes(((NameMatcher<?>) matcher).getMatcher()));
+            }
+        }
+        if (nameMatchers < 2 && prefixMatchers < 2) {
+            return matchers;
+        }
+        List<ElementMatcher<? super Object>> merged = new ArrayList<ElementMatcher<? super Object>>(matchers.size());
+        boolean nameMerged = false, prefixMerged = false;
+        for (ElementMatcher<? super Object> matcher : matchers) {
+            if (nameMatchers > 1 && isNameMatcher(matcher)) {
+                if (!nameMerged) {
+                    merged.add((ElementMatcher<? super Object>) (ElementMatcher<?>) new NameMatcher<NamedElement>(new StringSetMatcher(names)));
+                    nameMerged = true;
+                }
+            } else if (prefixMatchers > 1 && isPrefixMatcher(matcher)) {
+                if (!prefixMerged) {
+                    merged.add((ElementMatcher<? super Object>) (ElementMatcher<?>) new NameMatcher<NamedElement>(new StringPrefixSetMatcher(prefixes)));
+                    prefixMerged = true;
+                }
+            } else {
+                merged.add(matcher);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Checks if a matcher matches an element's name for equality with one or several names.
+     *
+     * @param matcher The matcher to check.
+     * @return {@code true} if the matcher matches an element's name for equality.
+     */
+    private static boolean isNameMatcher(ElementMatcher<?> matcher) {
+        if (!(matcher instanceof NameMatcher<?>)) {
+            return false;
+        }
+        ElementMatcher<String> nameMatcher = ((NameMatcher<?>) matcher).getMatcher();
+        return nameMatcher instanceof StringMatcher && ((StringMatcher) nameMatcher).getMode() == StringMatcher.Mode.EQUALS_FULLY
+                || nameMatcher instanceof StringSetMatcher;
+    }
+
+    /**
+     * Checks if a matcher matches an element's name for starting with one or several prefixes.
+     *
+     * @param matcher The matcher to check.
+     * @return {@code true} if the matcher matches an element's name for a prefix.
+     */
+    private static boolean isPrefixMatcher(ElementMatcher<?> matcher) {
+        if (!(matcher instanceof NameMatcher<?>)) {
+            return false;
+        }
+        ElementMatcher<String> nameMatcher = ((NameMatcher<?>) matcher).getMatcher();
+        return nameMatcher instanceof StringMatcher && ((StringMatcher) nameMatcher).getMode() == StringMatcher.Mode.STARTS_WITH
+                || nameMatcher instanceof StringPrefixSetMatcher;
+    }
+
+    /**
+     * Resolves the names of a string matcher that matches names for equality.
+     *
+     * @param matcher The string matcher.
+     * @return The names that are matched.
+     */
+    private static Set<String> toNames(ElementMatcher<String> matcher) {
+        return matcher instanceof StringSetMatcher
+                ? ((StringSetMatcher) matcher).getValues()
+                : Collections.singleton(((StringMatcher) matcher).getValue());
+    }
+
+    /**
+     * Resolves the prefixes of a string matcher that matches name prefixes.
+     *
+     * @param matcher The string matcher.
+     * @return The prefixes that are matched.
+     */
+    private static List<String> toPrefixes(ElementMatcher<String> matcher) {
+        return matcher instanceof StringPrefixSetMatcher
+                ? ((StringPrefixSetMatcher) matcher).getPrefixes()
+                : Collections.singletonList(((StringMatcher) matcher).getValue());
+    }
+
+    /**
+     * Removes duplicate matchers while retaining the order of first occurrence.
+     *
+     * @param matchers The matchers to deduplicate.
+     * @return A list of distinct matchers.
+     */
+    private static List<ElementMatcher<? super Object>> deduplicate(List<ElementMatcher<? super Object>> matchers) {
+        Set<ElementMatcher<? super Object>> distinct = new LinkedHashSet<ElementMatcher<? super Object>>(matchers);
+        return distinct.size() == matchers.size()
+                ? matchers
+                : new ArrayList<ElementMatcher<? super Object>>(distinct);
+    }
+
+    /**
+     * Moves all cheap matchers in front of all other matchers while retaining the relative order within both groups.
+     *
+     * @param matchers The matchers to sort.
+     * @return A list of matchers where cheap matchers are applied first.
+     */
+    private static List<ElementMatcher<? super Object>> hoist(List<ElementMatcher<? super Object>> matchers) {
+        List<ElementMatcher<? super Object>> cheap = new ArrayList<ElementMatcher<? super Object>>(matchers.size());
+        List<ElementMatcher<? super Object>> other = new ArrayList<ElementMatcher<? super Object>>(matchers.size());
+        for (ElementMatcher<? super Object> matcher : matchers) {
+            (isCheap(matcher) ? cheap : other).add(matcher);
+        }
+        if (cheap.isEmpty() || other.isEmpty()) {
+            return matchers;
+        }
+        cheap.addAll(other);
+        return cheap;
+    }
+
+    /**
+     * Checks if a matcher only considers an element's name, modifiers or sort such that it does not require any resolution
+     * of other types or annotations and cannot fail for any element.
+     *
+     * @param matcher The matcher to check.
+     * @return {@code true} if the matcher is cheap to apply.
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean isCheap(ElementMatcher<?> matcher) {
+        if (matcher instanceof BooleanMatcher<?>
+                || matcher instanceof NullMatcher<?>
+                || matcher instanceof ModifierMatcher<?>
+                || matcher instanceof MethodSortMatcher<?>
+                || matcher instanceof IsNamedMatcher<?>) {
+            return true;
+        } else if (matcher instanceof NameMatcher<?>) {
+            ElementMatcher<String> nameMatcher = ((NameMatcher<?>) matcher).getMatcher();
+            return nameMatcher instanceof StringMatcher && ((StringMatcher) nameMatcher).getMode() != StringMatcher.Mode.MATCHES
+                    || nameMatcher instanceof StringSetMatcher
+                    || nameMatcher instanceof StringPrefixSetMatcher;
+        } else if (matcher instanceof NegatingMatcher<?>) {
+            return isCheap(((NegatingMatcher<?>) matcher).getMatcher());
+        } else if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+            return isCheap(((ElementMatcher.Junction.Conjunction<Object>) matcher).getMatchers());
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+            return isCheap(((ElementMatcher.Junction.Disjunction<Object>) matcher).getMatchers());
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if all matchers are cheap to apply.
+     *
+     * @param matchers The matchers to check.
+     * @return {@code true} if all matchers are cheap to apply.
+     */
+    private static boolean isCheap(List<? extends ElementMatcher<?>> matchers) {
+        for (ElementMatcher<?> matcher : matchers) {
+            if (!isCheap(matcher)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a list of matchers contains identical matchers to another list.
+     *
+     * @param original  The original matchers.
+     * @param optimized The optimized matchers.
+     * @return {@code true} if both lists contain identical matchers in the same order.
+     */
+    private static boolean isUnchanged(List<?> original, List<?> optimized) {
+        if (original.size() != optimized.size()) {
+            return false;
+        }
+        for (int index = 0; index < original.size(); index++) {
+            if (original.get(index) != optimized.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -15,9 +15,16 @@
  */
 package net.bytebuddy.matcher;
 
+import net.bytebuddy.description.NamedElement;
+import net.bytebuddy.utility.nullability.MaybeNull;
+
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A filterable list allows to use an {@link net.bytebuddy.matcher.ElementMatcher} to reduce a lists to elements
@@ -156,4 +163,246 @@ public interface FilterableList<T, S extends FilterableList<T, S>> extends List<
          */
         protected abstract S wrap(List<T> values);
     }
+
+    /**
+     * A base implementation of a {@link FilterableList} of named elements. Once such a list is filtered repeatedly,
+     * it lazily builds an index of its elements by their actual names. Matchers that constrain an element's name
+     * by {@link ElementMatchers#named(String)}, {@link ElementMatchers#namedOneOf(String...)} or
+     * {@link ElementMatchers#nameStartsWith(String)}, also as part of a conjunction or disjunction, are then only
+     * applied to elements with a matching name. Any other matcher is applied to all elements. As the index is never
+     * invalidated, it is only built if a list declares itself as {@link WithNameIndex#isIndexable() indexable}.
+     *
+     * @param <T> The type of the collection's elements.
+     * @param <S> The type of this list.
+     */
+    abstract class WithNameIndex<T extends NamedElement, S extends FilterableList<T, S>> extends AbstractBase<T, S> {
+
+        /**
+         * The number of invocations of {@link FilterableList#filter(ElementMatcher)} with a matcher that can be resolved
+         * by a name index after which such an index is built.
+         */
+        private static final int INDEX_THRESHOLD = 2;
+
+        /**
+         * The name index of this list or {@code null} if the index was not yet built.
+         */
+        @MaybeNull
+        private volatile NameIndex nameIndex;
+
+        /**
+         * The number of invocations of {@link FilterableList#filter(ElementMatcher)} on this list with a matcher that
+         * can be resolved by a name index.
+         */
+        private int filters;
+
+        /**
+         * {@inheritDoc}
+         */
+        @SuppressWarnings("unchecked")
+        public S filter(ElementMatcher<? super T> elementMatcher) {
+            if (!isIndexable() || !NameIndex.isResolvable(elementMatcher)) {
+                return super.filter(elementMatcher);
+            }
+            NameIndex nameIndex = this.nameIndex;
+            if (nameIndex == null) {
+                if (++filters < INDEX_THRESHOLD) {
+                    return super.filter(elementMatcher);
+                }
+                nameIndex = new NameIndex(this);
+                this.nameIndex = nameIndex;
+            }
+            BitSet candidates = nameIndex.resolve(elementMatcher);
+            if (candidates == null) {
+                return super.filter(elementMatcher);
+            }
+            List<T> filteredElements = new ArrayList<T>(candidates.cardinality());
+            for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+                T value = get(index);
+                if (elementMatcher.matches(value)) {
+                    filteredElements.add(value);
+                }
+            }
+            return filteredElements.size() == size() ?
+                    (S) this
+                    : wrap(filteredElements);
+        }
+
+        /**
+         * Determines if this list may be indexed by its elements' names. An index is never invalidated such that
+         * only lists that cannot be altered may be indexed. Lists that wrap a user-supplied list must therefore
+         * not be indexed as the wrapped list might be altered after the index was built.
+         *
+         * @return {@code true} if this list can never be altered and may therefore be indexed.
+         */
+        protected boolean isIndexable() {
+            return false;
+        }
+
+        /**
+         * An index of a list's elements by their actual names.
+         */
+        protected static class NameIndex {
+
+            /**
+             * The positions of the list's elements by their actual name.
+             */
+            private final SortedMap<String, BitSet> positions;
+
+            /**
+             * The positions of all elements that do not expose a name and that are therefore always considered.
+             */
+            private final BitSet unnamed;
+
+            /**
+             * Creates a new name index.
+             *
+             * @param elements The elements to index.
+             */
+            protected NameIndex(List<? extends NamedElement> elements) {
+                positions = new TreeMap<String, BitSet>();
+                unnamed = new BitSet();
+                int index = 0;
+                for (NamedElement element : elements) {
+                    String name = element.getActualName();
+                    if (name == null) {
+                        unnamed.set(index++);
+                        continue;
+                    }
+                    BitSet bitSet = positions.get(name);
+                    if (bitSet == null) {
+                        bitSet = new BitSet();
+                        positions.put(name, bitSet);
+                    }
+                    bitSet.set(index++);
+                }
+            }
+
+            /**
+             * Determines if a matcher constrains the names of matched elements such that it can be resolved by a name index.
+             *
+             * @param matcher The matcher to check.
+             * @return {@code true} if {@link NameIndex#resolve(ElementMatcher)} can resolve the supplied matcher.
+             */
+            @SuppressWarnings("unchecked")
+            protected static boolean isResolvable(ElementMatcher<?> matcher) {
+                if (matcher instanceof NameMatcher<?>) {
+                    ElementMatcher<String> nameMatcher = ((NameMatcher<?>) matcher).getMatcher();
+                    return nameMatcher instanceof StringMatcher
+                            && (((StringMatcher) nameMatcher).getMode() == StringMatcher.Mode.EQUALS_FULLY || ((StringMatcher) nameMatcher).getMode() == StringMatcher.Mode.STARTS_WITH)
+                            || nameMatcher instanceof StringSetMatcher
+                            || nameMatcher instanceof StringPrefixSetMatcher;
+                } else if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+                    for (ElementMatcher<?> conjunct : ((ElementMatcher.Junction.Conjunction<Object>) matcher).getMatchers()) {
+                        if (isResolvable(conjunct)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+                    for (ElementMatcher<?> disjunct : ((ElementMatcher.Junction.Disjunction<Object>) matcher).getMatchers()) {
+                        if (!isResolvable(disjunct)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            /**
+             * Resolves the positions of all elements that can be matched by the supplied matcher.
+             *
+             * @param matcher The matcher to resolve.
+             * @return The positions of all elements that can be matched or {@code null} if the matcher does not constrain names.
+             */
+            @MaybeNull
+            @SuppressWarnings("unchecked")
+            protected BitSet resolve(ElementMatcher<?> matcher) {
+                if (matcher instanceof NameMatcher<?>) {
+                    ElementMatcher<String> nameMatcher = ((NameMatcher<?>) matcher).getMatcher();
+                    if (nameMatcher instanceof StringMatcher) {
+                        StringMatcher stringMatcher = (StringMatcher) nameMatcher;
+                        if (stringMatcher.getMode() == StringMatcher.Mode.EQUALS_FULLY) {
+                            return merge(positions.get(stringMatcher.getValue()));
+                        } else if (stringMatcher.getMode() == StringMatcher.Mode.STARTS_WITH) {
+                            BitSet candidates = merge(null);
+                            prefixed(stringMatcher.getValue(), candidates);
+                            return candidates;
+                        }
+                    } else if (nameMatcher instanceof StringSetMatcher) {
+                        BitSet candidates = merge(null);
+                        for (String value : ((StringSetMatcher) nameMatcher).getValues()) {
+                            BitSet bitSet = positions.get(value);
+                            if (bitSet != null) {
+                                candidates.or(bitSet);
+                            }
+                        }
+                        return candidates;
+                    } else if (nameMatcher instanceof StringPrefixSetMatcher) {
+                        BitSet candidates = merge(null);
+                        for (String prefix : ((StringPrefixSetMatcher) nameMatcher).getPrefixes()) {
+                            prefixed(prefix, candidates);
+                        }
+                        return candidates;
+                    }
+                    return null;
+                } else if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+                    BitSet candidates = null;
+                    for (ElementMatcher<?> conjunct : ((ElementMatcher.Junction.Conjunction<Object>) matcher).getMatchers()) {
+                        BitSet resolved = resolve(conjunct);
+                        if (resolved != null) {
+                            if (candidates == null) {
+                                candidates = resolved;
+                            } else {
+                                candidates.and(resolved);
+                            }
+                        }
+                    }
+                    return candidates;
+                } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+                    BitSet candidates = new BitSet();
+                    for (ElementMatcher<?> disjunct : ((ElementMatcher.Junction.Disjunction<Object>) matcher).getMatchers()) {
+                        BitSet resolved = resolve(disjunct);
+                        if (resolved == null) {
+                            return null;
+                        }
+                        candidates.or(resolved);
+                    }
+                    return candidates;
+                } else {
+                    return null;
+                }
+            }
+
+            /**
+             * Adds the positions of all elements with a name that starts with the supplied prefix.
+             *
+             * @param prefix     The prefix of the names of the elements to add.
+             * @param candidates The bit set to which the positions are added.
+             */
+            private void prefixed(String prefix, BitSet candidates) {
+                for (Map.Entry<String, BitSet> entry : positions.tailMap(prefix).entrySet()) {
+                    if (!entry.getKey().startsWith(prefix)) {
+                        break;
+                    }
+                    candidates.or(entry.getValue());
+                }
+            }
+
+            /**
+             * Merges a bit set of positions with the positions of all unnamed elements.
+             *
+             * @param bitSet The bit set to merge or {@code null} if no positions are known.
+             * @return A new bit set containing the supplied positions and the positions of all unnamed elements.
+             */
+            private BitSet merge(@MaybeNull BitSet bitSet) {
+                BitSet merged = (BitSet) unnamed.clone();
+                if (bitSet != null) {
+                    merged.or(bitSet);
+                }
+                return merged;
+            }
+        }
+    }
 }
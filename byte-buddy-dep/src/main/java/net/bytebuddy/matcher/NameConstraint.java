@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * A constraint on the name of a {@link net.bytebuddy.description.NamedElement} that is implied by an element matcher. If a matcher
+ * is constrained, it can only match elements with one of the constraint's names or with a name that starts with one of its prefixes.
+ * This way, matchers can be indexed by the names of the elements they might match without applying them.
+ * </p>
+ * <p>
+ * <b>Important</b>: A constraint is only derived from matchers that are created by {@link ElementMatchers#named(String)},
+ * {@link ElementMatchers#namedOneOf(String...)}, {@link ElementMatchers#nameStartsWith(String)} and {@link ElementMatchers#none()},
+ * or from conjunctions and disjunctions of such matchers. For any other matcher, a constraint is not derived, even if the matcher only matches elements of a given name.
+ * </p>
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class NameConstraint {
+
+    /**
+     * A constraint that does not constrain any name.
+     */
+    public static final NameConstraint UNCONSTRAINED = new NameConstraint(false, Collections.<String>emptySet(), Collections.<String>emptySet());
+
+    /**
+     * A constraint that does not permit any name as it is implied by a matcher that never matches.
+     */
+    public static final NameConstraint EMPTY = new NameConstraint(true, Collections.<String>emptySet(), Collections.<String>emptySet());
+
+    /**
+     * {@code true} if this instance constrains the names of matched elements.
+     */
+    private final boolean constrained;
+
+    /**
+     * The exact names of matched elements.
+     */
+    private final Set<String> names;
+
+    /**
+     * The prefixes of names of matched elements.
+     */
+    private final Set<String> prefixes;
+
+    /**
+     * Creates a new name constraint.
+     *
+     * @param constrained {@code true} if this instance constrains the names of matched elements.
+     * @param names       The exact names of matched elements.
+     * @param prefixes    The prefixes of names of matched elements.
+     */
+    protected NameConstraint(boolean constrained, Set<String> names, Set<String> prefixes) {
+        this.constrained = constrained;
+        this.names = names;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Resolves the name constraint that is implied by a matcher for a {@link net.bytebuddy.description.NamedElement}, where the
+     * constraint applies to the element's {@link net.bytebuddy.description.NamedElement#getActualName()}.
+     *
+     * @param matcher The matcher for which to resolve a name constraint.
+     * @return The name constraint that is implied by the supplied matcher.
+     */
+    public static NameConstraint of(ElementMatcher<?> matcher) {
+        return of(matcher, false);
+    }
+
+    /**
+     * Resolves the name constraint that is implied by a matcher.
+     *
+     * @param matcher The matcher for which to resolve a name constraint.
+     * @param name    {@code true} if the matcher is applied to a name rather than to a named element.
+     * @return The name constraint that is implied by the supplied matcher.
+     */
+    private static NameConstraint of(ElementMatcher<?> matcher, boolean name) {
+        if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+            NameConstraint nameConstraint = UNCONSTRAINED;
+            for (ElementMatcher<?> element : ((ElementMatcher.Junction.Conjunction<?>) matcher).getMatchers()) {
+                nameConstraint = nameConstraint.and(of(element, name));
+            }
+            return nameConstraint;
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+            NameConstraint nameConstraint = null;
+            for (ElementMatcher<?> element : ((ElementMatcher.Junction.Disjunction<?>) matcher).getMatchers()) {
+                nameConstraint = nameConstraint == null
+                        ? of(element, name)
+                        : nameConstraint.or(of(element, name));
+            }
+            return nameConstraint == null
+                    ? UNCONSTRAINED
+                    : nameConstraint;
+        } else if (matcher instanceof BooleanMatcher<?>) {
+            return ((BooleanMatcher<?>) matcher).matches
+                    ? UNCONSTRAINED
+                    : EMPTY;
+        } else if (!name && matcher instanceof NameMatcher<?>) {
+            return of(((NameMatcher<?>) matcher).getMatcher(), true);
+        } else if (name && matcher instanceof StringMatcher) {
+            switch (((StringMatcher) matcher).getMode()) {
+                case EQUALS_FULLY:
+                    return new NameConstraint(true, Collections.singleton(((StringMatcher) matcher).getValue()), Collections.<String>emptySet());
+                case STARTS_WITH:
+                    return new NameConstraint(true, Collections.<String>emptySet(), Collections.singleton(((StringMatcher) matcher).getValue()));
+                default:
+                    return UNCONSTRAINED;
+            }
+        } else if (name && matcher instanceof StringSetMatcher) {
+            return new NameConstraint(true, ((StringSetMatcher) matcher).getValues(), Collections.<String>emptySet());
+        } else if (name && matcher instanceof StringPrefixSetMatcher) {
+            return new NameConstraint(true, Collections.<String>emptySet(), new HashSet<String>(((StringPrefixSetMatcher) matcher).getPrefixes()));
+        } else {
+            return UNCONSTRAINED;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this instance constrains the names of matched elements.
+     *
+     * @return {@code true} if this instance constrains the names of matched elements.
+     */
+    public boolean isConstrained() {
+        return constrained;
+    }
+
+    /**
+     * Returns the exact names of matched elements. Only meaningful if this instance is constrained.
+     *
+     * @return The exact names of matched elements.
+     */
+    public Set<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Returns the prefixes of names of matched elements. Only meaningful if this instance is constrained.
+     *
+     * @return The prefixes of names of matched elements.
+     */
+    public Set<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Returns a name constraint that is implied if both this and the supplied constraint apply. As both constraints are
+     * necessary, the more selective of the two constraints is retained.
+     *
+     * @param other The other name constraint.
+     * @return A name constraint that is implied by both constraints.
+     */
+    public NameConstraint and(NameConstraint other) {
+        if (!constrained) {
+            return other;
+        } else if (!other.constrained) {
+            return this;
+        } else if (prefixes.size() != other.prefixes.size()) {
+            return prefixes.size() < other.prefixes.size()
+                    ? this
+                    : other;
+        } else {
+            return names.size() <= other.names.size()
+                    ? this
+                    : other;
+        }
+    }
+
+    /**
+     * Returns a name constraint that is implied if either this or the supplied constraint apply.
+     *
+     * @param other The other name constraint.
+     * @return A name constraint that is implied by either constraint.
+     */
+    public NameConstraint or(NameConstraint other) {
+        if (!constrained || !other.constrained) {
+            return UNCONSTRAINED;
+        }
+        Set<String> names = new HashSet<String>(this.names);
+        names.addAll(other.names);
+        Set<String> prefixes = new HashSet<String>(this.prefixes);
+        prefixes.addAll(other.prefixes);
+        return new NameConstraint(true, names, prefixes);
+    }
+
+    /**
+     * Returns {@code true} if an element of the supplied name might be matched.
+     *
+     * @param name The name of the element.
+     * @return {@code true} if an element of the supplied name might be matched.
+     */
+    public boolean matches(String name) {
+        if (!constrained || names.contains(name)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -40,6 +40,15 @@ public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
         this.matcher = matcher;
     }
 
+    /**
+     * Returns the element matcher that is negated.
+     *
+     * @return The element matcher that is negated.
+     */
+    ElementMatcher<? super T> getMatcher() {
+        return matcher;
+    }
+
     /**
      * {@inheritDoc}
      */
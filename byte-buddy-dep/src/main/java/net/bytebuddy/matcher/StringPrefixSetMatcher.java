@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An element matcher which checks if a string starts with any of a set of prefixes. The prefixes are stored in
+ * their natural order where any prefix that is itself prefixed by another prefix is discarded. This way, a string
+ * can only start with the greatest prefix that is not greater than the string itself such that a match only requires
+ * a binary search.
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class StringPrefixSetMatcher extends ElementMatcher.Junction.ForNonNullValues<String> {
+
+    /**
+     * The sorted prefixes to check against where no prefix starts with another prefix.
+     */
+    private final String[] prefixes;
+
+    /**
+     * Creates a new string prefix set matcher.
+     *
+     * @param prefixes The prefixes to check against.
+     */
+    public StringPrefixSetMatcher(Collection<String> prefixes) {
+        String[] sorted = prefixes.toArray(new String[0]);
+        Arrays.sort(sorted);
+        List<String> reduced = new ArrayList<String>(sorted.length);
+        for (String prefix : sorted) {
+            if (reduced.isEmpty() || !prefix.startsWith(reduced.get(reduced.size() - 1))) {
+                reduced.add(prefix);
+            }
+        }
+        this.prefixes = reduced.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the sorted prefixes to check against where no prefix starts with another prefix.
+     *
+     * @return The sorted prefixes to check against.
+     */
+    List<String> getPrefixes() {
+        return Arrays.asList(prefixes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected boolean doMatch(String target) {
+        int index = Arrays.binarySearch(prefixes, target);
+        if (index >= 0) {
+            return true;
+        }
+        index = -(index + 1) - 1;
+        return index >= 0 && target.startsWith(prefixes[index]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder().append("startsWithAnyOf(");
+        boolean first = true;
+        for (String prefix : prefixes) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(prefix);
+        }
+        return stringBuilder.append(")").toString();
+    }
+}
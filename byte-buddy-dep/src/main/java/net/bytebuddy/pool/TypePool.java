@@ -55,6 +55,9 @@ import java.lang.reflect.MalformedParameterizedTypeException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -242,6 +245,38 @@ public interface TypePool {
          */
         void clear();
 
+        /**
+         * A cache provider that resolves types that were not found in its cache itself, for example to avoid that the same
+         * type is resolved concurrently. Type pools that extend {@link AbstractBase} check for this optional interface and
+         * otherwise resolve and register types that were not found in a cache directly.
+         */
+        interface Computing {
+
+            /**
+             * Computes a resolution for a type that was not found in this cache by applying the supplied resolver. The resolver
+             * is responsible for registering its resolution in this cache, if applicable.
+             *
+             * @param name     The name of the type to resolve.
+             * @param resolver The resolver to apply.
+             * @return The resolution of the type.
+             */
+            Resolution compute(String name, Resolver resolver);
+        }
+
+        /**
+         * A resolver for a type that was not found in a cache.
+         */
+        interface Resolver {
+
+            /**
+             * Resolves the type of the given name and registers the resolution in the cache, if applicable.
+             *
+             * @param name The name of the type to resolve.
+             * @return The resolution of the type.
+             */
+            Resolution resolve(String name);
+        }
+
         /**
          * A non-operational cache that does not store any type descriptions.
          */
@@ -409,7 +444,7 @@ public interface TypePool {
         /**
          * A discriminating cache provider that delegates a type name to one of two caches.
          */
-        class Discriminating implements CacheProvider {
+        class Discriminating implements CacheProvider, CacheProvider.Computing {
 
             /**
              * The matcher that determines which cache to use.
@@ -454,6 +489,16 @@ public interface TypePool {
                 return (matcher.matches(name) ? matched : unmatched).register(name, resolution);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution compute(String name, Resolver resolver) {
+                CacheProvider cacheProvider = matcher.matches(name) ? matched : unmatched;
+                return cacheProvider instanceof Computing
+                        ? ((Computing) cacheProvider).compute(name, resolver)
+                        : resolver.resolve(name);
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -465,6 +510,209 @@ public interface TypePool {
                 }
             }
         }
+
+        /**
+         * <p>
+         * A cache provider that deduplicates concurrent resolutions of types that are not yet cached. If several threads resolve
+         * the same type at the same time, only one thread resolves the type while any other thread awaits and then shares this
+         * resolution. This avoids parsing the same class file on several threads, for example during class loading bursts at an
+         * application's startup.
+         * </p>
+         * <p>
+         * A thread that is itself resolving a type never awaits a resolution of another thread but resolves the type locally.
+         * This way, two threads that resolve types that depend on one another cannot deadlock. Also, a thread only awaits
+         * another thread's resolution for a limited time after which it resolves the type locally.
+         * </p>
+         */
+        class Deduplicating implements CacheProvider, CacheProvider.Computing {
+
+            /**
+             * The default time in milliseconds that a thread awaits another thread's resolution of the same type.
+             */
+            private static final long DEFAULT_TIMEOUT = 1000L;
+
+            /**
+             * The cache provider to delegate to.
+             */
+            private final CacheProvider delegate;
+
+            /**
+             * The time in milliseconds that a thread awaits another thread's resolution of the same type before resolving it locally.
+             */
+            private final long timeout;
+
+            /**
+             * A map of resolutions that are currently in flight by the names of the resolved types.
+             */
+            private final ConcurrentMap<String, InFlight> inFlight;
+
+            /**
+             * The names of the types that the current thread is currently resolving or {@code null} if the current thread
+             * is not resolving any type.
+             */
+            private final ThreadLocal<Set<String>> resolving;
+
+            /**
+             * Creates a new deduplicating cache provider.
+             *
+             * @param delegate The cache provider to delegate to.
+             */
+            public Deduplicating(CacheProvider delegate) {
+                this(delegate, DEFAULT_TIMEOUT);
+            }
+
+            /**
+             * Creates a new deduplicating cache provider.
+             *
+             * @param delegate The cache provider to delegate to.
+             * @param timeout  The time in milliseconds that a thread awaits another thread's resolution of the same type
+             *                 before resolving it locally.
+             */
+            public Deduplicating(CacheProvider delegate, long timeout) {
+                this.delegate = delegate;
+                this.timeout = timeout;
+                inFlight = new ConcurrentHashMap<String, InFlight>();
+                resolving = new ThreadLocal<Set<String>>();
+            }
+
+            /**
+             * Returns a deduplicating cache provider that delegates to a simple cache provider that is prepopulated
+             * with the {@link Object} type.
+             *
+             * @return A deduplicating cache provider that is prepopulated with the {@link Object} type.
+             */
+            public static CacheProvider withObjectType() {
+                return new Deduplicating(Simple.withObjectType());
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @MaybeNull
+            public Resolution find(String name) {
+                return delegate.find(name);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution register(String name, Resolution resolution) {
+                return delegate.register(name, resolution);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution compute(String name, Resolver resolver) {
+                Set<String> names = resolving.get();
+                InFlight current = new InFlight(), previous = inFlight.putIfAbsent(name, current);
+                if (previous != null) {
+                    if (names == null) {
+                        Resolution resolution = previous.await(timeout);
+                        if (resolution != null) {
+                            return resolution;
+                        }
+                    }
+                    return doCompute(name, resolver);
+                }
+                if (names == null) {
+                    names = new HashSet<String>();
+                    resolving.set(names);
+                }
+                names.add(name);
+                try {
+                    Resolution resolution = delegate.find(name);
+                    if (resolution == null) {
+                        resolution = doCompute(name, resolver);
+                    }
+                    current.complete(resolution);
+                    return resolution;
+                } finally {
+                    current.complete(UNRESOLVED);
+                    inFlight.remove(name, current);
+                    names.remove(name);
+                    if (names.isEmpty()) {
+                        resolving.remove();
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void clear() {
+                delegate.clear();
+            }
+
+            /**
+             * Computes a resolution by the delegate cache provider.
+             *
+             * @param name     The name of the type to resolve.
+             * @param resolver The resolver to apply.
+             * @return The resolution of the type.
+             */
+            private Resolution doCompute(String name, Resolver resolver) {
+                return delegate instanceof Computing
+                        ? ((Computing) delegate).compute(name, resolver)
+                        : resolver.resolve(name);
+            }
+
+            /**
+             * A resolution that is currently in flight.
+             */
+            protected static class InFlight {
+
+                /**
+                 * A latch that is released once the resolution is complete.
+                 */
+                private final CountDownLatch latch;
+
+                /**
+                 * The resolution of the type or {@code null} if the type could not be resolved.
+                 */
+                @MaybeNull
+                private volatile Resolution resolution;
+
+                /**
+                 * Creates a new in-flight resolution.
+                 */
+                protected InFlight() {
+                    latch = new CountDownLatch(1);
+                }
+
+                /**
+                 * Completes this resolution. Any subsequent completion is ignored.
+                 *
+                 * @param resolution The resolution of the type or {@code null} if the type could not be resolved.
+                 */
+                protected void complete(@MaybeNull Resolution resolution) {
+                    if (latch.getCount() > 0) {
+                        this.resolution = resolution;
+                        latch.countDown();
+                    }
+                }
+
+                /**
+                 * Awaits this resolution.
+                 *
+                 * @param timeout The maximum time to wait in milliseconds.
+                 * @return The resolution of the type or {@code null} if the type could not be resolved, if the resolution
+                 * did not complete in time or if the current thread was interrupted while waiting.
+                 */
+                @MaybeNull
+                protected Resolution await(long timeout) {
+                    try {
+                        if (!latch.await(timeout, TimeUnit.MILLISECONDS)) {
+                            return UNRESOLVED;
+                        }
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                        return UNRESOLVED;
+                    }
+                    return resolution;
+                }
+            }
+        }
     }
 
     /**
@@ -572,7 +820,9 @@ public interface TypePool {
                     ? cacheProvider.find(name)
                     : new Resolution.Simple(typeDescription);
             if (resolution == null) {
-                resolution = doCache(name, doDescribe(name));
+                resolution = cacheProvider instanceof CacheProvider.Computing
+                        ? ((CacheProvider.Computing) cacheProvider).compute(name, new UncachedResolver())
+                        : doCache(name, doDescribe(name));
             }
             return ArrayTypeResolution.of(resolution, arity);
         }
@@ -604,6 +854,19 @@ public interface TypePool {
          */
         protected abstract Resolution doDescribe(String name);
 
+        /**
+         * A resolver for a type that was not found in the cache.
+         */
+        protected class UncachedResolver implements CacheProvider.Resolver {
+
+            /**
+             * {@inheritDoc}
+             */
+            public Resolution resolve(String name) {
+                return doCache(name, doDescribe(name));
+            }
+        }
+
         /**
          * A lazy representation of the component type of an array.
          */
@@ -747,6 +1010,18 @@ public interface TypePool {
         @AlwaysNull
         private static final MethodVisitor IGNORE_METHOD = null;
 
+        /**
+         * Indicates that a visited field should be ignored.
+         */
+        @AlwaysNull
+        private static final FieldVisitor IGNORE_FIELD = null;
+
+        /**
+         * Indicates that a visited record component should be ignored.
+         */
+        @AlwaysNull
+        private static final RecordComponentVisitor IGNORE_RECORD_COMPONENT = null;
+
         /**
          * The locator to query for finding binary data of a type.
          */
@@ -884,9 +1159,11 @@ public interface TypePool {
          * @return An appropriate type description.
          */
         protected TypeDescription doParse(AsmClassReader classReader) {
-            TypeExtractor typeExtractor = new TypeExtractor();
+            TypeExtractor typeExtractor = new TypeExtractor(readerMode.isHeaderOnly());
             classReader.accept(typeExtractor, readerMode.getFlags());
-            return typeExtractor.toTypeDescription();
+            return readerMode.isHeaderOnly()
+                    ? new HeaderTypeDescription(typeExtractor.toTypeDescription())
+                    : typeExtractor.toTypeDescription();
         }
 
         /**
@@ -905,7 +1182,15 @@ public interface TypePool {
              * only contained within the debugging information. This mode still detects explicitly included method
              * parameter names.
              */
-            FAST(ClassReader.SKIP_CODE);
+            FAST(ClassReader.SKIP_CODE),
+
+            /**
+             * The header reader mode only parses a class's header and its type-level annotations but skips any fields, methods
+             * and record components. If any of those members is requested from a resolved type description, the class file is
+             * located anew and parsed for a second time, in accordance to the {@link ReaderMode#FAST} mode. This mode is meant for matching
+             * types by their name, modifiers, super types or annotations where most types are never inspected further.
+             */
+            HEADER(ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
 
             /**
              * The flags to provide to a {@link ClassReader} for parsing a file.
@@ -938,6 +1223,100 @@ public interface TypePool {
             public boolean isExtended() {
                 return this == EXTENDED;
             }
+
+            /**
+             * Determines if this reader mode only parses a class file's header.
+             *
+             * @return {@code true} if this reader mode only parses a class file's header.
+             */
+            public boolean isHeaderOnly() {
+                return this == HEADER;
+            }
+        }
+
+        /**
+         * A type description of a class file where only the class's header and its type-level annotations were parsed. The
+         * class file's fields, methods and record components are only parsed when they are requested for the first time. The
+         * class file is not retained but located anew by the type pool's class file locator.
+         */
+        protected class HeaderTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+            /**
+             * A type description that represents the class file's header.
+             */
+            private final TypeDescription typeDescription;
+
+            /**
+             * The type description of the fully parsed class file or {@code null} if the class file's members were not yet parsed.
+             */
+            @MaybeNull
+            private volatile TypeDescription resolved;
+
+            /**
+             * Creates a new type description of a class file where only the header was parsed.
+             *
+             * @param typeDescription A type description that represents the class file's header.
+             */
+            protected HeaderTypeDescription(TypeDescription typeDescription) {
+                this.typeDescription = typeDescription;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public String getName() {
+                return typeDescription.getName();
+            }
+
+            @Override
+            protected TypeDescription delegate() {
+                return typeDescription;
+            }
+
+            @Override
+            public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
+                return resolve().getDeclaredFields();
+            }
+
+            @Override
+            public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
+                return resolve().getDeclaredMethods();
+            }
+
+            @Override
+            public RecordComponentList<RecordComponentDescription.InDefinedShape> getRecordComponents() {
+                return resolve().getRecordComponents();
+            }
+
+            /**
+             * Parses the class file's members, if this was not done before, and returns a type description of the fully parsed class file.
+             *
+             * @return A type description of the fully parsed class file.
+             */
+            private TypeDescription resolve() {
+                TypeDescription resolved = this.resolved;
+                if (resolved == null) {
+                    synchronized (this) {
+                        resolved = this.resolved;
+                        if (resolved == null) {
+                            ClassFileLocator.Resolution resolution;
+                            try {
+                                resolution = classFileLocator.locate(typeDescription.getName());
+                            } catch (IOException exception) {
+                                throw new IllegalStateException("Error while reading class file", exception);
+                            }
+                            if (!resolution.isResolved()) {
+                                throw new IllegalStateException("Cannot locate class file of " + typeDescription.getName());
+                            }
+                            TypeExtractor typeExtractor = new TypeExtractor(false);
+                            classReaderFactory.make(resolution.resolve()).accept(typeExtractor, ReaderMode.FAST.getFlags());
+                            resolved = typeExtractor.toTypeDescription();
+                            this.resolved = resolved;
+                        }
+                    }
+                }
+                return resolved;
+            }
         }
 
         /**
@@ -1139,11 +1518,26 @@ public interface TypePool {
             protected Resolution doResolve(String name) {
                 Resolution resolution = cacheProvider.find(name);
                 if (resolution == null) {
-                    resolution = cacheProvider.register(name, WithLazyResolution.super.doDescribe(name));
+                    resolution = cacheProvider instanceof CacheProvider.Computing
+                            ? ((CacheProvider.Computing) cacheProvider).compute(name, new UncachedLazyResolver())
+                            : cacheProvider.register(name, WithLazyResolution.super.doDescribe(name));
                 }
                 return resolution;
             }
 
+            /**
+             * A resolver for a type that is described lazily and that was not found in the cache.
+             */
+            protected class UncachedLazyResolver implements CacheProvider.Resolver {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Resolution resolve(String name) {
+                    return cacheProvider.register(name, WithLazyResolution.super.doDescribe(name));
+                }
+            }
+
             /**
              * Describes the mode of lazy resolution to apply.
              */
@@ -3432,6 +3826,14 @@ public interface TypePool {
                 public int size() {
                     return fieldTokens.size();
                 }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                protected boolean isIndexable() {
+                    return true;
+                }
             }
 
             /**
@@ -3452,6 +3854,14 @@ public interface TypePool {
                 public int size() {
                     return methodTokens.size();
                 }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                protected boolean isIndexable() {
+                    return true;
+                }
             }
 
             /**
@@ -7721,6 +8131,11 @@ public interface TypePool {
                     return signatureResolution.resolveFieldType(descriptor, typePool, typeAnnotationTokens, this);
                 }
 
+                @Override
+                public String getDescriptor() {
+                    return descriptor;
+                }
+
                 /**
                  * {@inheritDoc}
                  */
@@ -7774,6 +8189,11 @@ public interface TypePool {
                  */
                 private final int modifiers;
 
+                /**
+                 * The descriptor of this method.
+                 */
+                private final String descriptor;
+
                 /**
                  * The descriptor of the return type.
                  */
@@ -7901,6 +8321,7 @@ public interface TypePool {
                                               @MaybeNull AnnotationValue<?, ?> defaultValue) {
                     this.modifiers = modifiers;
                     this.internalName = internalName;
+                    this.descriptor = descriptor;
                     Type methodType = Type.getMethodType(descriptor);
                     Type returnType = methodType.getReturnType();
                     Type[] parameterType = methodType.getArgumentTypes();
@@ -7947,6 +8368,11 @@ public interface TypePool {
                     return signatureResolution.resolveReturnType(returnTypeDescriptor, typePool, returnTypeAnnotationTokens, this);
                 }
 
+                @Override
+                public String getDescriptor() {
+                    return descriptor;
+                }
+
                 /**
                  * {@inheritDoc}
                  */
@@ -8608,6 +9034,11 @@ public interface TypePool {
              */
             private final List<String> permittedSubclasses;
 
+            /**
+             * {@code true} if only the class file's header should be extracted, skipping any fields, methods and record components.
+             */
+            private final boolean headerOnly;
+
             /**
              * The discovered class file version or {@code null} if no version was yet discovered.
              */
@@ -8618,7 +9049,17 @@ public interface TypePool {
              * Creates a new type extractor.
              */
             protected TypeExtractor() {
+                this(false);
+            }
+
+            /**
+             * Creates a new type extractor.
+             *
+             * @param headerOnly {@code true} if only the class file's header should be extracted, skipping any fields, methods and record components.
+             */
+            protected TypeExtractor(boolean headerOnly) {
                 super(OpenedClassReader.ASM_API);
+                this.headerOnly = headerOnly;
                 superTypeAnnotationTokens = new HashMap<Integer, Map<String, List<LazyTypeDescription.AnnotationToken>>>();
                 typeVariableAnnotationTokens = new HashMap<Integer, Map<String, List<LazyTypeDescription.AnnotationToken>>>();
                 typeVariableBoundsAnnotationTokens = new HashMap<Integer, Map<Integer, Map<String, List<LazyTypeDescription.AnnotationToken>>>>();
@@ -8713,14 +9154,17 @@ public interface TypePool {
             }
 
             @Override
+            @MaybeNull
             public FieldVisitor visitField(int modifiers, String internalName, String descriptor, @MaybeNull String genericSignature, @MaybeNull Object value) {
-                return new FieldExtractor(modifiers & REAL_MODIFIER_MASK, internalName, descriptor, genericSignature);
+                return headerOnly
+                        ? IGNORE_FIELD
+                        : new FieldExtractor(modifiers & REAL_MODIFIER_MASK, internalName, descriptor, genericSignature);
             }
 
             @Override
             @MaybeNull
             public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, @MaybeNull String genericSignature, @MaybeNull String[] exceptionName) {
-                return internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)
+                return headerOnly || internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)
                         ? IGNORE_METHOD
                         : new MethodExtractor(modifiers & REAL_MODIFIER_MASK, internalName, descriptor, genericSignature, exceptionName);
             }
@@ -8736,8 +9180,11 @@ public interface TypePool {
             }
 
             @Override
+            @MaybeNull
             public RecordComponentVisitor visitRecordComponent(String name, String descriptor, @MaybeNull String signature) {
-                return new RecordComponentExtractor(name, descriptor, signature);
+                return headerOnly
+                        ? IGNORE_RECORD_COMPONENT
+                        : new RecordComponentExtractor(name, descriptor, signature);
             }
 
             @Override
@@ -9526,6 +9973,302 @@ public interface TypePool {
         }
     }
 
+    /**
+     * <p>
+     * A type pool that decorates another type pool with a {@link HierarchyIndex} that memoizes the transitive super types of
+     * any type that is described by this pool. Assignability checks between types of this pool, or of a type of this pool to
+     * any other non-array and non-primitive type, are then answered from the index without walking the type hierarchy
+     * repeatedly.
+     * </p>
+     * <p>
+     * <b>Important</b>: The index resolves a type's entire hierarchy on its first assignability check. If a super type cannot
+     * be resolved, the check falls back to walking the type hierarchy which might not require the unresolvable type.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class WithHierarchyIndex extends AbstractBase {
+
+        /**
+         * The type pool to delegate to.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The hierarchy index to use.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final HierarchyIndex hierarchyIndex;
+
+        /**
+         * Creates a type pool with a new hierarchy index.
+         *
+         * @param typePool The type pool to delegate to.
+         */
+        public WithHierarchyIndex(TypePool typePool) {
+            this(typePool, new HierarchyIndex());
+        }
+
+        /**
+         * Creates a type pool with a hierarchy index.
+         *
+         * @param typePool       The type pool to delegate to.
+         * @param hierarchyIndex The hierarchy index to use.
+         */
+        public WithHierarchyIndex(TypePool typePool, HierarchyIndex hierarchyIndex) {
+            super(CacheProvider.NoOp.INSTANCE);
+            this.typePool = typePool;
+            this.hierarchyIndex = hierarchyIndex;
+        }
+
+        /**
+         * Returns the hierarchy index of this type pool.
+         *
+         * @return The hierarchy index of this type pool.
+         */
+        public HierarchyIndex getHierarchyIndex() {
+            return hierarchyIndex;
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            return new IndexedResolution(typePool.describe(name), hierarchyIndex);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void clear() {
+            try {
+                typePool.clear();
+            } finally {
+                hierarchyIndex.clear();
+            }
+        }
+
+        /**
+         * An index of the transitive super types of type descriptions. Each type name is assigned a unique identifier and
+         * the transitive super types of a type are stored as a sorted array of such identifiers. This index is thread-safe.
+         */
+        public static class HierarchyIndex {
+
+            /**
+             * The unique identifiers of all type names that were indexed.
+             */
+            private final ConcurrentMap<String, Integer> identifiers;
+
+            /**
+             * The sorted identifiers of the transitive super types of any indexed type, including the type itself.
+             */
+            private final ConcurrentMap<String, int[]> superTypes;
+
+            /**
+             * The next identifier to assign.
+             */
+            private final AtomicInteger identifier;
+
+            /**
+             * Creates a new, empty hierarchy index.
+             */
+            public HierarchyIndex() {
+                identifiers = new ConcurrentHashMap<String, Integer>();
+                superTypes = new ConcurrentHashMap<String, int[]>();
+                identifier = new AtomicInteger();
+            }
+
+            /**
+             * Checks if the target type is assignable to the source type, i.e. if the source type is a super type of the target
+             * type or the same type. Neither type must be an array or a primitive type.
+             *
+             * @param sourceType The type to which the target type is assigned.
+             * @param targetType The type that is assigned to the source type.
+             * @return {@code true} if the target type is assignable to the source type.
+             */
+            public boolean isAssignable(TypeDescription sourceType, TypeDescription targetType) {
+                if (sourceType.represents(Object.class)) {
+                    return true;
+                }
+                int[] superTypes = superTypes(targetType);
+                Integer identifier = identifiers.get(sourceType.getName());
+                return identifier != null && Arrays.binarySearch(superTypes, identifier) >= 0;
+            }
+
+            /**
+             * Resolves the sorted identifiers of the transitive super types of a type, including the type itself.
+             *
+             * @param typeDescription The type for which to resolve the super types.
+             * @return The sorted identifiers of the type's transitive super types.
+             */
+            protected int[] superTypes(TypeDescription typeDescription) {
+                int[] superTypes = this.superTypes.get(typeDescription.getName());
+                if (superTypes == null) {
+                    BitSet bitSet = new BitSet();
+                    TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                    if (superClass != null) {
+                        for (int identifier : superTypes(superClass.asErasure())) {
+                            bitSet.set(identifier);
+                        }
+                    }
+                    for (TypeDescription interfaceType : typeDescription.getInterfaces().asErasures()) {
+                        for (int identifier : superTypes(interfaceType)) {
+                            bitSet.set(identifier);
+                        }
+                    }
+                    bitSet.set(identify(typeDescription.getName()));
+                    superTypes = new int[bitSet.cardinality()];
+                    int index = 0;
+                    for (int identifier = bitSet.nextSetBit(0); identifier >= 0; identifier = bitSet.nextSetBit(identifier + 1)) {
+                        superTypes[index++] = identifier;
+                    }
+                    int[] previous = this.superTypes.putIfAbsent(typeDescription.getName(), superTypes);
+                    if (previous != null) {
+                        superTypes = previous;
+                    }
+                }
+                return superTypes;
+            }
+
+            /**
+             * Returns the unique identifier of a type name, assigning a new identifier if the name was not yet identified.
+             *
+             * @param name The type name to identify.
+             * @return The unique identifier of the type name.
+             */
+            protected int identify(String name) {
+                Integer identifier = identifiers.get(name);
+                if (identifier == null) {
+                    identifier = this.identifier.getAndIncrement();
+                    Integer previous = identifiers.putIfAbsent(name, identifier);
+                    if (previous != null) {
+                        identifier = previous;
+                    }
+                }
+                return identifier;
+            }
+
+            /**
+             * Returns the number of types for which super types are indexed.
+             *
+             * @return The number of types for which super types are indexed.
+             */
+            public int size() {
+                return superTypes.size();
+            }
+
+            /**
+             * Clears the indexed super types. Identifiers of type names are retained such that concurrent lookups remain consistent.
+             */
+            public void clear() {
+                superTypes.clear();
+            }
+        }
+
+        /**
+         * A resolution of a type that is described with a hierarchy index.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class IndexedResolution implements Resolution {
+
+            /**
+             * The resolution of the type pool that is delegated to.
+             */
+            private final Resolution resolution;
+
+            /**
+             * The hierarchy index to use.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final HierarchyIndex hierarchyIndex;
+
+            /**
+             * Creates a new indexed resolution.
+             *
+             * @param resolution     The resolution of the type pool that is delegated to.
+             * @param hierarchyIndex The hierarchy index to use.
+             */
+            protected IndexedResolution(Resolution resolution, HierarchyIndex hierarchyIndex) {
+                this.resolution = resolution;
+                this.hierarchyIndex = hierarchyIndex;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isResolved() {
+                return resolution.isResolved();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public TypeDescription resolve() {
+                return new IndexedTypeDescription(resolution.resolve(), hierarchyIndex);
+            }
+        }
+
+        /**
+         * A type description that answers assignability checks from a hierarchy index.
+         */
+        protected static class IndexedTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+            /**
+             * The type description to delegate to.
+             */
+            private final TypeDescription typeDescription;
+
+            /**
+             * The hierarchy index to use.
+             */
+            private final HierarchyIndex hierarchyIndex;
+
+            /**
+             * Creates a new indexed type description.
+             *
+             * @param typeDescription The type description to delegate to.
+             * @param hierarchyIndex  The hierarchy index to use.
+             */
+            protected IndexedTypeDescription(TypeDescription typeDescription, HierarchyIndex hierarchyIndex) {
+                this.typeDescription = typeDescription;
+                this.hierarchyIndex = hierarchyIndex;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public String getName() {
+                return typeDescription.getName();
+            }
+
+            @Override
+            protected TypeDescription delegate() {
+                return typeDescription;
+            }
+
+            @Override
+            public boolean isAssignableFrom(TypeDescription typeDescription) {
+                if (typeDescription instanceof IndexedTypeDescription && ((IndexedTypeDescription) typeDescription).hierarchyIndex == hierarchyIndex) {
+                    try {
+                        return equals(typeDescription) || hierarchyIndex.isAssignable(this, typeDescription);
+                    } catch (Resolution.NoSuchTypeException ignored) {
+                        /* fall back to hierarchy walking */
+                    }
+                }
+                return super.isAssignableFrom(typeDescription);
+            }
+
+            @Override
+            public boolean isAssignableTo(TypeDescription typeDescription) {
+                if (!typeDescription.isArray() && !typeDescription.isPrimitive()) {
+                    try {
+                        return equals(typeDescription) || hierarchyIndex.isAssignable(typeDescription, this);
+                    } catch (Resolution.NoSuchTypeException ignored) {
+                        /* fall back to hierarchy walking */
+                    }
+                }
+                return super.isAssignableTo(typeDescription);
+            }
+        }
+    }
+
     /**
      * A type pool that attempts to load a class.
      */
@@ -2298,7 +2298,9 @@ public interface JavaConstant extends ConstantValue {
                                     TypeDescription.ForLoadedType.of(Class.class),
                                     TypeDescription.ForLoadedType.of(Class.class),
                                     TypeDescription.ForLoadedType.of(Class.class))),
-                    Arrays.asList(JavaConstant.Simple.of(fieldDescription.getDeclaringType()), JavaConstant.Simple.of(fieldDescription.getType().asErasure())));
+                    Arrays.asList(JavaConstant.Simple.of(fieldDescription.getDeclaringType()), fieldDescription.getType().isPrimitive()
+                            ? ofPrimitiveType(fieldDescription.getType().asErasure())
+                            : JavaConstant.Simple.of(fieldDescription.getType().asErasure())));
         }
 
         /**
@@ -0,0 +1,75 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AgentBuilderDefaultTransformationIndexTest {
+
+    private static final String FOO = "foo.Foo", BAR = "bar.Bar", QUX = "qux.Qux";
+
+    @Test
+    public void testUnindexed() throws Exception {
+        List<AgentBuilder.Default.Transformation> transformations = Arrays.asList(
+                transformation(new AgentBuilder.RawMatcher.ForElementMatchers(isInterface())),
+                transformation(AgentBuilder.RawMatcher.Trivial.MATCHING));
+        assertThat(AgentBuilder.Default.Transformation.Index.of(transformations).resolve(type(FOO)), is(transformations));
+    }
+
+    @Test
+    public void testIndexedByName() throws Exception {
+        AgentBuilder.Default.Transformation foo = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO)));
+        AgentBuilder.Default.Transformation bar = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(named(BAR)));
+        AgentBuilder.Default.Transformation any = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(isInterface()));
+        AgentBuilder.Default.Transformation.Index index = AgentBuilder.Default.Transformation.Index.of(Arrays.asList(foo, any, bar));
+        assertThat(index.resolve(type(FOO)), is(Arrays.asList(foo, any)));
+        assertThat(index.resolve(type(BAR)), is(Arrays.asList(any, bar)));
+        assertThat(index.resolve(type(QUX)), is(Collections.singletonList(any)));
+    }
+
+    @Test
+    public void testIndexedByPrefix() throws Exception {
+        AgentBuilder.Default.Transformation foo = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(nameStartsWith("foo.")));
+        AgentBuilder.Default.Transformation fooBar = transformation(new AgentBuilder.RawMatcher.ForElementMatchers(nameStartsWith("foo.Foo").and(isInterface())));
+        AgentBuilder.Default.Transformation.Index index = AgentBuilder.Default.Transformation.Index.of(Arrays.asList(foo, fooBar));
+        assertThat(index.resolve(type(FOO)), is(Arrays.asList(foo, fooBar)));
+        assertThat(index.resolve(type("foo.Qux")), is(Collections.singletonList(foo)));
+        assertThat(index.resolve(type("f")), is(Collections.<AgentBuilder.Default.Transformation>emptyList()));
+    }
+
+    @Test
+    public void testIndexedRawMatcherJunctions() throws Exception {
+        AgentBuilder.Default.Transformation conjunction = transformation(new AgentBuilder.RawMatcher.Conjunction(
+                AgentBuilder.RawMatcher.Trivial.MATCHING,
+                new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO))));
+        AgentBuilder.Default.Transformation disjunction = transformation(new AgentBuilder.RawMatcher.Disjunction(
+                new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO)),
+                new AgentBuilder.RawMatcher.ForElementMatchers(named(BAR))));
+        AgentBuilder.Default.Transformation unconstrained = transformation(new AgentBuilder.RawMatcher.Disjunction(
+                new AgentBuilder.RawMatcher.ForElementMatchers(named(FOO)),
+                AgentBuilder.RawMatcher.ForLoadState.LOADED));
+        AgentBuilder.Default.Transformation.Index index = AgentBuilder.Default.Transformation.Index.of(Arrays.asList(conjunction, disjunction, unconstrained));
+        assertThat(index.resolve(type(FOO)), is(Arrays.asList(conjunction, disjunction, unconstrained)));
+        assertThat(index.resolve(type(BAR)), is(Arrays.asList(disjunction, unconstrained)));
+        assertThat(index.resolve(type(QUX)), is(Collections.singletonList(unconstrained)));
+    }
+
+    private static AgentBuilder.Default.Transformation transformation(AgentBuilder.RawMatcher matcher) {
+        return new AgentBuilder.Default.Transformation(matcher, Collections.<AgentBuilder.Transformer>emptyList(), false);
+    }
+
+    private static TypeDescription type(String name) {
+        TypeDescription typeDescription = mock(TypeDescription.class);
+        when(typeDescription.getActualName()).thenReturn(name);
+        return typeDescription;
+    }
+}
@@ -10,14 +10,21 @@ import org.junit.rules.MethodRule;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
 
 public class AgentBuilderDescriptionStrategyTest {
 
@@ -91,4 +98,119 @@ public class AgentBuilderDescriptionStrategyTest {
         assertThat(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY.withSuperTypeLoading(executorService),
                 hasPrototype((AgentBuilder.DescriptionStrategy) new AgentBuilder.DescriptionStrategy.SuperTypeLoading.Asynchronous(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY, executorService)));
     }
+
+    @Test
+    public void testSuperTypePrefetching() throws Exception {
+        Executor executor = mock(Executor.class);
+        assertThat(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY.withSuperTypePrefetching(executor),
+                hasPrototype((AgentBuilder.DescriptionStrategy) new AgentBuilder.DescriptionStrategy.Prefetching(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY, executor)));
+        assertThat(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY.withSuperTypePrefetching(executor).isLoadedFirst(), is(false));
+        assertThat(AgentBuilder.DescriptionStrategy.Default.HYBRID.withSuperTypePrefetching(executor).isLoadedFirst(), is(true));
+    }
+
+    @Test
+    public void testSuperTypePrefetchingResolvesHierarchy() throws Exception {
+        TypePool typePool = mock(TypePool.class, delegatesTo(TypePool.Default.of(getClass().getClassLoader())));
+        TypeDescription typeDescription = new AgentBuilder.DescriptionStrategy.Prefetching(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY, new Executor() {
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }).apply(Foo.class.getName(), null, typePool, mock(AgentBuilder.CircularityLock.class), getClass().getClassLoader(), null);
+        assertThat(typeDescription.getName(), is(Foo.class.getName()));
+        verify(typePool).describe(Foo.class.getName());
+        verify(typePool).describe(Bar.class.getName());
+        verify(typePool).describe(Qux.class.getName());
+        verify(typePool).describe(Object.class.getName());
+        verifyNoMoreInteractions(typePool);
+    }
+
+    @Test
+    public void testSuperTypePrefetchingSkipsLoadedType() throws Exception {
+        Executor executor = mock(Executor.class);
+        assertThat(new AgentBuilder.DescriptionStrategy.Prefetching(AgentBuilder.DescriptionStrategy.Default.HYBRID, executor).apply(Foo.class.getName(),
+                Foo.class,
+                typePool,
+                mock(AgentBuilder.CircularityLock.class),
+                getClass().getClassLoader(),
+                null), is(TypeDescription.ForLoadedType.of(Foo.class)));
+        verifyNoMoreInteractions(executor);
+    }
+
+    @Test
+    public void testSuperTypePrefetchingIntoRetainedCache() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        AgentBuilder.PoolStrategy poolStrategy = new AgentBuilder.PoolStrategy.WithTypePoolCache.Simple.Deduplicating(cacheProviders);
+        ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(getClass().getClassLoader());
+        new AgentBuilder.DescriptionStrategy.Prefetching(AgentBuilder.DescriptionStrategy.Default.POOL_ONLY, new Executor() {
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }).apply(Foo.class.getName(),
+                null,
+                poolStrategy.typePool(classFileLocator, getClass().getClassLoader()),
+                mock(AgentBuilder.CircularityLock.class),
+                getClass().getClassLoader(),
+                null);
+        TypePool.CacheProvider cacheProvider = cacheProviders.get(getClass().getClassLoader());
+        assertThat(cacheProvider, instanceOf(TypePool.CacheProvider.Deduplicating.class));
+        assertThat(cacheProvider.find(Bar.class.getName()).resolve().getName(), is(Bar.class.getName()));
+        assertThat(cacheProvider.find(Qux.class.getName()).resolve().getName(), is(Qux.class.getName()));
+    }
+
+    @Test
+    public void testSuperTypePrefetchingExecutorService() throws Exception {
+        ExecutorService executorService = AgentBuilder.DescriptionStrategy.Prefetching.executorService(1, 1);
+        try {
+            assertThat(executorService, instanceOf(ThreadPoolExecutor.class));
+            assertThat(((ThreadPoolExecutor) executorService).getMaximumPoolSize(), is(1));
+            assertThat(((ThreadPoolExecutor) executorService).getQueue().remainingCapacity(), is(1));
+            assertThat(executorService.submit(new Callable<Boolean>() {
+                public Boolean call() {
+                    return Thread.currentThread().isDaemon();
+                }
+            }).get(), is(true));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSuperTypePrefetchingExecutorServiceDiscardsExcessTasks() throws Exception {
+        ExecutorService executorService = AgentBuilder.DescriptionStrategy.Prefetching.executorService(1, 1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executorService.execute(new Runnable() {
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            Runnable queued = mock(Runnable.class), discarded = mock(Runnable.class);
+            executorService.execute(queued);
+            executorService.execute(discarded);
+            latch.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS), is(true));
+            verify(queued).run();
+            verifyNoMoreInteractions(discarded);
+        } finally {
+            latch.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+
+    private interface Qux {
+        /* empty */
+    }
+
+    private static class Foo extends Bar implements Qux {
+        /* empty */
+    }
 }
@@ -3,14 +3,19 @@ package net.bytebuddy.agent.builder;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.junit.Test;
 
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class AgentBuilderRedefinitionStrategyBatchAllocatorTest {
 
@@ -54,6 +59,88 @@ public class AgentBuilderRedefinitionStrategyBatchAllocatorTest {
         AgentBuilder.RedefinitionStrategy.BatchAllocator.ForFixedSize.ofSize(-1);
     }
 
+    @Test
+    public void testAdaptiveGrows() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor.class);
+        Iterator<? extends List<Class<?>>> iterator = AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MINUTES, 1, 1, 2)
+                .with(monitor)
+                .batch(Arrays.<Class<?>>asList(Object.class, Void.class, String.class, Integer.class)).iterator();
+        assertThat(iterator.hasNext(), is(true));
+        List<Class<?>> types = iterator.next();
+        assertThat(types, is(Collections.<Class<?>>singletonList(Object.class)));
+        ((AgentBuilder.RedefinitionStrategy.BatchAllocator.Timed) iterator).onApplied(types, 0L);
+        verify(monitor).onBatch(0, 1, 0L, 2);
+        assertThat(iterator.hasNext(), is(true));
+        types = iterator.next();
+        assertThat(types, is(Arrays.<Class<?>>asList(Void.class, String.class)));
+        ((AgentBuilder.RedefinitionStrategy.BatchAllocator.Timed) iterator).onApplied(types, 0L);
+        verify(monitor).onBatch(1, 2, 0L, 2);
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(Integer.class)));
+        assertThat(iterator.hasNext(), is(false));
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testAdaptiveShrinks() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor.class);
+        Iterator<? extends List<Class<?>>> iterator = AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MILLISECONDS, 2, 1, 2)
+                .with(monitor)
+                .batch(Arrays.<Class<?>>asList(Object.class, Void.class, String.class, Integer.class)).iterator();
+        List<Class<?>> types = iterator.next();
+        assertThat(types, is(Arrays.<Class<?>>asList(Object.class, Void.class)));
+        ((AgentBuilder.RedefinitionStrategy.BatchAllocator.Timed) iterator).onApplied(types, TimeUnit.MILLISECONDS.toNanos(50));
+        verify(monitor).onBatch(0, 2, TimeUnit.MILLISECONDS.toNanos(50), 1);
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(String.class)));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(Integer.class)));
+        assertThat(iterator.hasNext(), is(false));
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testAdaptiveRetainsSizeIfNotMeasured() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor.class);
+        Iterator<? extends List<Class<?>>> iterator = AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MINUTES, 1, 1, 2)
+                .with(monitor)
+                .batch(Arrays.<Class<?>>asList(Object.class, Void.class)).iterator();
+        assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(Object.class)));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(Void.class)));
+        assertThat(iterator.hasNext(), is(false));
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testAdaptiveEmpty() throws Exception {
+        assertThat(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MILLISECONDS)
+                .batch(Collections.<Class<?>>emptyList()).iterator().hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalDuration() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalRange() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MILLISECONDS, 1, 2, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalInitial() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MILLISECONDS, 3, 1, 2);
+    }
+
+    @Test
+    public void testAdaptiveMonitorStreamWriting() throws Exception {
+        PrintStream printStream = mock(PrintStream.class);
+        new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor.StreamWriting(printStream).onBatch(0, 1, 1000L, 2);
+        verify(printStream).printf("[Byte Buddy] REDEFINE BATCH #%d containing %d types took %d us [next batch: %d types]%n", 0, 1, 1L, 2);
+        verifyNoMoreInteractions(printStream);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGrouping() throws Exception {
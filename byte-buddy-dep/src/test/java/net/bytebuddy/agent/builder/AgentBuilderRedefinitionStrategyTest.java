@@ -1,14 +1,23 @@
 package net.bytebuddy.agent.builder;
 
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 
 import java.lang.instrument.Instrumentation;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 public class AgentBuilderRedefinitionStrategyTest {
@@ -86,4 +95,42 @@ public class AgentBuilderRedefinitionStrategyTest {
         assertThat(iterator.next(), is(Collections.<Class<?>>singletonList(String.class)));
         assertThat(iterator.hasNext(), is(false));
     }
+
+    @Test
+    public void testCollectorMeasuresAppliedBatches() throws Exception {
+        AgentBuilder.RedefinitionStrategy.Collector collector = new AgentBuilder.RedefinitionStrategy.Collector(mock(AgentBuilder.RawMatcher.class),
+                mock(AgentBuilder.PoolStrategy.class),
+                mock(AgentBuilder.LocationStrategy.class),
+                mock(AgentBuilder.DescriptionStrategy.class),
+                mock(AgentBuilder.Listener.class),
+                mock(AgentBuilder.FallbackStrategy.class),
+                mock(AgentBuilder.CircularityLock.class)) {
+            @Override
+            protected void doApply(Instrumentation instrumentation, List<Class<?>> types) {
+                if (types.contains(Object.class)) {
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException exception) {
+                        throw new AssertionError(exception);
+                    }
+                }
+            }
+        };
+        collector.types.addAll(Arrays.<Class<?>>asList(Object.class, Void.class, String.class));
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Monitor.class);
+        AgentBuilder.RedefinitionStrategy.Listener listener = mock(AgentBuilder.RedefinitionStrategy.Listener.class);
+        assertThat(collector.apply(mock(Instrumentation.class),
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1, TimeUnit.MILLISECONDS, 2, 1, 2).with(monitor),
+                listener,
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.FIRST_BATCH), is(2));
+        verify(monitor).onBatch(eq(0), eq(2), longThat(new ArgumentMatcher<Long>() {
+            public boolean matches(Long duration) {
+                return duration >= TimeUnit.MILLISECONDS.toNanos(20);
+            }
+        }), eq(1));
+        verify(monitor).onBatch(eq(1), eq(1), anyLong(), anyInt());
+        verifyNoMoreInteractions(monitor);
+        verify(listener).onBatch(0, Arrays.<Class<?>>asList(Object.class, Void.class), collector.types);
+        verify(listener).onBatch(1, Collections.<Class<?>>singletonList(String.class), collector.types);
+    }
 }
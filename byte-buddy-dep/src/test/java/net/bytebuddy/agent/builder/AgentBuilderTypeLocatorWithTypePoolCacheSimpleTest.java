@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -49,4 +50,18 @@ public class AgentBuilderTypeLocatorWithTypePoolCacheSimpleTest {
         assertThat(poolStrategy.typePool(classFileLocator, null), hasPrototype(poolStrategy.typePool(classFileLocator, null)));
         assertThat(poolStrategy.typePool(classFileLocator, null), not(hasPrototype(poolStrategy.typePool(classFileLocator, second))));
     }
+
+    @Test
+    public void testSimpleImplementationCreatesSimpleCache() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        new AgentBuilder.PoolStrategy.WithTypePoolCache.Simple(TypePool.Default.ReaderMode.FAST, cacheProviders).typePool(classFileLocator, first);
+        assertThat(cacheProviders.get(first), instanceOf(TypePool.CacheProvider.Simple.class));
+    }
+
+    @Test
+    public void testDeduplicatingImplementationCreatesDeduplicatingCache() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        new AgentBuilder.PoolStrategy.WithTypePoolCache.Simple.Deduplicating(TypePool.Default.ReaderMode.FAST, cacheProviders).typePool(classFileLocator, first);
+        assertThat(cacheProviders.get(first), instanceOf(TypePool.CacheProvider.Deduplicating.class));
+    }
 }
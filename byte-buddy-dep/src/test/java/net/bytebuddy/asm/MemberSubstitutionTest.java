@@ -11,6 +11,7 @@ import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.bytecode.constant.NullConstant;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.matcher.NameConstraint;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.packaging.MemberSubstitutionTestHelper;
 import net.bytebuddy.test.utility.JavaVersionRule;
@@ -28,6 +29,8 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
 
 public class MemberSubstitutionTest {
 
@@ -1240,6 +1243,39 @@ public class MemberSubstitutionTest {
                 .make(TypePool.Empty.INSTANCE), notNullValue(DynamicType.class));
     }
 
+    @Test
+    public void testRelaxedSkipsResolutionOfUnmatchedNames() throws Exception {
+        TypePool typePool = mock(TypePool.class, delegatesTo(TypePool.Empty.INSTANCE));
+        assertThat(new ByteBuddy()
+                .redefine(OptionalTarget.class)
+                .visit(MemberSubstitution.relaxed().element(named(FOO)).stub().on(named(RUN)))
+                .make(typePool), notNullValue(DynamicType.class));
+        verify(typePool, never()).describe(ValidationTarget.class.getName());
+    }
+
+    @Test
+    public void testNameConstraintOfUnconstrainedReplacement() throws Exception {
+        MemberSubstitution.Replacement.ForFirstBinding replacement = new MemberSubstitution.Replacement.ForFirstBinding(Collections.singletonList(mock(MemberSubstitution.Replacement.class)));
+        assertThat(replacement.getNameConstraint(), is(NameConstraint.UNCONSTRAINED));
+    }
+
+    @Test
+    public void testRepeatedMemberResolvedOnce() throws Exception {
+        TypePool typePool = mock(TypePool.class, delegatesTo(TypePool.Default.of(ClassFileLocator.ForClassLoader.of(RepeatedAccessSample.class.getClassLoader()))));
+        Class<?> type = new ByteBuddy()
+                .redefine(RepeatedAccessSample.class)
+                .visit(MemberSubstitution.relaxed().field(named(FOO)).stub().on(named(RUN)))
+                .make(typePool)
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), nullValue(Object.class));
+        assertThat(type.getDeclaredField(FOO).get(instance), is((Object) FOO));
+        assertThat(type.getDeclaredField(BAR).get(instance), nullValue(Object.class));
+        assertThat(type.getDeclaredField(QUX).get(instance), nullValue(Object.class));
+        verify(typePool, times(1)).describe(RepeatedAccessSample.class.getName());
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testNoParametersNoMemberFieldMatch() throws Exception {
         new ByteBuddy()
@@ -1363,6 +1399,16 @@ public class MemberSubstitutionTest {
         }
     }
 
+    public static class RepeatedAccessSample {
+
+        public String foo = FOO, bar = BAR, qux = QUX;
+
+        public void run() {
+            bar = foo;
+            qux = foo;
+        }
+    }
+
     public static class StaticFieldAccessSample {
 
         public static String foo = FOO, bar = BAR, qux = QUX, baz = BAZ;
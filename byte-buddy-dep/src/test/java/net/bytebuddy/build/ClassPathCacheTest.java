@@ -0,0 +1,203 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassPathCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File folder, jar, other;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = temporaryFolder.newFolder();
+        write(Foo.class, new File(folder, Foo.class.getName().replace('.', '/') + ".class"));
+        jar = temporaryFolder.newFile("foo.jar");
+        jar(jar, Foo.class);
+        other = temporaryFolder.newFile("bar.jar");
+        jar(other, Bar.class);
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        ClassPathCache.Handle first = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        ClassPathCache.Handle second = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            assertThat(second.getTypePool(), sameInstance(first.getTypePool()));
+            assertThat(second.getClassFileLocator(), sameInstance(first.getClassFileLocator()));
+            assertThat(first.getTypePool().describe(Foo.class.getName()).isResolved(), is(true));
+            assertThat(classPathCache.size(), is(1));
+        } finally {
+            first.close();
+            second.close();
+        }
+        assertThat(classPathCache.size(), is(1));
+        classPathCache.clear();
+        assertThat(classPathCache.size(), is(0));
+    }
+
+    @Test
+    public void testElementIsSharedByClassPaths() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        ClassPathCache.Handle first = classPathCache.acquire(Arrays.asList(jar, other), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        ClassPathCache.Handle second = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            assertThat(second.getTypePool(), not(sameInstance(first.getTypePool())));
+            assertThat(first.getTypePool().describe(Bar.class.getName()).isResolved(), is(true));
+            assertThat(second.getTypePool().describe(Bar.class.getName()).isResolved(), is(false));
+            assertThat(classPathCache.size(), is(2));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testReaderModeIsDistinguished() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        ClassPathCache.Handle first = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        ClassPathCache.Handle second = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.EXTENDED);
+        try {
+            assertThat(second.getTypePool(), not(sameInstance(first.getTypePool())));
+            assertThat(classPathCache.size(), is(1));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testModificationInvalidatesElement() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(0L);
+        ClassPathCache.Handle first = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        jar(jar, Foo.class, Bar.class);
+        ClassPathCache.Handle second = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            assertThat(second.getTypePool(), not(sameInstance(first.getTypePool())));
+            assertThat(second.getTypePool().describe(Bar.class.getName()).isResolved(), is(true));
+            assertThat(classPathCache.size(), is(2));
+            first.close();
+            assertThat(classPathCache.size(), is(1));
+        } finally {
+            second.close();
+        }
+        assertThat(classPathCache.size(), is(0));
+    }
+
+    @Test
+    public void testModificationClosesOutdatedElementBelowCeiling() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST).close();
+        jar(jar, Foo.class, Bar.class);
+        ClassPathCache.Handle handle = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            assertThat(handle.getTypePool().describe(Bar.class.getName()).isResolved(), is(true));
+            assertThat(classPathCache.size(), is(1));
+        } finally {
+            handle.close();
+        }
+        assertThat(classPathCache.size(), is(1));
+    }
+
+    @Test
+    public void testRaiseCeiling() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(0L);
+        classPathCache.raise(Long.MAX_VALUE);
+        classPathCache.raise(0L);
+        classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST).close();
+        assertThat(classPathCache.size(), is(1));
+    }
+
+    @Test
+    public void testEvictionBelowCeiling() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Math.max(jar.length(), other.length()));
+        classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST).close();
+        assertThat(classPathCache.size(), is(1));
+        classPathCache.acquire(Collections.singletonList(other), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST).close();
+        assertThat(classPathCache.size(), is(1));
+    }
+
+    @Test
+    public void testFolderIsNotCached() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        ClassPathCache.Handle first = classPathCache.acquire(Arrays.asList(folder, other), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        ClassPathCache.Handle second = classPathCache.acquire(Arrays.asList(folder, other), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            assertThat(second.getTypePool(), not(sameInstance(first.getTypePool())));
+            assertThat(first.getTypePool().describe(Foo.class.getName()).isResolved(), is(true));
+            assertThat(first.getTypePool().describe(Bar.class.getName()).isResolved(), is(true));
+            assertThat(classPathCache.size(), is(1));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testPoolStrategy() throws Exception {
+        ClassPathCache classPathCache = new ClassPathCache(Long.MAX_VALUE);
+        ClassPathCache.Handle handle = classPathCache.acquire(Collections.singletonList(jar), ClassFileVersion.ofThisVm(), TypePool.Default.ReaderMode.FAST);
+        try {
+            TypePool typePool = handle.getPoolStrategy().typePool(ClassFileLocator.NoOp.INSTANCE);
+            assertThat(typePool.describe(Foo.class.getName()).isResolved(), is(true));
+            assertThat(typePool.describe(Foo.class.getName()).resolve().getSuperClass().asErasure().represents(Object.class), is(true));
+            assertThat(typePool.describe(Bar.class.getName()).isResolved(), is(false));
+        } finally {
+            handle.close();
+        }
+    }
+
+    private static void jar(File file, Class<?>... types) throws Exception {
+        JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            for (Class<?> type : types) {
+                outputStream.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                outputStream.write(ClassFileLocator.ForClassLoader.read(type));
+                outputStream.closeEntry();
+            }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static void write(Class<?> type, File file) throws Exception {
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+            throw new AssertionError();
+        }
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(ClassFileLocator.ForClassLoader.read(type));
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+}
@@ -6,12 +6,15 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.jar.*;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -123,4 +126,48 @@ public class PluginEngineSourceForJarFileTest {
             origin.close();
         }
     }
+
+    @Test
+    public void testRawEntry() throws Exception {
+        CRC32 crc = new CRC32();
+        crc.update(new byte[]{1, 2, 3});
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(new byte[]{1, 2, 3, 4});
+            JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+            jarOutputStream.putNextEntry(new JarEntry("Foo.class"));
+            jarOutputStream.write(new byte[100]);
+            jarOutputStream.closeEntry();
+            JarEntry stored = new JarEntry("Bar.class");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(3);
+            stored.setCrc(crc.getValue());
+            jarOutputStream.putNextEntry(stored);
+            jarOutputStream.write(new byte[]{1, 2, 3});
+            jarOutputStream.closeEntry();
+            jarOutputStream.close();
+        } finally {
+            outputStream.close();
+        }
+        Plugin.Engine.Source.Origin origin = new Plugin.Engine.Source.ForJarFile(this.file).read();
+        try {
+            Iterator<Plugin.Engine.Source.Element> iterator = origin.iterator();
+            Plugin.Engine.Source.Element.RawEntry deflated = iterator.next().resolveAs(Plugin.Engine.Source.Element.RawEntry.class);
+            assertThat(deflated, notNullValue(Plugin.Engine.Source.Element.RawEntry.class));
+            assertThat(deflated.getMethod(), is(ZipEntry.DEFLATED));
+            assertThat(deflated.getSize(), is(100L));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            deflated.copyTo(compressed);
+            assertThat((long) compressed.size(), is(deflated.getCompressedSize()));
+            Plugin.Engine.Source.Element.RawEntry raw = iterator.next().resolveAs(Plugin.Engine.Source.Element.RawEntry.class);
+            assertThat(raw, notNullValue(Plugin.Engine.Source.Element.RawEntry.class));
+            assertThat(raw.getMethod(), is(ZipEntry.STORED));
+            assertThat(raw.getCrc(), is(crc.getValue()));
+            ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+            raw.copyTo(uncompressed);
+            assertThat(uncompressed.toByteArray(), is(new byte[]{1, 2, 3}));
+        } finally {
+            origin.close();
+        }
+    }
 }
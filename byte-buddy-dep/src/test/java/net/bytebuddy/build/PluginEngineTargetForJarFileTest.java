@@ -7,21 +7,34 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PluginEngineTargetForJarFileTest {
@@ -116,6 +129,147 @@ public class PluginEngineTargetForJarFileTest {
         }
     }
 
+    @Test
+    public void testWriteResourceRaw() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForJarFile(file);
+        Plugin.Engine.Source.Element element = mock(Plugin.Engine.Source.Element.class);
+        when(element.getName()).thenReturn(FOO + "/" + BAR);
+        Plugin.Engine.Source.Element.RawEntry rawEntry = mock(Plugin.Engine.Source.Element.RawEntry.class);
+        when(element.resolveAs(Plugin.Engine.Source.Element.RawEntry.class)).thenReturn(rawEntry);
+        CRC32 crc = new CRC32();
+        crc.update(new byte[]{1, 2, 3});
+        when(rawEntry.getMethod()).thenReturn(ZipEntry.STORED);
+        when(rawEntry.getTime()).thenReturn((1L << 21) | (1L << 16));
+        when(rawEntry.getCrc()).thenReturn(crc.getValue());
+        when(rawEntry.getSize()).thenReturn(3L);
+        when(rawEntry.getCompressedSize()).thenReturn(3L);
+        doAnswer(new Answer<Void>() {
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                invocation.getArgument(0, OutputStream.class).write(new byte[]{1, 2, 3});
+                return null;
+            }
+        }).when(rawEntry).copyTo(any(OutputStream.class));
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.retain(element);
+        } finally {
+            sink.close();
+        }
+        verify(element, never()).getInputStream();
+        JarFile jarFile = new JarFile(file);
+        try {
+            JarEntry entry = jarFile.getJarEntry(FOO + "/" + BAR);
+            assertThat(entry.getMethod(), is(ZipEntry.STORED));
+            InputStream inputStream = jarFile.getInputStream(entry);
+            try {
+                assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[]{1, 2, 3}));
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testRetainEntryMetadata() throws Exception {
+        File source = temporaryFolder.newFile();
+        OutputStream outputStream = new FileOutputStream(source);
+        try {
+            JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+            JarEntry deflated = new JarEntry(FOO + "/" + BAR);
+            deflated.setExtra(new byte[]{0x34, 0x12, 2, 0, 1, 2});
+            deflated.setComment(FOO);
+            jarOutputStream.putNextEntry(deflated);
+            jarOutputStream.write(new byte[1000]);
+            jarOutputStream.closeEntry();
+            JarEntry stored = new JarEntry(BAR);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(3);
+            CRC32 crc = new CRC32();
+            crc.update(new byte[]{1, 2, 3});
+            stored.setCrc(crc.getValue());
+            stored.setExtra(new byte[]{0x78, 0x56, 1, 0, 3});
+            stored.setComment(BAR);
+            jarOutputStream.putNextEntry(stored);
+            jarOutputStream.write(new byte[]{1, 2, 3});
+            jarOutputStream.closeEntry();
+            jarOutputStream.close();
+        } finally {
+            outputStream.close();
+        }
+        Plugin.Engine.Source.Origin origin = new Plugin.Engine.Source.ForJarFile(source).read();
+        try {
+            Plugin.Engine.Target.Sink sink = new Plugin.Engine.Target.ForJarFile(file).write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+            try {
+                for (Plugin.Engine.Source.Element element : origin) {
+                    assertThat(element.resolveAs(Plugin.Engine.Source.Element.RawEntry.class) != null, is(true));
+                    sink.retain(element);
+                }
+            } finally {
+                sink.close();
+            }
+        } finally {
+            origin.close();
+        }
+        File recompressed = temporaryFolder.newFile();
+        JarFile jarFile = new JarFile(source);
+        try {
+            Plugin.Engine.Target.Sink sink = new Plugin.Engine.Target.ForJarFile(recompressed).write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+            try {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    sink.retain(new Plugin.Engine.Source.Element.ForJarEntry(jarFile, entries.nextElement()));
+                }
+            } finally {
+                sink.close();
+            }
+        } finally {
+            jarFile.close();
+        }
+        assertEntryMetadata(source, file);
+        assertEntryMetadata(source, recompressed);
+    }
+
+    private static void assertEntryMetadata(File source, File target) throws Exception {
+        JarFile original = new JarFile(source), copy = new JarFile(target);
+        try {
+            assertThat(copy.size(), is(original.size()));
+            Enumeration<JarEntry> entries = original.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry expected = entries.nextElement(), actual = copy.getJarEntry(expected.getName());
+                assertThat(actual.getExtra(), is(expected.getExtra()));
+                assertThat(actual.getComment(), is(expected.getComment()));
+                assertThat(actual.getMethod(), is(expected.getMethod()));
+                assertThat(actual.getTime(), is(expected.getTime()));
+                assertThat(actual.getCrc(), is(expected.getCrc()));
+                assertThat(actual.getSize(), is(expected.getSize()));
+                InputStream expectedStream = original.getInputStream(expected), actualStream = copy.getInputStream(actual);
+                try {
+                    assertThat(StreamDrainer.DEFAULT.drain(actualStream), is(StreamDrainer.DEFAULT.drain(expectedStream)));
+                } finally {
+                    expectedStream.close();
+                    actualStream.close();
+                }
+            }
+        } finally {
+            original.close();
+            copy.close();
+        }
+        InputStream inputStream = new FileInputStream(target);
+        try {
+            JarInputStream jarInputStream = new JarInputStream(inputStream);
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                assertThat(entry.getExtra() != null, is(true));
+                StreamDrainer.DEFAULT.drain(jarInputStream);
+            }
+            jarInputStream.close();
+        } finally {
+            inputStream.close();
+        }
+    }
+
     @Test
     public void testManifest() throws Exception {
         Manifest manifest = new Manifest();
@@ -0,0 +1,313 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.utility.StreamDrainer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PluginEngineTargetForParallelJarFileTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = temporaryFolder.newFile();
+        assertThat(file.delete(), is(true));
+    }
+
+    @Test
+    public void testWriteType() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.store(Collections.singletonMap(TypeDescription.ForLoadedType.of(Object.class), new byte[]{1, 2, 3}));
+        } finally {
+            sink.close();
+        }
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            JarInputStream jarInputStream = new JarInputStream(inputStream);
+            assertThat(jarInputStream.getManifest(), nullValue(Manifest.class));
+            JarEntry entry = jarInputStream.getNextJarEntry();
+            assertThat(entry.getName(), is(TypeDescription.ForLoadedType.of(Object.class).getInternalName() + ClassFileLocator.CLASS_FILE_EXTENSION));
+            assertThat(StreamDrainer.DEFAULT.drain(jarInputStream), is(new byte[]{1, 2, 3}));
+            assertThat(jarInputStream.getNextJarEntry(), nullValue(JarEntry.class));
+            jarInputStream.close();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Test
+    public void testWriteMultiReleaseType() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.store(ClassFileVersion.JAVA_V11, Collections.singletonMap(TypeDescription.ForLoadedType.of(Object.class), new byte[]{1, 2, 3}));
+        } finally {
+            sink.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            JarEntry entry = jarFile.getJarEntry(ClassFileLocator.META_INF_VERSIONS + "11/"
+                    + TypeDescription.ForLoadedType.of(Object.class).getInternalName()
+                    + ClassFileLocator.CLASS_FILE_EXTENSION);
+            InputStream inputStream = jarFile.getInputStream(entry);
+            try {
+                assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[]{1, 2, 3}));
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testWriteResourceStoredRetainsMethod() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        JarEntry original = new JarEntry(FOO + "/" + BAR);
+        original.setMethod(ZipEntry.STORED);
+        Plugin.Engine.Source.Element element = mock(Plugin.Engine.Source.Element.class);
+        when(element.getName()).thenReturn(FOO + "/" + BAR);
+        when(element.resolveAs(JarEntry.class)).thenReturn(original);
+        when(element.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.retain(element);
+        } finally {
+            sink.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            JarEntry entry = jarFile.getJarEntry(FOO + "/" + BAR);
+            assertThat(entry.getMethod(), is(ZipEntry.STORED));
+            InputStream inputStream = jarFile.getInputStream(entry);
+            try {
+                assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[]{1, 2, 3}));
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testWriteCompressedFormat() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, true);
+        Plugin.Engine.Source.Element element = mock(Plugin.Engine.Source.Element.class);
+        when(element.getName()).thenReturn(FOO + "/" + BAR + ".png");
+        when(element.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        Plugin.Engine.Source.Element other = mock(Plugin.Engine.Source.Element.class);
+        when(other.getName()).thenReturn(FOO + "/" + BAR + ".txt");
+        when(other.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.retain(element);
+            sink.retain(other);
+        } finally {
+            sink.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            assertThat(jarFile.getJarEntry(FOO + "/" + BAR + ".png").getMethod(), is(ZipEntry.STORED));
+            assertThat(jarFile.getJarEntry(FOO + "/" + BAR + ".txt").getMethod(), is(ZipEntry.DEFLATED));
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testManifest() throws Exception {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        target.write(manifest).close();
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            JarInputStream jarInputStream = new JarInputStream(inputStream);
+            Manifest readManifest = jarInputStream.getManifest();
+            assertThat(readManifest.getMainAttributes().get(Attributes.Name.MANIFEST_VERSION), is((Object) "1.0"));
+            assertThat(jarInputStream.getNextJarEntry(), nullValue(JarEntry.class));
+            jarInputStream.close();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Test
+    public void testDeterministicOrder() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 4, false);
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            for (int index = 0; index < 100; index++) {
+                sink.retain(new Plugin.Engine.Source.Element.ForByteArray(FOO + "/" + index, new byte[index * 100]));
+            }
+        } finally {
+            sink.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            for (int index = 0; index < 100; index++) {
+                JarEntry entry = entries.nextElement();
+                assertThat(entry.getName(), is(FOO + "/" + index));
+                InputStream inputStream = jarFile.getInputStream(entry);
+                try {
+                    assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[index * 100]));
+                } finally {
+                    inputStream.close();
+                }
+            }
+            assertThat(entries.hasMoreElements(), is(false));
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testManyEntries() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            for (int index = 0; index < 70000; index++) {
+                sink.retain(new Plugin.Engine.Source.Element.ForByteArray(FOO + index + "/", new byte[0]));
+            }
+        } finally {
+            sink.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            assertThat(jarFile.size(), is(70000));
+            assertThat(jarFile.getJarEntry(FOO + 69999 + "/").isDirectory(), is(true));
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    @Test
+    public void testRawEntryPassThrough() throws Exception {
+        File source = temporaryFolder.newFile();
+        OutputStream outputStream = new FileOutputStream(source);
+        try {
+            JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/"));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR));
+            jarOutputStream.write(new byte[1000]);
+            jarOutputStream.closeEntry();
+            JarEntry stored = new JarEntry(BAR);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(3);
+            CRC32 crc = new CRC32();
+            crc.update(new byte[]{1, 2, 3});
+            stored.setCrc(crc.getValue());
+            jarOutputStream.putNextEntry(stored);
+            jarOutputStream.write(new byte[]{1, 2, 3});
+            jarOutputStream.closeEntry();
+            jarOutputStream.close();
+        } finally {
+            outputStream.close();
+        }
+        Plugin.Engine.Source.Origin origin = new Plugin.Engine.Source.ForJarFile(source).read();
+        try {
+            Plugin.Engine.Target.Sink sink = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false).write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+            try {
+                sink.store(Collections.singletonMap(TypeDescription.ForLoadedType.of(Object.class), new byte[]{1, 2, 3}));
+                Iterator<Plugin.Engine.Source.Element> iterator = origin.iterator();
+                while (iterator.hasNext()) {
+                    sink.retain(iterator.next());
+                }
+            } finally {
+                sink.close();
+            }
+        } finally {
+            origin.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            assertThat(jarFile.size(), is(4));
+            assertThat(jarFile.getJarEntry(FOO + "/").isDirectory(), is(true));
+            JarEntry deflated = jarFile.getJarEntry(FOO + "/" + BAR);
+            assertThat(deflated.getMethod(), is(ZipEntry.DEFLATED));
+            InputStream inputStream = jarFile.getInputStream(deflated);
+            try {
+                assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[1000]));
+            } finally {
+                inputStream.close();
+            }
+            JarEntry raw = jarFile.getJarEntry(BAR);
+            assertThat(raw.getMethod(), is(ZipEntry.STORED));
+            inputStream = jarFile.getInputStream(raw);
+            try {
+                assertThat(StreamDrainer.DEFAULT.drain(inputStream), is(new byte[]{1, 2, 3}));
+            } finally {
+                inputStream.close();
+            }
+        } finally {
+            jarFile.close();
+        }
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            JarInputStream jarInputStream = new JarInputStream(inputStream);
+            while (jarInputStream.getNextJarEntry() != null) {
+                StreamDrainer.DEFAULT.drain(jarInputStream);
+            }
+            jarInputStream.close();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Test(expected = ZipException.class)
+    public void testDuplicateEntry() throws Exception {
+        Plugin.Engine.Target target = new Plugin.Engine.Target.ForParallelJarFile(file, 2, false);
+        Plugin.Engine.Target.Sink sink = target.write(Plugin.Engine.Source.Origin.NO_MANIFEST);
+        try {
+            sink.store(Collections.singletonMap(TypeDescription.ForLoadedType.of(Object.class), new byte[]{1, 2, 3}));
+            sink.store(Collections.singletonMap(TypeDescription.ForLoadedType.of(Object.class), new byte[]{1, 2, 3}));
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalThreads() throws Exception {
+        new Plugin.Engine.Target.ForParallelJarFile(file, 0, false);
+    }
+}
@@ -4,8 +4,12 @@ import net.bytebuddy.description.ByteCodeElement;
 import net.bytebuddy.matcher.AbstractFilterableListTest;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static net.bytebuddy.matcher.ElementMatchers.fieldType;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.none;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,6 +28,18 @@ public abstract class AbstractFieldListTest<U, V extends FieldDescription> exten
         assertThat(asList(getFirst()).asDefined(), is(Collections.singletonList(asElement(getFirst()).asDefined())));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexedFilter() throws Exception {
+        FieldList<V> fieldList = asList(Arrays.asList(getFirst(), getSecond()));
+        for (int index = 0; index < 3; index++) {
+            assertThat(fieldList.filter(named("foo")), is(Collections.singletonList(asElement(getFirst()))));
+            assertThat(fieldList.filter(namedOneOf("bar", "qux").and(fieldType(Void.class))), is(Collections.singletonList(asElement(getSecond()))));
+            assertThat(fieldList.filter(named("foo").or(named("bar"))), is(fieldList));
+            assertThat(fieldList.filter(named("qux")).isEmpty(), is(true));
+        }
+    }
+
     protected static class Foo {
 
         Void foo;
@@ -1,8 +1,14 @@
 package net.bytebuddy.description.field;
 
+import org.junit.Test;
+
 import java.lang.reflect.Field;
 import java.util.List;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class FieldListForLoadedFieldsTest extends AbstractFieldListTest<Field, FieldDescription.InDefinedShape> {
 
     protected Field getFirst() throws Exception {
@@ -20,4 +26,13 @@ public class FieldListForLoadedFieldsTest extends AbstractFieldListTest<Field, F
     protected FieldDescription.InDefinedShape asElement(Field element) {
         return new FieldDescription.ForLoadedField(element);
     }
+
+    @Test
+    public void testArrayIsCopied() throws Exception {
+        Field[] field = new Field[]{getFirst()};
+        FieldList<FieldDescription.InDefinedShape> fieldList = new FieldList.ForLoadedFields(field);
+        field[0] = getSecond();
+        assertThat(fieldList.getOnly(), is((FieldDescription) asElement(getFirst())));
+        assertThat(fieldList.filter(named("foo")).size(), is(1));
+    }
 }
@@ -3,11 +3,19 @@ package net.bytebuddy.description.method;
 import net.bytebuddy.description.ByteCodeElement;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.AbstractFilterableListTest;
+import net.bytebuddy.matcher.NameMatcher;
+import net.bytebuddy.matcher.StringPrefixSetMatcher;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.none;
+import static net.bytebuddy.matcher.ElementMatchers.takesNoArguments;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -36,6 +44,21 @@ public abstract class AbstractMethodListTest<U, V extends MethodDescription> ext
         assertThat(asList(getFirst()).asDefined(), is(Collections.singletonList(asElement(getFirst()).asDefined())));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIndexedFilter() throws Exception {
+        MethodList<V> methodList = asList(Arrays.asList(getFirst(), getSecond()));
+        for (int index = 0; index < 3; index++) {
+            assertThat(methodList.filter(named("foo")), is(Collections.singletonList(asElement(getFirst()))));
+            assertThat(methodList.filter(namedOneOf("bar", "qux")), is(Collections.singletonList(asElement(getSecond()))));
+            assertThat(methodList.filter(nameStartsWith("b").and(takesNoArguments())), is(Collections.singletonList(asElement(getSecond()))));
+            assertThat(methodList.filter(new NameMatcher<V>(new StringPrefixSetMatcher(Arrays.asList("b", "q")))), is(Collections.singletonList(asElement(getSecond()))));
+            assertThat(methodList.filter(named("bar").or(named("foo"))), is(methodList));
+            assertThat(methodList.filter(named("foo").or(isAbstract())), is(methodList));
+            assertThat(methodList.filter(named("qux")).isEmpty(), is(true));
+        }
+    }
+
     public abstract static class Foo {
 
         abstract void foo();
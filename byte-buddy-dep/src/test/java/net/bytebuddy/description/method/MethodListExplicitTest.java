@@ -1,7 +1,15 @@
 package net.bytebuddy.description.method;
 
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class MethodListExplicitTest extends AbstractMethodListTest<MethodDescription, MethodDescription> {
 
     protected MethodDescription getFirst() throws Exception {
@@ -19,4 +27,16 @@ public class MethodListExplicitTest extends AbstractMethodListTest<MethodDescrip
     protected MethodDescription asElement(MethodDescription element) {
         return element;
     }
+
+    @Test
+    public void testFilterReflectsAlteration() throws Exception {
+        List<MethodDescription> elements = new ArrayList<MethodDescription>(Collections.singletonList(getFirst()));
+        MethodList<MethodDescription> methodList = asList(elements);
+        for (int index = 0; index < 3; index++) {
+            assertThat(methodList.filter(named("foo")), is(Collections.singletonList(getFirst())));
+        }
+        elements.set(0, getSecond());
+        assertThat(methodList.filter(named("foo")).isEmpty(), is(true));
+        assertThat(methodList.filter(named("bar")), is(Collections.singletonList(getSecond())));
+    }
 }
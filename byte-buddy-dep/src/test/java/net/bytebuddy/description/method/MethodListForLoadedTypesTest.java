@@ -1,9 +1,15 @@
 package net.bytebuddy.description.method;
 
+import org.junit.Test;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.List;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class MethodListForLoadedTypesTest extends AbstractMethodListTest<Method, MethodDescription.InDefinedShape> {
 
     protected Method getFirst() throws Exception {
@@ -21,4 +27,13 @@ public class MethodListForLoadedTypesTest extends AbstractMethodListTest<Method,
     protected MethodDescription.InDefinedShape asElement(Method element) {
         return new MethodDescription.ForLoadedMethod(element);
     }
+
+    @Test
+    public void testArrayIsCopied() throws Exception {
+        Method[] method = new Method[]{getFirst()};
+        MethodList<MethodDescription.InDefinedShape> methodList = new MethodList.ForLoadedMethods(new Constructor<?>[0], method);
+        method[0] = getSecond();
+        assertThat(methodList.getOnly(), is((MethodDescription) asElement(getFirst())));
+        assertThat(methodList.filter(named("foo")).size(), is(1));
+    }
 }
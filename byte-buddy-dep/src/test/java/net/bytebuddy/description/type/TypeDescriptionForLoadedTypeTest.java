@@ -9,10 +9,14 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTest {
@@ -136,6 +140,46 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
         TypeDescription.ForLoadedType.of(classLoader.loadClass(Foo.class.getName()));
     }
 
+    @Test
+    public void testSharedDescription() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Foo.class);
+        assertThat(TypeDescription.ForLoadedType.of(Foo.class), sameInstance(typeDescription));
+        assertThat(typeDescription.getDeclaredMethods(), sameInstance(TypeDescription.ForLoadedType.of(Foo.class).getDeclaredMethods()));
+        assertThat(typeDescription.getDeclaredFields(), sameInstance(TypeDescription.ForLoadedType.of(Foo.class).getDeclaredFields()));
+        assertThat(typeDescription.getSuperClass(), sameInstance(TypeDescription.ForLoadedType.of(Foo.class).getSuperClass()));
+        assertThat(typeDescription.getInterfaces(), sameInstance(TypeDescription.ForLoadedType.of(Foo.class).getInterfaces()));
+        assertThat(typeDescription.getTypeVariables(), sameInstance(TypeDescription.ForLoadedType.of(Foo.class).getTypeVariables()));
+    }
+
+    @Test
+    public void testCacheDistinguishesTypes() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassFileLocator.ForClassLoader.readToNames(Bar.class));
+        TypeDescription.ForLoadedType.Cache cache = new TypeDescription.ForLoadedType.Cache();
+        TypeDescription typeDescription = cache.find(Bar.class);
+        assertThat(cache.find(Bar.class), sameInstance(typeDescription));
+        assertThat(cache.find(classLoader.loadClass(Bar.class.getName())), is(typeDescription));
+        assertThat(cache.find(classLoader.loadClass(Bar.class.getName())) == typeDescription, is(false));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void testDescriptionDoesNotRetainDiscardedClassLoader() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassFileLocator.ForClassLoader.readToNames(Bar.class));
+        Class<?> type = classLoader.loadClass(Bar.class.getName());
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(type);
+        assertThat(typeDescription.getDeclaredMethods().isEmpty(), is(false));
+        assertThat(TypeDescription.ForLoadedType.of(type) == typeDescription, is(false));
+        Reference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        type = null;
+        typeDescription = null;
+        for (int index = 0; index < 100 && reference.get() != null; index++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+    }
+
     public static class Foo {
 
         public Bar bar() {
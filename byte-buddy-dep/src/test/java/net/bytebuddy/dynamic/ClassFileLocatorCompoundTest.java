@@ -7,13 +7,16 @@ import org.junit.rules.MethodRule;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
+import java.io.IOException;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
 public class ClassFileLocatorCompoundTest {
 
-    private static final String FOO = "foo";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     @Rule
     public MethodRule mockitoRule = MockitoJUnit.rule().silent();
@@ -24,6 +27,9 @@ public class ClassFileLocatorCompoundTest {
     @Mock
     private ClassFileLocator otherClassFileLocator;
 
+    @Mock
+    private ClassFileLocator.Enumerable enumerableClassFileLocator;
+
     @Mock
     private ClassFileLocator.Resolution legal, illegal;
 
@@ -61,4 +67,43 @@ public class ClassFileLocatorCompoundTest {
         verify(otherClassFileLocator).close();
         verifyNoMoreInteractions(otherClassFileLocator);
     }
+
+    @Test
+    public void testIndexedSkipsUnrelatedPackage() throws Exception {
+        when(enumerableClassFileLocator.getPackages()).thenReturn(Collections.singleton(BAR));
+        when(classFileLocator.locate(FOO + "." + QUX)).thenReturn(legal);
+        assertThat(new ClassFileLocator.Compound(enumerableClassFileLocator, classFileLocator).locate(FOO + "." + QUX), is(legal));
+        verify(enumerableClassFileLocator).getPackages();
+        verifyNoMoreInteractions(enumerableClassFileLocator);
+    }
+
+    @Test
+    public void testIndexedRetainsOrder() throws Exception {
+        when(enumerableClassFileLocator.getPackages()).thenReturn(Collections.singleton(FOO));
+        when(classFileLocator.locate(FOO + "." + QUX)).thenReturn(illegal);
+        when(enumerableClassFileLocator.locate(FOO + "." + QUX)).thenReturn(legal);
+        ClassFileLocator compound = new ClassFileLocator.Compound(classFileLocator, enumerableClassFileLocator, otherClassFileLocator);
+        assertThat(compound.locate(FOO + "." + QUX), is(legal));
+        assertThat(compound.locate(FOO + "." + QUX), is(legal));
+        verify(classFileLocator, times(2)).locate(FOO + "." + QUX);
+        verify(enumerableClassFileLocator).getPackages();
+        verify(enumerableClassFileLocator, times(2)).locate(FOO + "." + QUX);
+        verifyNoMoreInteractions(otherClassFileLocator);
+    }
+
+    @Test
+    public void testIndexedDefaultPackage() throws Exception {
+        when(enumerableClassFileLocator.getPackages()).thenReturn(Collections.singleton(""));
+        when(enumerableClassFileLocator.locate(QUX)).thenReturn(legal);
+        assertThat(new ClassFileLocator.Compound(enumerableClassFileLocator).locate(QUX), is(legal));
+        assertThat(new ClassFileLocator.Compound(enumerableClassFileLocator).locate(FOO + "." + QUX).isResolved(), is(false));
+        verify(enumerableClassFileLocator, never()).locate(FOO + "." + QUX);
+    }
+
+    @Test
+    public void testIndexFailureQueriesLocator() throws Exception {
+        when(enumerableClassFileLocator.getPackages()).thenThrow(new IOException());
+        when(enumerableClassFileLocator.locate(FOO + "." + QUX)).thenReturn(legal);
+        assertThat(new ClassFileLocator.Compound(enumerableClassFileLocator).locate(FOO + "." + QUX), is(legal));
+    }
 }
@@ -7,15 +7,26 @@ import net.bytebuddy.utility.StreamDrainer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import static net.bytebuddy.test.utility.FieldByFieldComparison.hasPrototype;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,6 +40,9 @@ public class ClassFileLocatorForClassLoaderTest {
     @Rule
     public MethodRule mockitoRule = MockitoJUnit.rule().silent();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Mock
     private ClosableClassLoader classLoader;
 
@@ -38,6 +52,56 @@ public class ClassFileLocatorForClassLoaderTest {
         assertThat(ClassFileLocator.ForClassLoader.of(null), not(ClassFileLocator.ForClassLoader.ofSystemLoader()));
     }
 
+    @Test
+    public void testDirectAccess() throws Exception {
+        File jar = temporaryFolder.newFile("foo.jar"), folder = temporaryFolder.newFolder();
+        JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jar));
+        try {
+            outputStream.putNextEntry(new JarEntry(FOOBAR + ClassFileLocator.CLASS_FILE_EXTENSION));
+            outputStream.write(new byte[]{1, 2, 3});
+            outputStream.closeEntry();
+        } finally {
+            outputStream.close();
+        }
+        File file = new File(folder, "qux/baz" + ClassFileLocator.CLASS_FILE_EXTENSION);
+        assertThat(file.getParentFile().mkdirs(), is(true));
+        OutputStream fileOutputStream = new FileOutputStream(file);
+        try {
+            fileOutputStream.write(new byte[]{4, 5, 6});
+        } finally {
+            fileOutputStream.close();
+        }
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL(), folder.toURI().toURL()}, ClassLoadingStrategy.BOOTSTRAP_LOADER);
+        ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.ofDirectAccess(classLoader);
+        try {
+            assertThat(classFileLocator, instanceOf(ClassFileLocator.Compound.class));
+            assertThat(classFileLocator.locate("foo.bar").resolve(), is(new byte[]{1, 2, 3}));
+            assertThat(classFileLocator.locate("qux.baz").resolve(), is(new byte[]{4, 5, 6}));
+            assertThat(classFileLocator.locate(Object.class.getName()).isResolved(), is(true));
+            assertThat(classFileLocator.locate("qux.foo").isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testDirectAccessFallback() throws Exception {
+        assertThat(ClassFileLocator.ForClassLoader.ofDirectAccess(classLoader), hasPrototype((ClassFileLocator) new ClassFileLocator.ForClassLoader(classLoader)));
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{new URL("http://localhost/foo.jar")}, ClassLoadingStrategy.BOOTSTRAP_LOADER);
+        assertThat(ClassFileLocator.ForClassLoader.ofDirectAccess(classLoader), hasPrototype((ClassFileLocator) new ClassFileLocator.ForClassLoader(classLoader)));
+    }
+
+    @Test
+    public void testDirectAccessClassPathAttributeFallback() throws Exception {
+        File jar = temporaryFolder.newFile("foo.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "bar.jar");
+        new JarOutputStream(new FileOutputStream(jar), manifest).close();
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, ClassLoadingStrategy.BOOTSTRAP_LOADER);
+        assertThat(ClassFileLocator.ForClassLoader.ofDirectAccess(classLoader), hasPrototype((ClassFileLocator) new ClassFileLocator.ForClassLoader(classLoader)));
+    }
+
     @Test
     public void testLocatable() throws Exception {
         ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[]{1, 2, 3});
@@ -1,6 +1,8 @@
 package net.bytebuddy.dynamic;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.loading.ClassReloadingStrategy;
 import net.bytebuddy.test.utility.AgentAttachmentRule;
 import net.bytebuddy.test.utility.JavaVersionRule;
@@ -10,9 +12,13 @@ import org.junit.Test;
 import org.junit.rules.MethodRule;
 
 import java.lang.instrument.Instrumentation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,6 +51,74 @@ public class ClassFileLocatorForInstrumentationTest {
         assertThat(resolution.resolve(), notNullValue(byte[].class));
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce(retransformsClasses = true)
+    public void testBatchExtraction() throws Exception {
+        assertThat(ByteBuddyAgent.install(), instanceOf(Instrumentation.class));
+        ClassFileLocator.ForInstrumentation classFileLocator = new ClassFileLocator.ForInstrumentation(ByteBuddyAgent.getInstrumentation(), getClass().getClassLoader());
+        Map<String, ClassFileLocator.Resolution> resolutions = classFileLocator.locateAll(Arrays.asList(Foo.class.getName(), FOO, Bar.class.getName()));
+        assertThat(resolutions.keySet(), hasItems(Foo.class.getName(), FOO, Bar.class.getName()));
+        assertThat(resolutions.get(Foo.class.getName()).isResolved(), is(true));
+        assertThat(resolutions.get(Foo.class.getName()).resolve(), is(classFileLocator.locate(Foo.class.getName()).resolve()));
+        assertThat(resolutions.get(Bar.class.getName()).isResolved(), is(true));
+        assertThat(resolutions.get(FOO).isResolved(), is(false));
+    }
+
+    @Test
+    @AgentAttachmentRule.Enforce(retransformsClasses = true)
+    public void testExtractionCached() throws Exception {
+        assertThat(ByteBuddyAgent.install(), instanceOf(Instrumentation.class));
+        ClassFileLocator classFileLocator = new ClassFileLocator.ForInstrumentation(ByteBuddyAgent.getInstrumentation(), getClass().getClassLoader()).withCache(1);
+        byte[] binaryRepresentation = classFileLocator.locate(Foo.class.getName()).resolve();
+        assertThat(classFileLocator.locate(Foo.class.getName()).resolve(), sameInstance(binaryRepresentation));
+        classFileLocator.locate(Bar.class.getName());
+        assertThat(classFileLocator.locate(Foo.class.getName()).resolve(), not(sameInstance(binaryRepresentation)));
+    }
+
+    @Test
+    public void testBoundedCache() throws Exception {
+        ClassFileLocator.ForInstrumentation.Cache cache = new ClassFileLocator.ForInstrumentation.Cache.Bounded(2);
+        byte[] foo = new byte[0], bar = new byte[0], qux = new byte[0];
+        cache.register(Foo.class, foo);
+        cache.register(Bar.class, bar);
+        assertThat(cache.find(Foo.class), sameInstance(foo));
+        cache.register(Object.class, qux);
+        assertThat(cache.find(Foo.class), sameInstance(foo));
+        assertThat(cache.find(Bar.class), nullValue(byte[].class));
+        assertThat(cache.find(Object.class), sameInstance(qux));
+    }
+
+    @Test
+    public void testBoundedCacheDoesNotRetainType() throws Exception {
+        ClassFileLocator.ForInstrumentation.Cache cache = new ClassFileLocator.ForInstrumentation.Cache.Bounded(2);
+        Class<?> type = new ByteBuddy().subclass(Object.class)
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        byte[] binaryRepresentation = new byte[0];
+        cache.register(type, binaryRepresentation);
+        assertThat(cache.find(type), sameInstance(binaryRepresentation));
+        WeakReference<Class<?>> reference = new WeakReference<Class<?>>(type);
+        type = null; // Make eligible for GC
+        for (int index = 0; index < 50 && reference.get() != null; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(reference.get(), nullValue(Class.class));
+        cache.register(Object.class, binaryRepresentation);
+        assertThat(cache.find(Object.class), sameInstance(binaryRepresentation));
+    }
+
+    @Test
+    public void testBatchExtractingTransformer() throws Exception {
+        ClassFileLocator.ForInstrumentation.BatchExtractionClassFileTransformer classFileTransformer = new ClassFileLocator.ForInstrumentation.BatchExtractionClassFileTransformer(Collections.singleton(Foo.class));
+        byte[] binaryRepresentation = new byte[]{1, 2, 3};
+        assertThat(classFileTransformer.transform(Foo.class.getClassLoader(), FOO, Foo.class, mock(ProtectionDomain.class), binaryRepresentation), nullValue(byte[].class));
+        assertThat(classFileTransformer.transform(Bar.class.getClassLoader(), FOO, Bar.class, mock(ProtectionDomain.class), binaryRepresentation), nullValue(byte[].class));
+        assertThat(classFileTransformer.getBinaryRepresentations().size(), is(1));
+        assertThat(classFileTransformer.getBinaryRepresentations().get(Foo.class), is(binaryRepresentation));
+    }
+
     @Test
     @AgentAttachmentRule.Enforce(retransformsClasses = true)
     @JavaVersionRule.Enforce(value = 8, atMost = 8)
@@ -109,4 +183,8 @@ public class ClassFileLocatorForInstrumentationTest {
         void bar() {
         }
     }
+
+    private static class Bar {
+        /* empty */
+    }
 }
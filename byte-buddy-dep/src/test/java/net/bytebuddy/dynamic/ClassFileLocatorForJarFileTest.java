@@ -13,6 +13,9 @@ import org.objectweb.asm.ClassVisitor;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -66,6 +69,31 @@ public class ClassFileLocatorForJarFileTest {
         }
     }
 
+    @Test
+    public void testPackages() throws Exception {
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            JarOutputStream jarOutputStream = new JarOutputStream(outputStream);
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + "/" + FOO + ClassFileLocator.CLASS_FILE_EXTENSION));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(BAR + ClassFileLocator.CLASS_FILE_EXTENSION));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(ClassFileLocator.META_INF_VERSIONS + "11/" + BAR + "/" + FOO + ClassFileLocator.CLASS_FILE_EXTENSION));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + ".txt"));
+            jarOutputStream.closeEntry();
+            jarOutputStream.close();
+        } finally {
+            outputStream.close();
+        }
+        JarFile jarFile = new JarFile(file);
+        try {
+            assertThat(new ClassFileLocator.ForJarFile(jarFile).getPackages(), is((Set<String>) new HashSet<String>(Arrays.asList(FOO + "." + BAR, "", BAR))));
+        } finally {
+            jarFile.close();
+        }
+    }
+
     @Test
     public void testClassPath() throws Exception {
         ClassFileLocator classFileLocator = ClassFileLocator.ForJarFile.ofClassPath();
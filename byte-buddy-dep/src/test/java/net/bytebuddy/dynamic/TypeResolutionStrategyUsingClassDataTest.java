@@ -0,0 +1,87 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeResolutionStrategyUsingClassDataTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    private ClassInjector.UsingLookup classInjector;
+
+    @Before
+    public void setUp() throws Exception {
+        if (ClassInjector.UsingLookup.isAvailable()) {
+            classInjector = ClassInjector.UsingLookup.of(Class.forName("java.lang.invoke.MethodHandles").getMethod("lookup").invoke(null));
+        }
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(16)
+    public void testClassDataDynamicConstant() throws Exception {
+        assertInitializer(ClassFileVersion.JAVA_V11);
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(16)
+    public void testClassDataInvocation() throws Exception {
+        assertInitializer(ClassFileVersion.JAVA_V8);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @JavaVersionRule.Enforce(16)
+    public void testAuxiliaryTypesNotSupported() throws Exception {
+        new ByteBuddy()
+                .subclass(Foo.class)
+                .method(named(FOO))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .make(new TypeResolutionStrategy.UsingClassData(classInjector))
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+    }
+
+    private void assertInitializer(ClassFileVersion classFileVersion) throws Exception {
+        Class<? extends Foo> type = new ByteBuddy(classFileVersion)
+                .subclass(Foo.class)
+                .method(named(FOO))
+                .intercept(FixedValue.value(new StringBuilder(BAR)))
+                .make(new TypeResolutionStrategy.UsingClassData(classInjector))
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(Class.class.getMethod("isHidden").invoke(type), is((Object) true));
+        assertThat(type.getPackage().getName(), is(Foo.class.getPackage().getName()));
+        assertThat(type.getDeclaredConstructor().newInstance().foo().toString(), is(BAR));
+    }
+
+    public static class Foo {
+
+        public Object foo() {
+            return null;
+        }
+    }
+
+    public static class Interceptor {
+
+        public static Object intercept(@SuperCall Callable<?> callable) throws Exception {
+            return callable.call();
+        }
+    }
+}
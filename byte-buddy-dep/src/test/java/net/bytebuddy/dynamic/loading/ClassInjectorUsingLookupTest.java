@@ -62,6 +62,19 @@ public class ClassInjectorUsingLookupTest {
                 .get(dynamicType.getTypeDescription()).getName(), is("net.bytebuddy.test.Bar"));
     }
 
+    @Test
+    @JavaVersionRule.Enforce(16)
+    public void testLookupInjectionHidden() throws Exception {
+        ClassInjector.UsingLookup injector = ClassInjector.UsingLookup.of(type.getMethod("lookup").invoke(null));
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        Class<?> hidden = injector.injectHidden(dynamicType.getBytes(), new Object(), false);
+        assertThat(Class.class.getMethod("isHidden").invoke(hidden), is((Object) true));
+        assertThat(hidden.getName().startsWith("net.bytebuddy.test.Bar/"), is(true));
+    }
+
     @Test
     @JavaVersionRule.Enforce(9)
     public void testLookupInjectionPropagate() throws Exception {
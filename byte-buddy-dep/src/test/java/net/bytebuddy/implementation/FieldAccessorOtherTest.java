@@ -1,12 +1,14 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.modifier.FieldManifestation;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.test.utility.CallTraceable;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.utility.JavaConstant;
@@ -275,6 +277,65 @@ public class FieldAccessorOtherTest {
         }
     }
 
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testVarHandleGetterAndSetter() throws Exception {
+        Class<? extends SampleVarHandle> loaded = new ByteBuddy(ClassFileVersion.JAVA_V11)
+                .subclass(SampleVarHandle.class)
+                .method(isDeclaredBy(SampleVarHandle.class))
+                .intercept(FieldAccessor.ofBeanProperty().withVarHandle(FieldAccess.VarHandleAccess.VOLATILE))
+                .make()
+                .load(SampleVarHandle.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        SampleVarHandle instance = loaded.getDeclaredConstructor().newInstance();
+        instance.setFoo(42L);
+        instance.setBar(FOO);
+        assertThat(instance.foo, is(42L));
+        assertThat(instance.bar, is((Object) FOO));
+        assertThat(instance.getFoo(), is(42L));
+        assertThat(instance.getBar(), is((Object) FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testVarHandleStaticGetterAndSetter() throws Exception {
+        Class<? extends SampleStaticVarHandle> loaded = new ByteBuddy(ClassFileVersion.JAVA_V11)
+                .subclass(SampleStaticVarHandle.class)
+                .method(isDeclaredBy(SampleStaticVarHandle.class))
+                .intercept(FieldAccessor.ofBeanProperty().in(SampleStaticVarHandle.class).withVarHandle(FieldAccess.VarHandleAccess.ACQUIRE_RELEASE))
+                .make()
+                .load(SampleStaticVarHandle.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        SampleStaticVarHandle instance = loaded.getDeclaredConstructor().newInstance();
+        instance.setFoo(42L);
+        assertThat(SampleStaticVarHandle.foo, is(42L));
+        assertThat(instance.getFoo(), is(42L));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testVarHandleArgumentSetter() throws Exception {
+        Class<? extends SampleArgumentSetter> loaded = new ByteBuddy(ClassFileVersion.JAVA_V11)
+                .subclass(SampleArgumentSetter.class)
+                .method(named(FOO))
+                .intercept(FieldAccessor.ofField(FOO).withVarHandle(FieldAccess.VarHandleAccess.OPAQUE).setsArgumentAt(0))
+                .make()
+                .load(SampleArgumentSetter.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        SampleArgumentSetter sampleArgumentSetter = loaded.getDeclaredConstructor().newInstance();
+        sampleArgumentSetter.foo(FOO);
+        assertThat(sampleArgumentSetter.foo, is((Object) FOO));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testVarHandleRequiresJava11() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(SampleVarHandle.class)
+                .method(isDeclaredBy(SampleVarHandle.class))
+                .intercept(FieldAccessor.ofBeanProperty().withVarHandle(FieldAccess.VarHandleAccess.PLAIN))
+                .make();
+    }
+
     @SuppressWarnings("unused")
     public static class Baz {
 
@@ -334,4 +395,40 @@ public class FieldAccessorOtherTest {
 
         public static final String FOO = "foo";
     }
+
+    public static class SampleVarHandle {
+
+        public long foo;
+
+        public Object bar;
+
+        public long getFoo() {
+            throw new AssertionError();
+        }
+
+        public void setFoo(long foo) {
+            throw new AssertionError();
+        }
+
+        public Object getBar() {
+            throw new AssertionError();
+        }
+
+        public void setBar(Object bar) {
+            throw new AssertionError();
+        }
+    }
+
+    public static class SampleStaticVarHandle {
+
+        public static long foo;
+
+        public long getFoo() {
+            throw new AssertionError();
+        }
+
+        public void setFoo(long foo) {
+            throw new AssertionError();
+        }
+    }
 }
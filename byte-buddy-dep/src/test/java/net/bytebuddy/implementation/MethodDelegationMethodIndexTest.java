@@ -0,0 +1,137 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.bind.annotation.MethodIndex;
+import org.junit.Test;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MethodDelegationMethodIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar", TABLE = "table";
+
+    @Test
+    public void testMethodIndex() throws Exception {
+        DynamicType.Loaded<Foo> loaded = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        Foo instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        List<MethodDescription> methods = MethodIndex.Table.of(TypeDescription.ForLoadedType.of(loaded.getLoaded()));
+        assertThat(methods.get(instance.foo()).getName(), is(FOO));
+        assertThat(methods.get(instance.bar()).getName(), is(BAR));
+    }
+
+    @Test
+    public void testMethodIndexTable() throws Exception {
+        DynamicType.Loaded<Foo> loaded = new ByteBuddy()
+                .subclass(Foo.class)
+                .defineField(TABLE, Member[].class, Visibility.PUBLIC, Ownership.STATIC)
+                .initializer(new MethodIndex.Initializer(TABLE))
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        Foo instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        Member[] table = (Member[]) loaded.getLoaded().getField(TABLE).get(null);
+        assertThat(table[instance.foo()], is((Member) loaded.getLoaded().getDeclaredMethod(FOO)));
+        assertThat(table[instance.bar()], is((Member) loaded.getLoaded().getDeclaredMethod(BAR)));
+    }
+
+    @Test
+    public void testMethodIndexIsStable() throws Exception {
+        Class<? extends Foo> first = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Class<? extends Foo> second = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(named(BAR))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .method(named(FOO))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(first.getDeclaredConstructor().newInstance().foo(), is(second.getDeclaredConstructor().newInstance().foo()));
+        assertThat(first.getDeclaredConstructor().newInstance().bar(), is(second.getDeclaredConstructor().newInstance().bar()));
+    }
+
+    @Test
+    public void testLoadedTable() throws Exception {
+        Member[] table = MethodIndex.Table.of(Foo.class);
+        List<MethodDescription> methods = MethodIndex.Table.of(TypeDescription.ForLoadedType.of(Foo.class));
+        assertThat(table.length, is(methods.size()));
+        for (int index = 0; index < table.length; index++) {
+            assertThat(table[index] instanceof Method
+                    ? new MethodDescription.ForLoadedMethod((Method) table[index]).getName()
+                    : MethodDescription.CONSTRUCTOR_INTERNAL_NAME, is(methods.get(index).getInternalName()));
+        }
+    }
+
+    @Test
+    public void testIndexIsResolvedOncePerTarget() throws Exception {
+        Implementation.Target implementationTarget = mock(Implementation.Target.class);
+        when(implementationTarget.getInstrumentedType()).thenReturn(TypeDescription.ForLoadedType.of(Foo.class));
+        MethodDescription foo = new MethodDescription.ForLoadedMethod(Foo.class.getMethod(FOO));
+        MethodDescription bar = new MethodDescription.ForLoadedMethod(Foo.class.getMethod(BAR));
+        assertThat(MethodIndex.Table.indexOf(implementationTarget, foo), is(MethodIndex.Table.indexOf(TypeDescription.ForLoadedType.of(Foo.class), foo)));
+        assertThat(MethodIndex.Table.indexOf(implementationTarget, bar), is(MethodIndex.Table.indexOf(TypeDescription.ForLoadedType.of(Foo.class), bar)));
+        verify(implementationTarget).getInstrumentedType();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIllegalType() throws Exception {
+        new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(IllegalInterceptor.class))
+                .make();
+    }
+
+    public static class Foo {
+
+        public int foo() {
+            return -1;
+        }
+
+        public int bar() {
+            return -1;
+        }
+    }
+
+    public static class Interceptor {
+
+        public static int intercept(@MethodIndex int index) {
+            return index;
+        }
+    }
+
+    public static class IllegalInterceptor {
+
+        public static int intercept(@MethodIndex long index) {
+            return (int) index;
+        }
+    }
+}
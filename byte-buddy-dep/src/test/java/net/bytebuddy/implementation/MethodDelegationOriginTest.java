@@ -1,6 +1,7 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.bind.annotation.Origin;
@@ -304,6 +305,60 @@ public class MethodDelegationOriginTest {
         assertThat(instance.foo(), instanceOf((Class<?>) originMethodType.getDeclaredField(TYPE).get(null)));
     }
 
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testOriginMethodWithLazyCache() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V11)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(OriginMethodWithLazyCache.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(0));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        Object method = instance.foo(0, FOO);
+        assertThat(method, instanceOf(Method.class));
+        assertThat(method, is((Object) Bar.class.getDeclaredMethod(FOO, int.class, String.class)));
+        assertThat(method, sameInstance(instance.foo(0, FOO)));
+    }
+
+    @Test
+    public void testOriginMethodWithLazyCacheLegacyClassFile() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(OriginMethodWithLazyCache.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        Object method = instance.foo(0, FOO);
+        assertThat(method, is((Object) Bar.class.getDeclaredMethod(FOO, int.class, String.class)));
+        assertThat(method, sameInstance(instance.foo(0, FOO)));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(11)
+    @SuppressWarnings("unchecked")
+    public void testOriginConstructorWithLazyCache() throws Exception {
+        OriginConstructorWithLazyCache originConstructor = new OriginConstructorWithLazyCache();
+        DynamicType.Loaded<Foo> loaded = new ByteBuddy(ClassFileVersion.JAVA_V11)
+                .subclass(Foo.class)
+                .constructor(ElementMatchers.any())
+                .intercept(SuperMethodCall.INSTANCE.andThen(MethodDelegation.to(originConstructor)))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(originConstructor.constructor, instanceOf(Constructor.class));
+        assertThat(originConstructor.constructor, is((Constructor) loaded.getLoaded().getDeclaredConstructor()));
+        Constructor<?> previous = originConstructor.constructor;
+        loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(originConstructor.constructor, sameInstance((Constructor) previous));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testOriginIllegal() throws Exception {
         new ByteBuddy()
@@ -320,6 +375,13 @@ public class MethodDelegationOriginTest {
         }
     }
 
+    public static class Bar {
+
+        public Object foo(int value, String name) {
+            return null;
+        }
+    }
+
     public static class OriginClass {
 
         public static Object foo(@Origin Class<?> type) {
@@ -341,6 +403,13 @@ public class MethodDelegationOriginTest {
         }
     }
 
+    public static class OriginMethodWithLazyCache {
+
+        public static Object foo(@Origin(lazy = true) Method method) {
+            return method;
+        }
+    }
+
     public static class OriginMethodWithPrivilege {
 
         public static Object foo(@Origin(privileged = true) Method method) {
@@ -366,6 +435,15 @@ public class MethodDelegationOriginTest {
         }
     }
 
+    public static class OriginConstructorWithLazyCache {
+
+        private Constructor<?> constructor;
+
+        public void foo(@Origin(lazy = true) Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+    }
+
     public static class OriginConstructorWithPrivilege {
 
         private Constructor<?> constructor;
@@ -0,0 +1,109 @@
+package net.bytebuddy.implementation.bind;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class MethodDelegationBinderBindingResolverCachingTest {
+
+    private static final String FOO = "foo";
+
+    @Rule
+    public MethodRule mockitoRule = MockitoJUnit.rule().silent();
+
+    @Mock
+    private MethodDescription source, otherSource, target, otherTarget;
+
+    @Mock
+    private MethodDelegationBinder.MethodBinding methodBinding, otherMethodBinding, thirdMethodBinding, fourthMethodBinding;
+
+    @Mock
+    private MethodDelegationBinder.AmbiguityResolver ambiguityResolver, otherAmbiguityResolver;
+
+    @Mock
+    private MethodDelegationBinder.BindingResolver delegate;
+
+    @Before
+    public void setUp() throws Exception {
+        MethodDescription.SignatureToken signatureToken = new MethodDescription.SignatureToken(FOO, TypeDescription.ForLoadedType.of(void.class));
+        when(source.asSignatureToken()).thenReturn(signatureToken);
+        when(otherSource.asSignatureToken()).thenReturn(signatureToken);
+        when(methodBinding.getTarget()).thenReturn(target);
+        when(otherMethodBinding.getTarget()).thenReturn(otherTarget);
+        when(thirdMethodBinding.getTarget()).thenReturn(target);
+        when(fourthMethodBinding.getTarget()).thenReturn(otherTarget);
+    }
+
+    @Test
+    public void testSingleBindingIsNotCached() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding))).thenReturn(methodBinding);
+        MethodDelegationBinder.BindingResolver bindingResolver = new MethodDelegationBinder.BindingResolver.Caching(delegate);
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding)), is(methodBinding));
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding)), is(methodBinding));
+        verify(delegate, times(2)).resolve(ambiguityResolver, source, Collections.singletonList(methodBinding));
+    }
+
+    @Test
+    public void testResolutionIsCached() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenReturn(otherMethodBinding);
+        MethodDelegationBinder.BindingResolver bindingResolver = new MethodDelegationBinder.BindingResolver.Caching(delegate);
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(otherMethodBinding));
+        assertThat(bindingResolver.resolve(ambiguityResolver, otherSource, Arrays.asList(thirdMethodBinding, fourthMethodBinding)), is(fourthMethodBinding));
+        verify(delegate).resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    public void testDifferentCandidatesAreNotShared() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenReturn(otherMethodBinding);
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding))).thenReturn(otherMethodBinding);
+        MethodDelegationBinder.BindingResolver bindingResolver = new MethodDelegationBinder.BindingResolver.Caching(delegate);
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(otherMethodBinding));
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding)), is(otherMethodBinding));
+        verify(delegate).resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding));
+        verify(delegate).resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding));
+    }
+
+    @Test
+    public void testDifferentAmbiguityResolversAreNotShared() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenReturn(otherMethodBinding);
+        when(delegate.resolve(otherAmbiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenReturn(methodBinding);
+        MethodDelegationBinder.BindingResolver bindingResolver = new MethodDelegationBinder.BindingResolver.Caching(delegate);
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(otherMethodBinding));
+        assertThat(bindingResolver.resolve(otherAmbiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(methodBinding));
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenReturn(otherMethodBinding);
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding))).thenReturn(otherMethodBinding);
+        MethodDelegationBinder.BindingResolver bindingResolver = new MethodDelegationBinder.BindingResolver.Caching(delegate, 1);
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(otherMethodBinding));
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding)), is(otherMethodBinding));
+        assertThat(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding)), is(otherMethodBinding));
+        verify(delegate, times(2)).resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMaximumSize() throws Exception {
+        new MethodDelegationBinder.BindingResolver.Caching(delegate, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailedResolutionIsNotCached() throws Exception {
+        when(delegate.resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding))).thenThrow(new IllegalArgumentException());
+        new MethodDelegationBinder.BindingResolver.Caching(delegate).resolve(ambiguityResolver, source, Arrays.asList(methodBinding, otherMethodBinding));
+    }
+}
@@ -0,0 +1,127 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static net.bytebuddy.matcher.ElementMatchers.hasSuperType;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.isInterface;
+import static net.bytebuddy.matcher.ElementMatchers.isOverriddenFrom;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ElementMatcherOptimizerTest {
+
+    @Test
+    public void testNonJunctionUnchanged() throws Exception {
+        ElementMatcher<TypeDescription> matcher = named("foo");
+        assertThat(ElementMatcherOptimizer.optimize(matcher), sameInstance((Object) matcher));
+    }
+
+    @Test
+    public void testOptimalJunctionUnchanged() throws Exception {
+        ElementMatcher<TypeDescription> matcher = named("foo").and(isInterface()).or(isAnnotatedWith(Deprecated.class));
+        assertThat(ElementMatcherOptimizer.optimize(matcher), sameInstance((Object) matcher));
+    }
+
+    @Test
+    public void testMergeNames() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(named("foo").or(namedOneOf("bar", "qux")).or(named("baz")));
+        assertThat(matcher, is((Object) new NameMatcher<TypeDescription>(new StringSetMatcher(new HashSet<String>(Arrays.asList("foo", "bar", "qux", "baz"))))));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(Object.class)), is(false));
+    }
+
+    @Test
+    public void testMergePrefixes() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(nameStartsWith("java.lang.")
+                .or(nameStartsWith("java.util."))
+                .or(nameStartsWith("java.")));
+        assertThat(matcher, is((Object) new NameMatcher<TypeDescription>(new StringPrefixSetMatcher(Arrays.asList("java.")))));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(Object.class)), is(true));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(ElementMatcherOptimizerTest.class)), is(false));
+    }
+
+    @Test
+    public void testMergedPrefixesAreConstrained() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(ElementMatcherOptimizer.optimize(nameStartsWith("foo").or(nameStartsWith("bar"))));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.matches("foo.Qux"), is(true));
+        assertThat(nameConstraint.matches("bar.Qux"), is(true));
+        assertThat(nameConstraint.matches("qux.Qux"), is(false));
+    }
+
+    @Test
+    public void testMergeRetainsPosition() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(isAnnotatedWith(Deprecated.class)
+                .or(named("foo"))
+                .or(hasSuperType(named("bar")))
+                .or(named("qux")));
+        assertThat(matcher, is((Object) new ElementMatcher.Junction.Disjunction<TypeDescription>(
+                new NameMatcher<TypeDescription>(new StringSetMatcher(new HashSet<String>(Arrays.asList("foo", "qux")))),
+                isAnnotatedWith(Deprecated.class),
+                hasSuperType(named("bar")))));
+    }
+
+    @Test
+    public void testHoistCheapMatchers() throws Exception {
+        ElementMatcher<MethodDescription> matcher = ElementMatcherOptimizer.optimize(isAnnotatedWith(Deprecated.class)
+                .and(isOverriddenFrom(Object.class))
+                .and(named("foo"))
+                .and(not(isStatic())));
+        assertThat(matcher, is((Object) new ElementMatcher.Junction.Conjunction<MethodDescription>(
+                named("foo"),
+                not(isStatic()),
+                isAnnotatedWith(Deprecated.class),
+                isOverriddenFrom(Object.class))));
+    }
+
+    @Test
+    public void testDeduplicate() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(isAnnotatedWith(Deprecated.class)
+                .and(isInterface())
+                .and(isAnnotatedWith(Deprecated.class)));
+        assertThat(matcher, is((Object) new ElementMatcher.Junction.Conjunction<TypeDescription>(
+                isInterface(),
+                isAnnotatedWith(Deprecated.class))));
+    }
+
+    @Test
+    public void testDeduplicateToSingleMatcher() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(isAnnotatedWith(Deprecated.class).or(isAnnotatedWith(Deprecated.class)));
+        assertThat(matcher, is((Object) isAnnotatedWith(Deprecated.class)));
+    }
+
+    @Test
+    public void testNestedJunction() throws Exception {
+        ElementMatcher<TypeDescription> matcher = ElementMatcherOptimizer.optimize(not(named("foo").or(named("bar"))).and(isAnnotatedWith(Deprecated.class).or(isPublic())));
+        assertThat(matcher, is((Object) new ElementMatcher.Junction.Conjunction<TypeDescription>(
+                not(new NameMatcher<TypeDescription>(new StringSetMatcher(new HashSet<String>(Arrays.asList("foo", "bar"))))),
+                new ElementMatcher.Junction.Disjunction<TypeDescription>(isPublic(), isAnnotatedWith(Deprecated.class)))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testConstruction() throws Throwable {
+        Constructor<?> constructor = ElementMatcherOptimizer.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+            fail();
+        } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.NamedElement;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NameConstraintTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testNamed() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(named(FOO));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getNames(), is(Collections.singleton(FOO)));
+        assertThat(nameConstraint.getPrefixes().isEmpty(), is(true));
+        assertThat(nameConstraint.matches(FOO), is(true));
+        assertThat(nameConstraint.matches(BAR), is(false));
+    }
+
+    @Test
+    public void testNamedOneOf() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(namedOneOf(FOO, BAR));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getNames(), is((Object) new HashSet<String>(Arrays.asList(FOO, BAR))));
+        assertThat(nameConstraint.matches(BAR), is(true));
+        assertThat(nameConstraint.matches(QUX), is(false));
+    }
+
+    @Test
+    public void testNameStartsWith() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(nameStartsWith(FOO));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getPrefixes(), is(Collections.singleton(FOO)));
+        assertThat(nameConstraint.matches(FOO + BAR), is(true));
+        assertThat(nameConstraint.matches(BAR + FOO), is(false));
+    }
+
+    @Test
+    public void testNameStartsWithAnyOf() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(new NameMatcher<NamedElement>(new StringPrefixSetMatcher(Arrays.asList(FOO, BAR))));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getPrefixes(), is((Object) new HashSet<String>(Arrays.asList(FOO, BAR))));
+        assertThat(nameConstraint.matches(BAR + QUX), is(true));
+        assertThat(nameConstraint.matches(QUX + FOO), is(false));
+    }
+
+    @Test
+    public void testUnconstrained() throws Exception {
+        assertThat(NameConstraint.of(nameEndsWith(FOO)).isConstrained(), is(false));
+        assertThat(NameConstraint.of(nameStartsWithIgnoreCase(FOO)).isConstrained(), is(false));
+        assertThat(NameConstraint.of(ElementMatchers.<TypeDescription>isInterface()).isConstrained(), is(false));
+        assertThat(NameConstraint.of(not(named(FOO))).isConstrained(), is(false));
+        assertThat(NameConstraint.UNCONSTRAINED.matches(FOO), is(true));
+    }
+
+    @Test
+    public void testNone() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(none());
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.matches(FOO), is(false));
+        assertThat(nameConstraint.or(NameConstraint.of(named(FOO))).matches(FOO), is(true));
+        assertThat(NameConstraint.of(any()).isConstrained(), is(false));
+    }
+
+    @Test
+    public void testConjunction() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(ElementMatchers.<TypeDescription>nameStartsWith(FOO).and(isInterface()).and(named(FOO + BAR)));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getNames(), is(Collections.singleton(FOO + BAR)));
+        assertThat(nameConstraint.getPrefixes().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testDisjunction() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(ElementMatchers.<TypeDescription>named(FOO).or(nameStartsWith(BAR)));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getNames(), is(Collections.singleton(FOO)));
+        assertThat(nameConstraint.getPrefixes(), is(Collections.singleton(BAR)));
+        assertThat(nameConstraint.matches(FOO), is(true));
+        assertThat(nameConstraint.matches(BAR + QUX), is(true));
+        assertThat(nameConstraint.matches(QUX), is(false));
+    }
+
+    @Test
+    public void testDisjunctionUnconstrained() throws Exception {
+        assertThat(NameConstraint.of(ElementMatchers.<TypeDescription>named(FOO).or(isInterface())).isConstrained(), is(false));
+    }
+
+    @Test
+    public void testNameMatcherConjunction() throws Exception {
+        NameConstraint nameConstraint = NameConstraint.of(new NameMatcher<NamedElement>(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH)
+                .and(new StringMatcher(FOO + BAR, StringMatcher.Mode.EQUALS_FULLY))));
+        assertThat(nameConstraint.isConstrained(), is(true));
+        assertThat(nameConstraint.getNames(), is(Collections.singleton(FOO + BAR)));
+    }
+}
@@ -0,0 +1,55 @@
+package net.bytebuddy.matcher;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class StringPrefixSetMatcherTest extends AbstractElementMatcherTest<StringPrefixSetMatcher> {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {new String[]{"fo"}, "foo", "bar"},
+                {new String[]{"fo", "fo"}, "fo", "f"},
+                {new String[]{"foo", "fo", "bar"}, "fox", "fa"},
+                {new String[]{"bar", "foo.", "foo.bar."}, "foo.qux", "foo"},
+                {new String[]{"a", "fo", "fox", "z"}, "foo", "fa"},
+                {new String[]{"a", "b"}, "b", ""}
+        });
+    }
+
+    private final List<String> prefixes;
+
+    private final String matching, nonMatching;
+
+    public StringPrefixSetMatcherTest(String[] prefixes, String matching, String nonMatching) {
+        super(StringPrefixSetMatcher.class, Arrays.toString(prefixes));
+        this.prefixes = Arrays.asList(prefixes);
+        this.matching = matching;
+        this.nonMatching = nonMatching;
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        assertThat(new StringPrefixSetMatcher(prefixes).matches(matching), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        assertThat(new StringPrefixSetMatcher(prefixes).matches(nonMatching), is(false));
+    }
+
+    @Test
+    public void testStringRepresentation() {
+        assertThat(new StringPrefixSetMatcher(prefixes).toString(), startsWith("startsWithAnyOf("));
+    }
+}
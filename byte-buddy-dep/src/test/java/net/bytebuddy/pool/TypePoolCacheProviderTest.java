@@ -1,5 +1,6 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.junit.Rule;
 import org.junit.Test;
@@ -7,9 +8,14 @@ import org.junit.rules.MethodRule;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -93,4 +99,214 @@ public class TypePoolCacheProviderTest {
         verify(matched).clear();
         verify(unmatched).clear();
     }
+
+    @Test
+    public void testDeduplicating() throws Exception {
+        TypePool.CacheProvider delegate = mock(TypePool.CacheProvider.class);
+        when(delegate.find(FOO)).thenReturn(resolution);
+        when(delegate.register(BAR, resolution)).thenReturn(resolution);
+        TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Deduplicating(delegate);
+        assertThat(cacheProvider.find(FOO), sameInstance(resolution));
+        assertThat(cacheProvider.register(BAR, resolution), sameInstance(resolution));
+        cacheProvider.clear();
+        verify(delegate).find(FOO);
+        verify(delegate).register(BAR, resolution);
+        verify(delegate).clear();
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    public void testDeduplicatingConcurrentResolution() throws Exception {
+        final TypePool.CacheProvider.Deduplicating cacheProvider = new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple(), 10000L);
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final TypePool.Resolution other = mock(TypePool.Resolution.class);
+        FutureTask<TypePool.Resolution> first = new FutureTask<TypePool.Resolution>(new Callable<TypePool.Resolution>() {
+            public TypePool.Resolution call() {
+                return cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+                    public TypePool.Resolution resolve(String name) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException exception) {
+                            throw new AssertionError(exception);
+                        }
+                        return resolution;
+                    }
+                });
+            }
+        }), second = new FutureTask<TypePool.Resolution>(new Callable<TypePool.Resolution>() {
+            public TypePool.Resolution call() {
+                return cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+                    public TypePool.Resolution resolve(String name) {
+                        return other;
+                    }
+                });
+            }
+        });
+        new Thread(first).start();
+        started.await();
+        Thread thread = new Thread(second);
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1L);
+        }
+        release.countDown();
+        assertThat(first.get(), sameInstance(resolution));
+        assertThat(second.get(), sameInstance(resolution));
+    }
+
+    @Test
+    public void testDeduplicatingConcurrentResolutionTimeout() throws Exception {
+        final TypePool.CacheProvider.Deduplicating cacheProvider = new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple(), 1L);
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final TypePool.Resolution other = mock(TypePool.Resolution.class);
+        FutureTask<TypePool.Resolution> first = new FutureTask<TypePool.Resolution>(new Callable<TypePool.Resolution>() {
+            public TypePool.Resolution call() {
+                return cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+                    public TypePool.Resolution resolve(String name) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException exception) {
+                            throw new AssertionError(exception);
+                        }
+                        return resolution;
+                    }
+                });
+            }
+        });
+        new Thread(first).start();
+        started.await();
+        try {
+            assertThat(cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+                public TypePool.Resolution resolve(String name) {
+                    return other;
+                }
+            }), sameInstance(other));
+        } finally {
+            release.countDown();
+        }
+        assertThat(first.get(10, TimeUnit.SECONDS), sameInstance(resolution));
+    }
+
+    @Test
+    public void testDeduplicatingReentrantResolution() throws Exception {
+        final TypePool.CacheProvider.Deduplicating cacheProvider = new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple());
+        assertThat(cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+            public TypePool.Resolution resolve(String name) {
+                return cacheProvider.compute(FOO, new TypePool.CacheProvider.Resolver() {
+                    public TypePool.Resolution resolve(String name) {
+                        return resolution;
+                    }
+                });
+            }
+        }), sameInstance(resolution));
+    }
+
+    @Test
+    public void testDeduplicatingDependentResolutionDoesNotDeadlock() throws Exception {
+        final TypePool.CacheProvider.Deduplicating cacheProvider = new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple());
+        final CountDownLatch latch = new CountDownLatch(2);
+        final TypePool.Resolution other = mock(TypePool.Resolution.class);
+        FutureTask<TypePool.Resolution> first = new FutureTask<TypePool.Resolution>(new Callable<TypePool.Resolution>() {
+            public TypePool.Resolution call() {
+                return cacheProvider.compute(FOO, new Dependent(cacheProvider, latch, BAR, other));
+            }
+        }), second = new FutureTask<TypePool.Resolution>(new Callable<TypePool.Resolution>() {
+            public TypePool.Resolution call() {
+                return cacheProvider.compute(BAR, new Dependent(cacheProvider, latch, FOO, resolution));
+            }
+        });
+        new Thread(first).start();
+        new Thread(second).start();
+        assertThat(first.get(10, TimeUnit.SECONDS), sameInstance(other));
+        assertThat(second.get(10, TimeUnit.SECONDS), sameInstance(resolution));
+    }
+
+    @Test
+    public void testDeduplicatingRechecksCache() throws Exception {
+        TypePool.CacheProvider delegate = mock(TypePool.CacheProvider.class);
+        when(delegate.find(FOO)).thenReturn(resolution);
+        TypePool.CacheProvider.Resolver resolver = mock(TypePool.CacheProvider.Resolver.class);
+        assertThat(new TypePool.CacheProvider.Deduplicating(delegate).compute(FOO, resolver), sameInstance(resolution));
+        verify(delegate).find(FOO);
+        verifyNoMoreInteractions(delegate);
+        verifyNoMoreInteractions(resolver);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDeduplicatingResolutionError() throws Exception {
+        new TypePool.CacheProvider.Deduplicating(new TypePool.CacheProvider.Simple()).compute(FOO, new TypePool.CacheProvider.Resolver() {
+            public TypePool.Resolution resolve(String name) {
+                throw new IllegalArgumentException();
+            }
+        });
+    }
+
+    @Test
+    public void testDeduplicatingNonComputingDelegateAppliesResolver() throws Exception {
+        TypePool.CacheProvider delegate = mock(TypePool.CacheProvider.class);
+        TypePool.CacheProvider.Resolver resolver = mock(TypePool.CacheProvider.Resolver.class);
+        when(resolver.resolve(FOO)).thenReturn(resolution);
+        assertThat(new TypePool.CacheProvider.Deduplicating(delegate).compute(FOO, resolver), sameInstance(resolution));
+        verify(delegate).find(FOO);
+        verifyNoMoreInteractions(delegate);
+        verify(resolver).resolve(FOO);
+    }
+
+    @Test
+    public void testDiscriminatingCompute() throws Exception {
+        TypePool.CacheProvider matched = mock(TypePool.CacheProvider.class, withSettings().extraInterfaces(TypePool.CacheProvider.Computing.class));
+        TypePool.CacheProvider unmatched = mock(TypePool.CacheProvider.class);
+        TypePool.CacheProvider.Resolver resolver = mock(TypePool.CacheProvider.Resolver.class);
+        when(((TypePool.CacheProvider.Computing) matched).compute(FOO, resolver)).thenReturn(resolution);
+        when(resolver.resolve(BAR)).thenReturn(resolution);
+        TypePool.CacheProvider.Discriminating cacheProvider = new TypePool.CacheProvider.Discriminating(ElementMatchers.<String>is(FOO), matched, unmatched);
+        assertThat(cacheProvider.compute(FOO, resolver), sameInstance(resolution));
+        assertThat(cacheProvider.compute(BAR, resolver), sameInstance(resolution));
+        verify(resolver).resolve(BAR);
+        verifyNoMoreInteractions(resolver);
+        verifyNoMoreInteractions(unmatched);
+    }
+
+    @Test
+    public void testDeduplicatingTypePool() throws Exception {
+        TypePool.CacheProvider cacheProvider = TypePool.CacheProvider.Deduplicating.withObjectType();
+        TypePool typePool = new TypePool.Default(cacheProvider, ClassFileLocator.ForClassLoader.of(getClass().getClassLoader()), TypePool.Default.ReaderMode.FAST);
+        TypePool.Resolution resolution = typePool.describe(getClass().getName());
+        assertThat(resolution.resolve().getName(), is(getClass().getName()));
+        assertThat(cacheProvider.find(getClass().getName()), sameInstance(resolution));
+    }
+
+    private static class Dependent implements TypePool.CacheProvider.Resolver {
+
+        private final TypePool.CacheProvider.Computing cacheProvider;
+
+        private final CountDownLatch latch;
+
+        private final String dependency;
+
+        private final TypePool.Resolution resolution;
+
+        private Dependent(TypePool.CacheProvider.Computing cacheProvider, CountDownLatch latch, String dependency, TypePool.Resolution resolution) {
+            this.cacheProvider = cacheProvider;
+            this.latch = latch;
+            this.dependency = dependency;
+            this.resolution = resolution;
+        }
+
+        public TypePool.Resolution resolve(String name) {
+            latch.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException exception) {
+                throw new AssertionError(exception);
+            }
+            return cacheProvider.compute(dependency, new TypePool.CacheProvider.Resolver() {
+                public TypePool.Resolution resolve(String name) {
+                    return resolution;
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.AbstractTypeDescriptionTest;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TypePoolDefaultHeaderTypeDescriptionTest extends AbstractTypeDescriptionTest {
+
+    protected TypeDescription describe(Class<?> type) {
+        TypePool typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                ClassFileLocator.ForClassLoader.of(type.getClassLoader()),
+                TypePool.Default.ReaderMode.HEADER);
+        try {
+            return typePool.describe(type.getName()).resolve();
+        } finally {
+            typePool.clear();
+        }
+    }
+
+    @Test
+    public void testMembersAreParsedOnDemand() throws Exception {
+        TypePool typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                ClassFileLocator.ForClassLoader.of(Sample.class.getClassLoader()),
+                TypePool.Default.ReaderMode.HEADER);
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+        assertThat(typeDescription, instanceOf(TypePool.Default.HeaderTypeDescription.class));
+        assertThat(typeDescription.getSuperClass().asErasure().getName(), equalTo(Object.class.getName()));
+        assertThat(typeDescription.getInterfaces().asErasures().getOnly().getName(), equalTo(Runnable.class.getName()));
+        assertThat(typeDescription.getDeclaredAnnotations().isAnnotationPresent(Deprecated.class), equalTo(true));
+        assertThat(typeDescription.getDeclaredFields().getOnly().getName(), equalTo("foo"));
+        assertThat(typeDescription.getDeclaredMethods().filter(named("run")).getOnly().getDeclaredAnnotations().isAnnotationPresent(Deprecated.class), equalTo(true));
+    }
+
+    @Test
+    public void testClassFileIsLocatedAnewForMembers() throws Exception {
+        ClassFileLocator classFileLocator = mock(ClassFileLocator.class);
+        when(classFileLocator.locate(Sample.class.getName())).thenReturn(new ClassFileLocator.Resolution.Explicit(ClassFileLocator.ForClassLoader.read(Sample.class)));
+        TypePool typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE, classFileLocator, TypePool.Default.ReaderMode.HEADER);
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+        verify(classFileLocator).locate(Sample.class.getName());
+        assertThat(typeDescription.getDeclaredFields().getOnly().getName(), equalTo("foo"));
+        assertThat(typeDescription.getDeclaredMethods().filter(named("run")).size(), equalTo(1));
+        verify(classFileLocator, times(2)).locate(Sample.class.getName());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClassFileCannotBeLocatedAnew() throws Exception {
+        ClassFileLocator classFileLocator = mock(ClassFileLocator.class);
+        when(classFileLocator.locate(Sample.class.getName()))
+                .thenReturn(new ClassFileLocator.Resolution.Explicit(ClassFileLocator.ForClassLoader.read(Sample.class)))
+                .thenReturn(new ClassFileLocator.Resolution.Illegal(Sample.class.getName()));
+        TypePool typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE, classFileLocator, TypePool.Default.ReaderMode.HEADER);
+        typePool.describe(Sample.class.getName()).resolve().getDeclaredFields();
+    }
+
+    protected TypeDescription.Generic describeType(Field field) {
+        return describe(field.getDeclaringClass()).getDeclaredFields().filter(is(field)).getOnly().getType();
+    }
+
+    protected TypeDescription.Generic describeReturnType(Method method) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getReturnType();
+    }
+
+    protected TypeDescription.Generic describeParameterType(Method method, int index) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getParameters().get(index).getType();
+    }
+
+    protected TypeDescription.Generic describeExceptionType(Method method, int index) {
+        return describe(method.getDeclaringClass()).getDeclaredMethods().filter(is(method)).getOnly().getExceptionTypes().get(index);
+    }
+
+    protected TypeDescription.Generic describeSuperClass(Class<?> type) {
+        return describe(type).getSuperClass();
+    }
+
+    protected TypeDescription.Generic describeInterfaceType(Class<?> type, int index) {
+        return describe(type).getInterfaces().get(index);
+    }
+
+    @Deprecated
+    private static class Sample implements Runnable {
+
+        private Object foo;
+
+        @Deprecated
+        public void run() {
+            /* empty */
+        }
+    }
+}
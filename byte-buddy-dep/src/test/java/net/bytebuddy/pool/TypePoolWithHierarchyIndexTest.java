@@ -0,0 +1,110 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolWithHierarchyIndexTest {
+
+    private TypePool.WithHierarchyIndex typePool;
+
+    @Before
+    public void setUp() throws Exception {
+        typePool = new TypePool.WithHierarchyIndex(TypePool.Default.of(ClassFileLocator.ForClassLoader.ofSystemLoader()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        typePool.clear();
+    }
+
+    @Test
+    public void testAssignableTo() throws Exception {
+        TypeDescription typeDescription = typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(typeDescription.isAssignableTo(List.class), is(true));
+        assertThat(typeDescription.isAssignableTo(Collection.class), is(true));
+        assertThat(typeDescription.isAssignableTo(AbstractList.class), is(true));
+        assertThat(typeDescription.isAssignableTo(RandomAccess.class), is(true));
+        assertThat(typeDescription.isAssignableTo(Serializable.class), is(true));
+        assertThat(typeDescription.isAssignableTo(Object.class), is(true));
+        assertThat(typeDescription.isAssignableTo(ArrayList.class), is(true));
+        assertThat(typeDescription.isAssignableTo(String.class), is(false));
+        assertThat(typeDescription.isAssignableTo(Object[].class), is(false));
+        assertThat(typeDescription.isAssignableTo(int.class), is(false));
+        assertThat(typePool.getHierarchyIndex().size() > 1, is(true));
+    }
+
+    @Test
+    public void testAssignableFrom() throws Exception {
+        TypeDescription list = typePool.describe(List.class.getName()).resolve();
+        assertThat(list.isAssignableFrom(typePool.describe(ArrayList.class.getName()).resolve()), is(true));
+        assertThat(list.isAssignableFrom(typePool.describe(String.class.getName()).resolve()), is(false));
+        assertThat(list.isAssignableFrom(ArrayList.class), is(true));
+        assertThat(list.isAssignableFrom(String.class), is(false));
+        assertThat(typePool.describe(Object.class.getName()).resolve().isAssignableFrom(typePool.describe(List.class.getName()).resolve()), is(true));
+    }
+
+    @Test
+    public void testConsistentWithHierarchyWalking() throws Exception {
+        TypePool plain = TypePool.Default.of(ClassFileLocator.ForClassLoader.ofSystemLoader());
+        Class<?>[] type = new Class<?>[]{Object.class, ArrayList.class, List.class, Collection.class, Iterable.class, String.class, CharSequence.class, Serializable.class};
+        for (Class<?> source : type) {
+            for (Class<?> target : type) {
+                assertThat(typePool.describe(source.getName()).resolve().isAssignableFrom(typePool.describe(target.getName()).resolve()),
+                        is(plain.describe(source.getName()).resolve().isAssignableFrom(plain.describe(target.getName()).resolve())));
+                assertThat(typePool.describe(source.getName()).resolve().isAssignableTo(plain.describe(target.getName()).resolve()),
+                        is(plain.describe(source.getName()).resolve().isAssignableTo(plain.describe(target.getName()).resolve())));
+            }
+        }
+    }
+
+    @Test
+    public void testArrayAndPrimitive() throws Exception {
+        assertThat(typePool.describe(int.class.getName()).resolve().isAssignableTo(int.class), is(true));
+        assertThat(typePool.describe(ArrayList[].class.getName()).resolve().isAssignableTo(List[].class), is(true));
+        assertThat(typePool.describe(ArrayList[].class.getName()).resolve().isAssignableTo(String[].class), is(false));
+    }
+
+    @Test
+    public void testUnresolvedSuperTypeFallsBack() throws Exception {
+        TypePool typePool = new TypePool.WithHierarchyIndex(TypePool.Default.of(new ClassFileLocator.Compound(
+                ClassFileLocator.Simple.of(Foo.class.getName(), ClassFileLocator.ForClassLoader.read(Foo.class)),
+                ClassFileLocator.Simple.of(Bar.class.getName(), ClassFileLocator.ForClassLoader.read(Bar.class)),
+                ClassFileLocator.ForClassLoader.ofBootLoader())));
+        TypeDescription typeDescription = typePool.describe(Bar.class.getName()).resolve();
+        assertThat(typeDescription.isAssignableTo(typePool.describe(Foo.class.getName()).resolve()), is(true));
+        assertThat(typeDescription.isAssignableTo(Foo.class), is(true));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        typePool.describe(ArrayList.class.getName()).resolve().isAssignableTo(List.class);
+        assertThat(typePool.getHierarchyIndex().size() > 0, is(true));
+        typePool.clear();
+        assertThat(typePool.getHierarchyIndex().size(), is(0));
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class Bar extends Foo implements Qux {
+        /* empty */
+    }
+
+    private interface Qux {
+        /* empty */
+    }
+}
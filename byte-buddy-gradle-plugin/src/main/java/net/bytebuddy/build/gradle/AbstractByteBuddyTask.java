@@ -18,11 +18,13 @@ package net.bytebuddy.build.gradle;
 import groovy.lang.Closure;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.BuildLogger;
+import net.bytebuddy.build.ClassPathCache;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.build.Plugin;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.scaffold.inline.MethodNameTransformer;
+import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.nullability.MaybeNull;
 import net.bytebuddy.utility.nullability.UnknownNull;
 import org.gradle.api.Action;
@@ -46,6 +48,13 @@ import java.util.*;
  */
 public abstract class AbstractByteBuddyTask extends DefaultTask {
 
+    /**
+     * The cache for class paths that is shared by all tasks that are executed within the same daemon, as long as the plugin's
+     * class loader is retained. The cache's ceiling is raised to the largest size that is configured by any task and its jar
+     * files are released once a build is finished.
+     */
+    private static final ClassPathCache CLASS_PATH_CACHE = new ClassPathCache(0L);
+
     /**
      * The transformations to apply.
      */
@@ -97,6 +106,12 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
      */
     private int threads;
 
+    /**
+     * The maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached.
+     */
+    private int classPathCacheSize;
+
     /**
      * The class file version to use for creating auxiliary types or {@code null} if the
      * version is determined implicitly.
@@ -306,6 +321,30 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
         this.threads = threads;
     }
 
+    /**
+     * Returns the maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached.
+     *
+     * @return The maximum size of jar files in megabytes that are kept in the daemon's class path cache.
+     */
+    @Internal
+    public int getClassPathCacheSize() {
+        return classPathCacheSize;
+    }
+
+    /**
+     * Sets the maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached. If the class path is cached, its jar files are indexed once
+     * per daemon and type descriptions are shared among all tasks with an equal class path that only consists of jar files,
+     * where types of the class path cannot be shadowed by types that are transformed. Folders are never cached. All tasks share
+     * a single cache whose ceiling is the largest configured size. Cached jar files are released once a build is finished.
+     *
+     * @param classPathCacheSize The maximum size of jar files in megabytes that are kept in the daemon's class path cache.
+     */
+    public void setClassPathCacheSize(int classPathCacheSize) {
+        this.classPathCacheSize = classPathCacheSize;
+    }
+
     /**
      * Returns the class file version to use for creating auxiliary types or {@code null} if the
      * version is determined implicitly.
@@ -388,6 +427,27 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
      * @throws IOException If an I/O exception occurs.
      */
     protected void doApply(Plugin.Engine.Source source, Plugin.Engine.Target target) throws IOException {
+        ClassPathCache.Handle handle = getClassPathCacheSize() > 0
+                ? acquireClassPath()
+                : null;
+        try {
+            doApply(source, target, handle);
+        } finally {
+            if (handle != null) {
+                handle.close();
+            }
+        }
+    }
+
+    /**
+     * Applies the transformation from a source to a target.
+     *
+     * @param source The plugin engine's source.
+     * @param target The plugin engine's target.
+     * @param handle A handle for the cached class path to use or {@code null} if the class path is only resolved for this application.
+     * @throws IOException If an I/O exception occurs.
+     */
+    protected void doApply(Plugin.Engine.Source source, Plugin.Engine.Target target, @MaybeNull ClassPathCache.Handle handle) throws IOException {
         if (source().equals(target())) {
             throw new IllegalStateException("Source and target cannot be equal: " + source());
         }
@@ -412,6 +472,7 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
                 Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(File.class, source()),
                 getSuffix(),
                 getThreads(),
+                handle,
                 isExtendedParsing(),
                 isFailFast(),
                 isFailOnLiveInitializer(),
@@ -420,6 +481,107 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
                 target);
     }
 
+    /**
+     * Acquires a handle for this task's class path. If a class path cache size is configured, the handle is acquired from the
+     * class path cache of the daemon. Otherwise, the class path is only retained until the returned handle is closed.
+     *
+     * @return A handle for this task's class path that must be closed after its use.
+     * @throws IOException If an I/O exception occurs.
+     */
+    protected ClassPathCache.Handle acquireClassPath() throws IOException {
+        List<File> classPath = new ArrayList<File>();
+        for (File file : classPath()) {
+            classPath.add(file);
+        }
+        ClassFileVersion classFileVersion = multiReleaseClassFileVersion == null
+                ? (this.classFileVersion == null ? ClassFileVersion.ofThisVm() : this.classFileVersion)
+                : multiReleaseClassFileVersion;
+        TypePool.Default.ReaderMode readerMode = isExtendedParsing()
+                ? TypePool.Default.ReaderMode.EXTENDED
+                : TypePool.Default.ReaderMode.FAST;
+        if (getClassPathCacheSize() > 0) {
+            CLASS_PATH_CACHE.raise(getClassPathCacheSize() * 1024L * 1024L);
+            return CLASS_PATH_CACHE.acquire(classPath, classFileVersion, readerMode);
+        } else {
+            return new ClassPathCache(0L).acquire(classPath, classFileVersion, readerMode);
+        }
+    }
+
+    /**
+     * Releases all jar files of the daemon's class path cache that are not currently in use. This method is invoked once a build
+     * is finished such that jar files are not kept open in between builds.
+     *
+     * @throws IOException If an I/O exception occurs.
+     */
+    protected static void releaseClassPathCache() throws IOException {
+        CLASS_PATH_CACHE.clear();
+    }
+
+    /**
+     * Dispatches a Byte Buddy instrumentation Gradle task.
+     *
+     * @param logger                       The logger to use.
+     * @param rootLoader                   The class loader that is used for searching types and applying plugins.
+     * @param transformations              The transformations to apply.
+     * @param discovery                    The discovery for plugins to use.
+     * @param rootLocator                  The root class file locator.
+     * @param artifacts                    The artifacts to include.
+     * @param discoverySet                 The source set to discover plugins from or {@code null} if no source set is used.
+     * @param entryPoint                   The entry point to use.
+     * @param classFileVersion             The class file version to use.
+     * @param multiReleaseClassFileVersion The class file version to use for resolving multi-release jars.
+     * @param rootLocationResolver         An argument resolver for the root location of this build.
+     * @param suffix                       The suffix to use for rebased methods or an empty string for using a random suffix.
+     * @param threads                      The number of threads to use while instrumenting.
+     * @param extendedParsing              {@code true} if extended parsing should be used.
+     * @param failFast                     {@code true} if the build should fail fast.
+     * @param failOnLiveInitializer        {@code true} if the build should fail upon discovering a live initializer.
+     * @param warnOnEmptyTypeSet           {@code true} if a warning should be logged if no types are instrumented.
+     * @param source                       The source to use for instrumenting.
+     * @param target                       The target to use for instrumenting.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void apply(Logger logger,
+                             ClassLoader rootLoader,
+                             List<Transformation> transformations,
+                             Discovery discovery,
+                             ClassFileLocator rootLocator,
+                             Iterable<File> artifacts,
+                             @MaybeNull Iterable<File> discoverySet,
+                             EntryPoint entryPoint,
+                             ClassFileVersion classFileVersion,
+                             ClassFileVersion multiReleaseClassFileVersion,
+                             Plugin.Factory.UsingReflection.ArgumentResolver rootLocationResolver,
+                             String suffix,
+                             int threads,
+                             boolean extendedParsing,
+                             boolean failFast,
+                             boolean failOnLiveInitializer,
+                             boolean warnOnEmptyTypeSet,
+                             Plugin.Engine.Source source,
+                             Plugin.Engine.Target target) throws IOException {
+        apply(logger,
+                rootLoader,
+                transformations,
+                discovery,
+                rootLocator,
+                artifacts,
+                discoverySet,
+                entryPoint,
+                classFileVersion,
+                multiReleaseClassFileVersion,
+                rootLocationResolver,
+                suffix,
+                threads,
+                null,
+                extendedParsing,
+                failFast,
+                failOnLiveInitializer,
+                warnOnEmptyTypeSet,
+                source,
+                target);
+    }
+
     /**
      * Dispatches a Byte Buddy instrumentation Gradle task.
      *
@@ -436,6 +598,8 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
      * @param rootLocationResolver         An argument resolver for the root location of this build.
      * @param suffix                       The suffix to use for rebased methods or an empty string for using a random suffix.
      * @param threads                      The number of threads to use while instrumenting.
+     * @param handle                       A handle for the cached class path to use or {@code null} if the class path
+     *                                     is only resolved for this application.
      * @param extendedParsing              {@code true} if extended parsing should be used.
      * @param failFast                     {@code true} if the build should fail fast.
      * @param failOnLiveInitializer        {@code true} if the build should fail upon discovering a live initializer.
@@ -457,6 +621,7 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
                              Plugin.Factory.UsingReflection.ArgumentResolver rootLocationResolver,
                              String suffix,
                              int threads,
+                             @MaybeNull ClassPathCache.Handle handle,
                              boolean extendedParsing,
                              boolean failFast,
                              boolean failOnLiveInitializer,
@@ -514,21 +679,30 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
                     throw new IllegalStateException("Cannot resolve plugin: " + transformation.toPluginName(), throwable);
                 }
             }
-            List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>();
-            classFileLocators.add(rootLocator);
-            for (File artifact : artifacts) {
-                classFileLocators.add(artifact.isFile()
-                        ? ClassFileLocator.ForJarFile.of(artifact, multiReleaseClassFileVersion)
-                        : ClassFileLocator.ForFolder.of(artifact, multiReleaseClassFileVersion));
+            Plugin.Engine.PoolStrategy poolStrategy;
+            ClassFileLocator classFileLocator;
+            if (handle != null) {
+                logger.debug("Using cached class path for {} class path element(s)", classPath.size());
+                poolStrategy = handle.getPoolStrategy();
+                classFileLocator = new ClassFileLocator.Compound(rootLocator, handle.getClassFileLocator());
+            } else {
+                List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>();
+                classFileLocators.add(rootLocator);
+                for (File artifact : artifacts) {
+                    classFileLocators.add(artifact.isFile()
+                            ? ClassFileLocator.ForJarFile.of(artifact, multiReleaseClassFileVersion)
+                            : ClassFileLocator.ForFolder.of(artifact, multiReleaseClassFileVersion));
+                }
+                poolStrategy = extendedParsing
+                        ? Plugin.Engine.PoolStrategy.Default.EXTENDED
+                        : Plugin.Engine.PoolStrategy.Default.FAST;
+                classFileLocator = new ClassFileLocator.Compound(classFileLocators);
             }
-            ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileLocators);
             try {
                 summary = Plugin.Engine.Default.of(entryPoint, classFileVersion, suffix.length() == 0
                                 ? MethodNameTransformer.Suffixing.withRandomSuffix()
                                 : new MethodNameTransformer.Suffixing(suffix))
-                        .with(extendedParsing
-                                ? Plugin.Engine.PoolStrategy.Default.EXTENDED
-                                : Plugin.Engine.PoolStrategy.Default.FAST)
+                        .with(poolStrategy)
                         .with(classFileLocator)
                         .with(multiReleaseClassFileVersion)
                         .with(new TransformationLogger(logger))
@@ -542,7 +716,9 @@ public abstract class AbstractByteBuddyTask extends DefaultTask {
                                 : new Plugin.Engine.Dispatcher.ForParallelTransformation.WithThrowawayExecutorService.Factory(threads))
                         .apply(source, target, factories);
             } finally {
-                classFileLocator.close();
+                if (handle == null) {
+                    classFileLocator.close();
+                }
             }
         } finally {
             if (classLoader instanceof Closeable && classLoader instanceof ByteBuddySkippingUrlClassLoader) {
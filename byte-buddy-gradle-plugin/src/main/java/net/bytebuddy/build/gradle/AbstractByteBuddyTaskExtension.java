@@ -106,6 +106,12 @@ public abstract class AbstractByteBuddyTaskExtension<T extends AbstractByteBuddy
      */
     private int threads;
 
+    /**
+     * The maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached.
+     */
+    private int classPathCacheSize;
+
     /**
      * If {@code true}, task dependencies are only adjusted when the task graph is fully resolved.
      */
@@ -378,6 +384,26 @@ public abstract class AbstractByteBuddyTaskExtension<T extends AbstractByteBuddy
         this.threads = threads;
     }
 
+    /**
+     * Returns the maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached.
+     *
+     * @return The maximum size of jar files in megabytes that are kept in the daemon's class path cache.
+     */
+    public int getClassPathCacheSize() {
+        return classPathCacheSize;
+    }
+
+    /**
+     * Sets the maximum size of jar files in megabytes that are kept in the daemon's class path cache
+     * or {@code 0} if the class path should not be cached.
+     *
+     * @param classPathCacheSize The maximum size of jar files in megabytes that are kept in the daemon's class path cache.
+     */
+    public void setClassPathCacheSize(int classPathCacheSize) {
+        this.classPathCacheSize = classPathCacheSize;
+    }
+
     /**
      * Returns {@code true}, task dependencies are only adjusted when the task graph is fully resolved.
      *
@@ -477,6 +503,7 @@ public abstract class AbstractByteBuddyTaskExtension<T extends AbstractByteBuddy
         task.setExtendedParsing(isExtendedParsing());
         task.setDiscovery(getDiscovery());
         task.setThreads(getThreads());
+        task.setClassPathCacheSize(getClassPathCacheSize());
         task.setClassFileVersion(getClassFileVersion());
         task.setMultiReleaseClassFileVersion(getMultiReleaseClassFileVersion());
         doConfigure(task);
@@ -25,9 +25,17 @@ import org.gradle.api.tasks.PathSensitivity;
 import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * A Byte Buddy task implementation that instruments multiple jars within a folder.
@@ -55,6 +63,11 @@ public class ByteBuddyJarsTask extends AbstractByteBuddyTask {
     @MaybeNull
     private Iterable<File> discoverySet;
 
+    /**
+     * The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    private int jarThreads;
+
     /**
      * Creates a new task for instrumenting multiple jars.
      */
@@ -144,6 +157,27 @@ public class ByteBuddyJarsTask extends AbstractByteBuddyTask {
         this.discoverySet = discoverySet;
     }
 
+    /**
+     * Returns the number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     *
+     * @return The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    @Internal
+    public int getJarThreads() {
+        return jarThreads;
+    }
+
+    /**
+     * Sets the number of jars to transform concurrently or {@code 0} if jars should be transformed one after another. Every jar
+     * resolves its class path as if the jars were transformed one after another. If a class path cache size is configured, all jars
+     * share the cached type pool of the class path. If the transformation of any jar fails, the remaining transformations are cancelled.
+     *
+     * @param jarThreads The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    public void setJarThreads(int jarThreads) {
+        this.jarThreads = jarThreads;
+    }
+
     @Override
     protected File source() {
         return getSource();
@@ -176,6 +210,7 @@ public class ByteBuddyJarsTask extends AbstractByteBuddyTask {
         if (!source.equals(getTarget()) && deleteRecursively(getTarget())) {
             getLogger().debug("Deleted target directory {}", getTarget());
         }
+        List<JarTransformation> jarTransformations = new ArrayList<JarTransformation>();
         Queue<File> queue = QueueFactory.make(Collections.singletonList(source));
         while (!queue.isEmpty()) {
             File candidate = queue.remove();
@@ -190,9 +225,80 @@ public class ByteBuddyJarsTask extends AbstractByteBuddyTask {
                 if (resolved.getParentFile().mkdirs()) {
                     getLogger().debug("Created host directory for {}", resolved);
                 }
-                getLogger().debug("Transforming {} to {}", candidate, resolved);
-                doApply(new Plugin.Engine.Source.ForJarFile(candidate), new Plugin.Engine.Target.ForJarFile(resolved));
+                jarTransformations.add(new JarTransformation(candidate, resolved));
+            }
+        }
+        if (jarThreads == 0 || jarTransformations.size() < 2) {
+            for (JarTransformation jarTransformation : jarTransformations) {
+                jarTransformation.call();
             }
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(jarThreads, jarTransformations.size()));
+        try {
+            CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executorService);
+            for (JarTransformation jarTransformation : jarTransformations) {
+                completionService.submit(jarTransformation);
+            }
+            for (int index = 0; index < jarTransformations.size(); index++) {
+                try {
+                    completionService.take().get();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(exception);
+                } catch (ExecutionException exception) {
+                    Throwable cause = exception.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        throw new IllegalStateException(cause);
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * A transformation of a single jar file.
+     */
+    protected class JarTransformation implements Callable<Void> {
+
+        /**
+         * The jar file to transform.
+         */
+        private final File source;
+
+        /**
+         * The jar file to write the transformed jar to.
+         */
+        private final File target;
+
+        /**
+         * Creates a new jar transformation.
+         *
+         * @param source The jar file to transform.
+         * @param target The jar file to write the transformed jar to.
+         */
+        protected JarTransformation(File source, File target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Void call() throws IOException {
+            getLogger().debug("Transforming {} to {}", source, target);
+            long started = System.nanoTime();
+            doApply(new Plugin.Engine.Source.ForJarFile(source), new Plugin.Engine.Target.ForJarFile(target));
+            getLogger().info("Transformed {} in {} ms", source, (System.nanoTime() - started) / 1000000L);
+            return null;
         }
     }
 }
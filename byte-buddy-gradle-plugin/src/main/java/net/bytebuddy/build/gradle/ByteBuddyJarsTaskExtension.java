@@ -36,6 +36,11 @@ public class ByteBuddyJarsTaskExtension extends AbstractByteBuddyTaskExtension<B
     @MaybeNull
     private Iterable<File> discoverySet;
 
+    /**
+     * The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    private int jarThreads;
+
     /**
      * Creates a new Byte Buddy dir extension.
      *
@@ -67,6 +72,26 @@ public class ByteBuddyJarsTaskExtension extends AbstractByteBuddyTaskExtension<B
         this.discoverySet = discoverySet;
     }
 
+    /**
+     * Returns the number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     *
+     * @return The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    public int getJarThreads() {
+        return jarThreads;
+    }
+
+    /**
+     * Sets the number of jars to transform concurrently or {@code 0} if jars should be transformed one after another. Every jar
+     * resolves its class path as if the jars were transformed one after another. If a class path cache size is configured, all jars
+     * share the cached type pool of the class path. If the transformation of any jar fails, the remaining transformations are cancelled.
+     *
+     * @param jarThreads The number of jars to transform concurrently or {@code 0} if jars should be transformed one after another.
+     */
+    public void setJarThreads(int jarThreads) {
+        this.jarThreads = jarThreads;
+    }
+
     @Override
     protected boolean isEmptyDiscovery() {
         return discoverySet == null || !discoverySet.iterator().hasNext();
@@ -75,6 +100,7 @@ public class ByteBuddyJarsTaskExtension extends AbstractByteBuddyTaskExtension<B
     @Override
     protected void doConfigure(ByteBuddyJarsTask task) {
         task.setDiscoverySet(discoverySet);
+        task.setJarThreads(jarThreads);
     }
 
     @Override
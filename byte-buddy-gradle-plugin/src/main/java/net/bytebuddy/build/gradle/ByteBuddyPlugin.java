@@ -58,6 +58,7 @@ public class ByteBuddyPlugin implements Plugin<Project> {
      * {@inheritDoc}
      */
     public void apply(Project project) {
+        ClassPathCacheRelease.register(project);
         if (project.getExtensions().findByName("android") != null) {
             project.getLogger().debug("Applying Byte Buddy Android plugin");
             try {
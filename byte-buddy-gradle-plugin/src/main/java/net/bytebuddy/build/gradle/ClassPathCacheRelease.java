@@ -0,0 +1,288 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.build.gradle;
+
+import org.gradle.BuildAdapter;
+import org.gradle.BuildResult;
+import org.gradle.api.Action;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Releases the daemon's class path cache once a build is finished. If available, this is achieved by registering a
+ * {@link ClassPathCacheService} that is used by all Byte Buddy tasks. Otherwise, a build listener is registered.
+ */
+public class ClassPathCacheRelease {
+
+    /**
+     * The dispatcher to use.
+     */
+    private static final Dispatcher DISPATCHER;
+
+    /*
+     * Resolves the dispatcher for the current Gradle version.
+     */
+    static {
+        Dispatcher dispatcher;
+        try {
+            dispatcher = new Dispatcher.ForApi6CapableGradle(Gradle.class.getMethod("getSharedServices"),
+                    Class.forName("org.gradle.api.services.BuildServiceRegistry").getMethod("registerIfAbsent", String.class, Class.class, Action.class),
+                    Task.class.getMethod("usesService", Provider.class));
+        } catch (Throwable ignored) {
+            dispatcher = Dispatcher.ForLegacyGradle.INSTANCE;
+        }
+        DISPATCHER = dispatcher;
+    }
+
+    /**
+     * A private constructor that is not supposed to be invoked.
+     */
+    private ClassPathCacheRelease() {
+        throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+    }
+
+    /**
+     * Registers the release of the daemon's class path cache for the supplied project.
+     *
+     * @param project The Gradle project to use.
+     */
+    public static void register(Project project) {
+        DISPATCHER.register(project);
+    }
+
+    /**
+     * A dispatcher for registering the release of the daemon's class path cache.
+     */
+    protected interface Dispatcher {
+
+        /**
+         * Registers the release of the daemon's class path cache for the supplied project.
+         *
+         * @param project The Gradle project to use.
+         */
+        void register(Project project);
+
+        /**
+         * A dispatcher for a legacy version of Gradle that does not support shared build services.
+         */
+        enum ForLegacyGradle implements Dispatcher {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public void register(Project project) {
+                project.getGradle().addBuildListener(new ReleasingBuildListener(project));
+            }
+
+            /**
+             * A build listener that releases the daemon's class path cache once a build is finished.
+             */
+            protected static class ReleasingBuildListener extends BuildAdapter {
+
+                /**
+                 * The Gradle project that registered this listener.
+                 */
+                private final Project project;
+
+                /**
+                 * Creates a new releasing build listener.
+                 *
+                 * @param project The Gradle project that registered this listener.
+                 */
+                protected ReleasingBuildListener(Project project) {
+                    this.project = project;
+                }
+
+                @Override
+                public void buildFinished(BuildResult result) {
+                    try {
+                        AbstractByteBuddyTask.releaseClassPathCache();
+                    } catch (IOException exception) {
+                        project.getLogger().warn("Failed to release Byte Buddy class path cache", exception);
+                    }
+                }
+            }
+        }
+
+        /**
+         * A dispatcher for a Gradle version that supports shared build services.
+         */
+        class ForApi6CapableGradle implements Dispatcher {
+
+            /**
+             * The name of the shared build service.
+             */
+            private static final String NAME = "byteBuddyClassPathCache";
+
+            /**
+             * The {@code org.gradle.api.invocation.Gradle#getSharedServices()} method.
+             */
+            private final Method getSharedServices;
+
+            /**
+             * The {@code org.gradle.api.services.BuildServiceRegistry#registerIfAbsent} method.
+             */
+            private final Method registerIfAbsent;
+
+            /**
+             * The {@code org.gradle.api.Task#usesService} method.
+             */
+            private final Method usesService;
+
+            /**
+             * Creates a new dispatcher.
+             *
+             * @param getSharedServices The {@code org.gradle.api.invocation.Gradle#getSharedServices()} method.
+             * @param registerIfAbsent  The {@code org.gradle.api.services.BuildServiceRegistry#registerIfAbsent} method.
+             * @param usesService       The {@code org.gradle.api.Task#usesService} method.
+             */
+            protected ForApi6CapableGradle(Method getSharedServices, Method registerIfAbsent, Method usesService) {
+                this.getSharedServices = getSharedServices;
+                this.registerIfAbsent = registerIfAbsent;
+                this.usesService = usesService;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void register(Project project) {
+                Provider<?> provider = (Provider<?>) invoke(registerIfAbsent,
+                        invoke(getSharedServices, project.getGradle()),
+                        NAME,
+                        ClassPathCacheService.class,
+                        NoOpAction.INSTANCE);
+                project.getTasks().withType(AbstractByteBuddyTask.class, new TaskConfigurationAction(usesService, provider));
+            }
+
+            /**
+             * Invokes a method reflectively.
+             *
+             * @param method   The method to invoke.
+             * @param target   The method's target.
+             * @param argument The method's arguments.
+             * @return The method's return value.
+             */
+            private static Object invoke(Method method, Object target, Object... argument) {
+                try {
+                    return method.invoke(target, argument);
+                } catch (IllegalAccessException exception) {
+                    throw new IllegalStateException(exception);
+                } catch (InvocationTargetException exception) {
+                    Throwable cause = exception.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        throw new RuntimeException(exception);
+                    }
+                }
+            }
+
+            /**
+             * An action that does not configure the shared build service.
+             */
+            protected enum NoOpAction implements Action<Object> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void execute(Object spec) {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * An action that declares a Byte Buddy task to use the shared build service.
+             */
+            protected static class TaskConfigurationAction implements Action<AbstractByteBuddyTask> {
+
+                /**
+                 * The {@code org.gradle.api.Task#usesService} method.
+                 */
+                private final Method usesService;
+
+                /**
+                 * The provider of the shared build service.
+                 */
+                private final Provider<?> provider;
+
+                /**
+                 * Creates a new task configuration action.
+                 *
+                 * @param usesService The {@code org.gradle.api.Task#usesService} method.
+                 * @param provider    The provider of the shared build service.
+                 */
+                protected TaskConfigurationAction(Method usesService, Provider<?> provider) {
+                    this.usesService = usesService;
+                    this.provider = provider;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void execute(AbstractByteBuddyTask task) {
+                    invoke(usesService, task, provider);
+                    task.doFirst(new ServiceActivationAction(provider));
+                }
+            }
+
+            /**
+             * An action that resolves the shared build service before a task is executed such that the service is created
+             * and closed once the build is finished.
+             */
+            protected static class ServiceActivationAction implements Action<Task> {
+
+                /**
+                 * The provider of the shared build service.
+                 */
+                private final Provider<?> provider;
+
+                /**
+                 * Creates a new service activation action.
+                 *
+                 * @param provider The provider of the shared build service.
+                 */
+                protected ServiceActivationAction(Provider<?> provider) {
+                    this.provider = provider;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void execute(Task task) {
+                    provider.get();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.build.gradle;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A shared build service that releases the daemon's class path cache once it is closed at the end of a build. This
+ * service is only registered on Gradle versions that support shared build services.
+ */
+public abstract class ClassPathCacheService implements BuildService<BuildServiceParameters.None>, Closeable {
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close() throws IOException {
+        AbstractByteBuddyTask.releaseClassPathCache();
+    }
+}
@@ -41,6 +41,7 @@ public class ByteBuddyTaskExtensionTest {
         assertThat(extension.getEntryPoint(), is((EntryPoint) EntryPoint.Default.REBASE));
         assertThat(extension.getSuffix(), is(""));
         assertThat(extension.getThreads(), is(0));
+        assertThat(extension.getClassPathCacheSize(), is(0));
         assertThat(extension.isExtendedParsing(), is(false));
         assertThat(extension.isFailFast(), is(true));
         assertThat(extension.isFailOnLiveInitializer(), is(true));
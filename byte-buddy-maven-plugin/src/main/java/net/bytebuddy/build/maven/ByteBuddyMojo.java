@@ -18,12 +18,14 @@ package net.bytebuddy.build.maven;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.BuildLogger;
+import net.bytebuddy.build.ClassPathCache;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.build.Plugin;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.scaffold.inline.MethodNameTransformer;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.nullability.MaybeNull;
 import net.bytebuddy.utility.nullability.UnknownNull;
@@ -230,6 +232,23 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
     @Parameter(defaultValue = "0", required = true)
     public int staleMilliseconds;
 
+    /**
+     * When set to {@code true}, class loaders of plugins are shared among all modules of a reactor build that resolve
+     * plugins from the same repositories.
+     */
+    @Parameter(defaultValue = "false", required = true)
+    public boolean shareClassLoaders;
+
+    /**
+     * The maximum size of jar files in megabytes that are retained in a cache that is shared among all modules of a reactor
+     * build, or {@code 0} if the class path should not be cached. If the class path is cached, its jar files are indexed once
+     * per reactor build and type descriptions are shared among all modules with an equal class path that only consists of jar
+     * files, where types of the class path cannot be shadowed by types that are transformed. Folders, such as the output folders
+     * of other modules of the reactor, are never cached. Modules that configure a different size do not share a cache.
+     */
+    @Parameter(defaultValue = "0", required = true)
+    public int classPathCacheSize;
+
     /**
      * Defines the version to use for resolving multi-release jar files. If not set, the Java compile version is used.
      */
@@ -378,13 +397,18 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         for (String element : classPath) {
             artifacts.add(new File(element));
         }
-        ClassLoaderResolver classLoaderResolver = new ClassLoaderResolver(getLog(), repositorySystem, repositorySystemSession == null ? MavenRepositorySystemUtils.newSession() : repositorySystemSession, project.getRemotePluginRepositories());
+        ReactorCache reactorCache = repositorySystemSession == null || !shareClassLoaders && classPathCacheSize == 0
+                ? null
+                : ReactorCache.of(repositorySystemSession);
+        ClassLoaderResolver classLoaderResolver = reactorCache == null || !shareClassLoaders
+                ? new ClassLoaderResolver(repositorySystem, repositorySystemSession == null ? MavenRepositorySystemUtils.newSession() : repositorySystemSession, project.getRemotePluginRepositories())
+                : reactorCache.getClassLoaderResolver(repositorySystem, repositorySystemSession, project.getRemotePluginRepositories());
         try {
             List<Plugin.Factory> factories = new ArrayList<Plugin.Factory>(transformers.size());
             for (Transformer transformer : transformers) {
                 String plugin = transformer.getPlugin();
                 try {
-                    factories.add(new Plugin.Factory.UsingReflection((Class<? extends Plugin>) Class.forName(plugin, false, transformer.toClassLoader(classLoaderResolver, coordinates, project.getGroupId(), project.getArtifactId(), project.getVersion(), project.getPackaging())))
+                    factories.add(new Plugin.Factory.UsingReflection((Class<? extends Plugin>) Class.forName(plugin, false, transformer.toClassLoader(classLoaderResolver, getLog(), coordinates, project.getGroupId(), project.getArtifactId(), project.getVersion(), project.getPackaging())))
                             .with(transformer.toArgumentResolvers())
                             .with(Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(File.class, file),
                                     Plugin.Factory.UsingReflection.ArgumentResolver.ForType.of(Log.class, getLog()),
@@ -396,7 +420,7 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                 }
             }
             String managed = coordinates.get(new Coordinate(project.getGroupId(), project.getArtifactId()));
-            EntryPoint entryPoint = (initialization == null ? new Initialization() : initialization).getEntryPoint(classLoaderResolver, project.getGroupId(), project.getArtifactId(), managed == null ? project.getVersion() : managed, project.getPackaging());
+            EntryPoint entryPoint = (initialization == null ? new Initialization() : initialization).getEntryPoint(classLoaderResolver, getLog(), project.getGroupId(), project.getArtifactId(), managed == null ? project.getVersion() : managed, project.getPackaging());
             getLog().info("Resolved entry point: " + entryPoint);
             String javaVersionString = findJavaVersionString(project, "release");
             if (javaVersionString == null) {
@@ -413,14 +437,29 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
             ClassFileVersion multiReleaseClassFileVersion = multiReleaseVersion == null
                     ? classFileVersion
                     : ClassFileVersion.ofJavaVersion(multiReleaseVersion);
-            List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(artifacts.size());
-            classFileLocators.add(ClassFileLocator.ForClassLoader.ofPlatformLoader());
-            for (File artifact : artifacts) {
-                classFileLocators.add(artifact.isFile()
-                        ? ClassFileLocator.ForJarFile.of(artifact, multiReleaseClassFileVersion)
-                        : ClassFileLocator.ForFolder.of(artifact, multiReleaseClassFileVersion));
+            Plugin.Engine.PoolStrategy poolStrategy;
+            ClassFileLocator classFileLocator;
+            Closeable closeable;
+            if (reactorCache != null && classPathCacheSize > 0) {
+                ClassPathCache.Handle handle = reactorCache.getClassPathCache(classPathCacheSize * 1024L * 1024L).acquire(artifacts,
+                        multiReleaseClassFileVersion,
+                        extendedParsing ? TypePool.Default.ReaderMode.EXTENDED : TypePool.Default.ReaderMode.FAST);
+                getLog().debug("Using reactor class path cache for " + artifacts.size() + " class path element(s)");
+                poolStrategy = handle.getPoolStrategy();
+                classFileLocator = new ClassFileLocator.Compound(ClassFileLocator.ForClassLoader.ofPlatformLoader(), handle.getClassFileLocator());
+                closeable = handle;
+            } else {
+                List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(artifacts.size());
+                classFileLocators.add(ClassFileLocator.ForClassLoader.ofPlatformLoader());
+                for (File artifact : artifacts) {
+                    classFileLocators.add(artifact.isFile()
+                            ? ClassFileLocator.ForJarFile.of(artifact, multiReleaseClassFileVersion)
+                            : ClassFileLocator.ForFolder.of(artifact, multiReleaseClassFileVersion));
+                }
+                poolStrategy = extendedParsing ? Plugin.Engine.PoolStrategy.Default.EXTENDED : Plugin.Engine.PoolStrategy.Default.FAST;
+                classFileLocator = new ClassFileLocator.Compound(classFileLocators);
+                closeable = classFileLocator;
             }
-            ClassFileLocator classFileLocator = new ClassFileLocator.Compound(classFileLocators);
             Plugin.Engine.Summary summary;
             try {
                 getLog().info("Processing class files located in in: " + file);
@@ -434,7 +473,7 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                 }
                 try {
                     summary = pluginEngine
-                            .with(extendedParsing ? Plugin.Engine.PoolStrategy.Default.EXTENDED : Plugin.Engine.PoolStrategy.Default.FAST)
+                            .with(poolStrategy)
                             .with(classFileLocator)
                             .with(multiReleaseClassFileVersion)
                             .with(new TransformationLogger(getLog()))
@@ -447,7 +486,7 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                     throw new MojoExecutionException("Failed to transform class files in " + file, throwable);
                 }
             } finally {
-                classFileLocator.close();
+                closeable.close();
             }
             if (!summary.getFailed().isEmpty()) {
                 throw new MojoExecutionException(summary.getFailed() + " type transformation(s) have failed");
@@ -465,7 +504,9 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
             }
             return summary;
         } finally {
-            classLoaderResolver.close();
+            if (reactorCache == null || !shareClassLoaders) {
+                classLoaderResolver.close();
+            }
         }
     }
 
@@ -1122,6 +1163,24 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
          */
         protected abstract ClassLoader toClassLoader(ClassLoaderResolver classLoaderResolver, Map<Coordinate, String> coordinates, String groupId, String artifactId, String version, String packaging) throws MojoFailureException, MojoExecutionException;
 
+        /**
+         * Resolves the class loader to use for resolving the plugin where dependency resolution is reported to the supplied log.
+         *
+         * @param classLoaderResolver The class loader resolver to use.
+         * @param log                 The Maven log dispatcher.
+         * @param coordinates         The managed coordinates of this project.
+         * @param groupId             The group id of this project.
+         * @param artifactId          The artifact id of this project.
+         * @param version             The version of this project.
+         * @param packaging           The packaging of this project.
+         * @return The class loader to use.
+         * @throws MojoFailureException   If the class loader resolution yields a failure.
+         * @throws MojoExecutionException The class loader resolution is incorrect.
+         */
+        protected ClassLoader toClassLoader(ClassLoaderResolver classLoaderResolver, Log log, Map<Coordinate, String> coordinates, String groupId, String artifactId, String version, String packaging) throws MojoFailureException, MojoExecutionException {
+            return toClassLoader(classLoaderResolver, coordinates, groupId, artifactId, version, packaging);
+        }
+
         /**
          * A transformer for an explicitly configured plugin.
          */
@@ -1156,6 +1215,12 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                 String managed = coordinates.get(new Coordinate(transformation.getGroupId(groupId), transformation.getArtifactId(artifactId)));
                 return classLoaderResolver.resolve(transformation.asCoordinate(groupId, artifactId, managed == null ? version : managed, packaging));
             }
+
+            @Override
+            protected ClassLoader toClassLoader(ClassLoaderResolver classLoaderResolver, Log log, Map<Coordinate, String> coordinates, String groupId, String artifactId, String version, String packaging) throws MojoFailureException, MojoExecutionException {
+                String managed = coordinates.get(new Coordinate(transformation.getGroupId(groupId), transformation.getArtifactId(artifactId)));
+                return classLoaderResolver.resolve(transformation.asCoordinate(groupId, artifactId, managed == null ? version : managed, packaging), log);
+            }
         }
 
         /**
@@ -19,6 +19,7 @@ import net.bytebuddy.ByteBuddy;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -47,7 +48,7 @@ import java.util.Map;
 public class ClassLoaderResolver implements Closeable {
 
     /**
-     * The Maven log dispatcher.
+     * The Maven log dispatcher to use if no log dispatcher is supplied upon resolution.
      */
     private final Log log;
 
@@ -71,10 +72,21 @@ public class ClassLoaderResolver implements Closeable {
      */
     private final Map<MavenCoordinate, ClassLoader> classLoaders;
 
+    /**
+     * Creates a new class loader resolver that logs to the standard streams if no log dispatcher is supplied upon resolution.
+     *
+     * @param repositorySystem        The repository system to use.
+     * @param repositorySystemSession The repository system session to use.
+     * @param remoteRepositories      A list of remote repositories available.
+     */
+    public ClassLoaderResolver(RepositorySystem repositorySystem, RepositorySystemSession repositorySystemSession, List<RemoteRepository> remoteRepositories) {
+        this(new SystemStreamLog(), repositorySystem, repositorySystemSession, remoteRepositories);
+    }
+
     /**
      * Creates a new class loader resolver.
      *
-     * @param log                     The Maven log dispatcher.
+     * @param log                     The Maven log dispatcher to use if no log dispatcher is supplied upon resolution.
      * @param repositorySystem        The repository system to use.
      * @param repositorySystemSession The repository system session to use.
      * @param remoteRepositories      A list of remote repositories available.
@@ -87,10 +99,9 @@ public class ClassLoaderResolver implements Closeable {
         classLoaders = new HashMap<MavenCoordinate, ClassLoader>();
     }
 
-
     /**
      * Resolves a Maven coordinate to a class loader that can load all of the coordinates classes. If a Maven coordinate was resolved previously,
-     * the previously created class loader is returned.
+     * the previously created class loader is returned. This method is thread-safe such that a resolver can be shared among modules that are built in parallel.
      *
      * @param mavenCoordinate The Maven coordinate to resolve.
      * @return A class loader that references all the class loader's dependencies and which is a child of this class's class loader.
@@ -98,9 +109,23 @@ public class ClassLoaderResolver implements Closeable {
      * @throws MojoFailureException   If the plugin application raises an error.
      */
     public ClassLoader resolve(MavenCoordinate mavenCoordinate) throws MojoFailureException, MojoExecutionException {
+        return resolve(mavenCoordinate, log);
+    }
+
+    /**
+     * Resolves a Maven coordinate to a class loader that can load all of the coordinates classes. If a Maven coordinate was resolved previously,
+     * the previously created class loader is returned. This method is thread-safe such that a resolver can be shared among modules that are built in parallel.
+     *
+     * @param mavenCoordinate The Maven coordinate to resolve.
+     * @param log             The Maven log dispatcher of the module that requests the class loader.
+     * @return A class loader that references all the class loader's dependencies and which is a child of this class's class loader.
+     * @throws MojoExecutionException If the user configuration results in an error.
+     * @throws MojoFailureException   If the plugin application raises an error.
+     */
+    public synchronized ClassLoader resolve(MavenCoordinate mavenCoordinate, Log log) throws MojoFailureException, MojoExecutionException {
         ClassLoader classLoader = classLoaders.get(mavenCoordinate);
         if (classLoader == null) {
-            classLoader = doResolve(mavenCoordinate);
+            classLoader = doResolve(mavenCoordinate, log);
             classLoaders.put(mavenCoordinate, classLoader);
         }
         return classLoader;
@@ -110,11 +135,12 @@ public class ClassLoaderResolver implements Closeable {
      * Resolves a Maven coordinate to a class loader that can load all of the coordinates classes.
      *
      * @param mavenCoordinate The Maven coordinate to resolve.
+     * @param log             The Maven log dispatcher of the module that requests the class loader.
      * @return A class loader that references all of the class loader's dependencies and which is a child of this class's class loader.
      * @throws MojoExecutionException If the user configuration results in an error.
      * @throws MojoFailureException   If the plugin application raises an error.
      */
-    private ClassLoader doResolve(MavenCoordinate mavenCoordinate) throws MojoExecutionException, MojoFailureException {
+    private ClassLoader doResolve(MavenCoordinate mavenCoordinate, Log log) throws MojoExecutionException, MojoFailureException {
         List<URL> urls = new ArrayList<URL>();
         log.info("Resolving transformer dependency: " + mavenCoordinate);
         try {
@@ -138,11 +164,12 @@ public class ClassLoaderResolver implements Closeable {
     /**
      * {@inheritDoc}
      */
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
         for (ClassLoader classLoader : classLoaders.values()) {
             if (classLoader instanceof Closeable) { // URLClassLoaders are only closeable since Java 1.7.
                 ((Closeable) classLoader).close();
             }
         }
+        classLoaders.clear();
     }
 }
@@ -19,6 +19,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.utility.nullability.MaybeNull;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
 
 /**
  * Defines a configuration for a Maven build's type transformation.
@@ -56,8 +57,40 @@ public class Initialization extends CoordinateConfiguration {
      * @return The resolved entry point.
      * @throws MojoExecutionException If the entry point cannot be created.
      */
-    @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should always be wrapped for clarity.")
     public EntryPoint getEntryPoint(ClassLoaderResolver classLoaderResolver, String groupId, String artifactId, String version, String packaging) throws MojoExecutionException {
+        return doGetEntryPoint(classLoaderResolver, null, groupId, artifactId, version, packaging);
+    }
+
+    /**
+     * Resolves the described entry point.
+     *
+     * @param classLoaderResolver The class loader resolved to use.
+     * @param log                 The Maven log dispatcher.
+     * @param groupId             This project's group id.
+     * @param artifactId          This project's artifact id.
+     * @param version             This project's version id.
+     * @param packaging           This project's packaging
+     * @return The resolved entry point.
+     * @throws MojoExecutionException If the entry point cannot be created.
+     */
+    public EntryPoint getEntryPoint(ClassLoaderResolver classLoaderResolver, Log log, String groupId, String artifactId, String version, String packaging) throws MojoExecutionException {
+        return doGetEntryPoint(classLoaderResolver, log, groupId, artifactId, version, packaging);
+    }
+
+    /**
+     * Resolves the described entry point.
+     *
+     * @param classLoaderResolver The class loader resolved to use.
+     * @param log                 The Maven log dispatcher or {@code null} if the class loader resolver's log dispatcher should be used.
+     * @param groupId             This project's group id.
+     * @param artifactId          This project's artifact id.
+     * @param version             This project's version id.
+     * @param packaging           This project's packaging
+     * @return The resolved entry point.
+     * @throws MojoExecutionException If the entry point cannot be created.
+     */
+    @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should always be wrapped for clarity.")
+    private EntryPoint doGetEntryPoint(ClassLoaderResolver classLoaderResolver, @MaybeNull Log log, String groupId, String artifactId, String version, String packaging) throws MojoExecutionException {
         if (entryPoint == null || entryPoint.length() == 0) {
             throw new MojoExecutionException("Entry point name is not defined");
         }
@@ -69,7 +102,10 @@ public class Initialization extends CoordinateConfiguration {
             }
         }
         try {
-            EntryPoint entryPoint = (EntryPoint) Class.forName(this.entryPoint, false, classLoaderResolver.resolve(asCoordinate(groupId, artifactId, version, packaging)))
+            MavenCoordinate mavenCoordinate = asCoordinate(groupId, artifactId, version, packaging);
+            EntryPoint entryPoint = (EntryPoint) Class.forName(this.entryPoint, false, log == null
+                    ? classLoaderResolver.resolve(mavenCoordinate)
+                    : classLoaderResolver.resolve(mavenCoordinate, log))
                     .getDeclaredConstructor()
                     .newInstance();
             return validated
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.build.maven;
+
+import net.bytebuddy.build.ClassPathCache;
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.MavenExecutionException;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.RemoteRepository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * A cache that is shared among all executions of the Byte Buddy Maven plugin within a single reactor build. The cache is
+ * stored within the data of the repository system session such that it is discarded together with the session. All
+ * members of this cache are thread-safe, such that it can be used when modules are built in parallel.
+ * </p>
+ * <p>
+ * <b>Important</b>: Class loaders and class file locators that are held by this cache are closed when the session ends if this
+ * plugin is registered as a build extension, by setting {@code extensions} to {@code true} in its declaration, such that its
+ * {@link LifecycleParticipant} is notified. Otherwise, they are only released once the session is discarded. Class path
+ * elements are always closed once they are evicted from the class path cache.
+ * </p>
+ */
+public class ReactorCache implements Closeable {
+
+    /**
+     * The caches for class paths and their type pools by their maximum weight.
+     */
+    private final ConcurrentMap<Long, ClassPathCache> classPathCaches;
+
+    /**
+     * The class loader resolvers for plugins by their remote repositories.
+     */
+    private final ConcurrentMap<List<RemoteRepository>, ClassLoaderResolver> classLoaderResolvers;
+
+    /**
+     * Creates a new reactor cache.
+     */
+    protected ReactorCache() {
+        classPathCaches = new ConcurrentHashMap<Long, ClassPathCache>();
+        classLoaderResolvers = new ConcurrentHashMap<List<RemoteRepository>, ClassLoaderResolver>();
+    }
+
+    /**
+     * Resolves the reactor cache of a repository system session. The cache's class is used as a key such that
+     * different versions of this plugin within the same reactor do not share a cache.
+     *
+     * @param repositorySystemSession The repository system session of the current build.
+     * @return The reactor cache of the supplied session.
+     */
+    public static ReactorCache of(RepositorySystemSession repositorySystemSession) {
+        SessionData sessionData = repositorySystemSession.getData();
+        Object cache = sessionData.get(ReactorCache.class);
+        if (cache == null) {
+            cache = new ReactorCache();
+            if (!sessionData.set(ReactorCache.class, null, cache)) {
+                cache = sessionData.get(ReactorCache.class);
+            }
+        }
+        return (ReactorCache) cache;
+    }
+
+    /**
+     * Returns the class path cache of this reactor build for the supplied ceiling.
+     *
+     * @param maximumWeight The maximum summarized size of all cached jar files in bytes.
+     * @return The class path cache of this reactor build for the supplied ceiling.
+     */
+    public ClassPathCache getClassPathCache(long maximumWeight) {
+        ClassPathCache classPathCache = classPathCaches.get(maximumWeight);
+        if (classPathCache == null) {
+            classPathCache = new ClassPathCache(maximumWeight);
+            ClassPathCache previous = classPathCaches.putIfAbsent(maximumWeight, classPathCache);
+            if (previous != null) {
+                classPathCache = previous;
+            }
+        }
+        return classPathCache;
+    }
+
+    /**
+     * Returns a shared class loader resolver for the supplied remote repositories. The returned resolver must not be closed.
+     *
+     * @param repositorySystem        The repository system to use.
+     * @param repositorySystemSession The repository system session to use.
+     * @param remoteRepositories      A list of remote repositories available.
+     * @return A class loader resolver that is shared within this reactor build.
+     */
+    public ClassLoaderResolver getClassLoaderResolver(RepositorySystem repositorySystem,
+                                                      RepositorySystemSession repositorySystemSession,
+                                                      List<RemoteRepository> remoteRepositories) {
+        List<RemoteRepository> key = new ArrayList<RemoteRepository>(remoteRepositories);
+        ClassLoaderResolver classLoaderResolver = classLoaderResolvers.get(key);
+        if (classLoaderResolver == null) {
+            classLoaderResolver = new ClassLoaderResolver(repositorySystem, repositorySystemSession, key);
+            ClassLoaderResolver previous = classLoaderResolvers.putIfAbsent(key, classLoaderResolver);
+            if (previous != null) {
+                classLoaderResolver = previous;
+            }
+        }
+        return classLoaderResolver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close() throws IOException {
+        IOException exception = null;
+        for (ClassLoaderResolver classLoaderResolver : classLoaderResolvers.values()) {
+            try {
+                classLoaderResolver.close();
+            } catch (IOException ioException) {
+                exception = ioException;
+            }
+        }
+        classLoaderResolvers.clear();
+        for (ClassPathCache classPathCache : classPathCaches.values()) {
+            try {
+                classPathCache.clear();
+            } catch (IOException ioException) {
+                exception = ioException;
+            }
+        }
+        classPathCaches.clear();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * A lifecycle participant that closes the reactor cache of a session once the session ends. The participant is only
+     * discovered if this plugin is registered as a build extension.
+     */
+    public static class LifecycleParticipant extends AbstractMavenLifecycleParticipant {
+
+        @Override
+        public void afterSessionEnd(MavenSession session) throws MavenExecutionException {
+            SessionData sessionData = session.getRepositorySession().getData();
+            Object cache = sessionData.get(ReactorCache.class);
+            if (cache instanceof ReactorCache && sessionData.set(ReactorCache.class, cache, null)) {
+                try {
+                    ((ReactorCache) cache).close();
+                } catch (IOException exception) {
+                    throw new MavenExecutionException("Failed to close reactor cache", exception);
+                }
+            }
+        }
+    }
+}
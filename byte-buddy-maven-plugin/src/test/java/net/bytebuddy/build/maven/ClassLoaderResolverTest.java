@@ -81,6 +81,14 @@ public class ClassLoaderResolverTest {
         assertThat(classLoaderResolver.resolve(new MavenCoordinate(FOO, BAR, QUX, JAR)), sameInstance(classLoaderResolver.resolve(new MavenCoordinate(FOO, BAR, QUX, JAR))));
     }
 
+    @Test
+    public void testResolutionLogsToRequestingModule() throws Exception {
+        Log other = mock(Log.class);
+        classLoaderResolver.resolve(new MavenCoordinate(FOO, BAR, QUX, JAR), other);
+        verify(other).info("Resolving transformer dependency: " + new MavenCoordinate(FOO, BAR, QUX, JAR));
+        verifyNoMoreInteractions(log);
+    }
+
     @Test(expected = MojoExecutionException.class)
     public void testCollectionFailure() throws Exception {
         when(repositorySystem.collectDependencies(eq(repositorySystemSession), any(CollectRequest.class)))
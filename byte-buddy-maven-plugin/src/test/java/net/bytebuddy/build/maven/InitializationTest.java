@@ -8,6 +8,7 @@ import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.inline.MethodNameTransformer;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
@@ -83,6 +84,17 @@ public class InitializationTest {
         verifyNoMoreInteractions(classLoaderResolver);
     }
 
+    @Test
+    public void testCustomWithLog() throws Exception {
+        Initialization initialization = new Initialization();
+        initialization.entryPoint = Foo.class.getName();
+        Log log = mock(Log.class);
+        when(classLoaderResolver.resolve(new MavenCoordinate(BAR, QUX, BAZ, JAR), log)).thenReturn(Foo.class.getClassLoader());
+        assertThat(initialization.getEntryPoint(classLoaderResolver, log, BAR, QUX, BAZ, JAR), instanceOf(Foo.class));
+        verify(classLoaderResolver).resolve(new MavenCoordinate(BAR, QUX, BAZ, JAR), log);
+        verifyNoMoreInteractions(classLoaderResolver);
+    }
+
     @Test(expected = MojoExecutionException.class)
     public void testCustomFailed() throws Exception {
         Initialization initialization = new Initialization();
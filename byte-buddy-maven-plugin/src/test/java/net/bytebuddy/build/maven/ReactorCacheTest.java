@@ -0,0 +1,59 @@
+package net.bytebuddy.build.maven;
+
+import net.bytebuddy.build.ClassPathCache;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReactorCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testSessionScope() throws Exception {
+        DefaultRepositorySystemSession repositorySystemSession = new DefaultRepositorySystemSession();
+        ReactorCache reactorCache = ReactorCache.of(repositorySystemSession);
+        assertThat(ReactorCache.of(repositorySystemSession), sameInstance(reactorCache));
+        assertThat(ReactorCache.of(new DefaultRepositorySystemSession()), not(sameInstance(reactorCache)));
+    }
+
+    @Test
+    public void testClassPathCacheByCeiling() throws Exception {
+        ReactorCache reactorCache = ReactorCache.of(new DefaultRepositorySystemSession());
+        ClassPathCache classPathCache = reactorCache.getClassPathCache(1L);
+        assertThat(reactorCache.getClassPathCache(1L), sameInstance(classPathCache));
+        assertThat(reactorCache.getClassPathCache(2L), not(sameInstance(classPathCache)));
+    }
+
+    @Test
+    public void testLifecycleParticipantClosesCache() throws Exception {
+        DefaultRepositorySystemSession repositorySystemSession = new DefaultRepositorySystemSession();
+        ReactorCache reactorCache = ReactorCache.of(repositorySystemSession);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySystemSession);
+        new ReactorCache.LifecycleParticipant().afterSessionEnd(session);
+        assertThat(ReactorCache.of(repositorySystemSession), not(sameInstance(reactorCache)));
+    }
+
+    @Test
+    public void testClassLoaderResolverByRepositories() throws Exception {
+        DefaultRepositorySystemSession repositorySystemSession = new DefaultRepositorySystemSession();
+        ReactorCache reactorCache = ReactorCache.of(repositorySystemSession);
+        RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        RemoteRepository foo = new RemoteRepository.Builder(FOO, "default", "http://" + FOO).build();
+        RemoteRepository bar = new RemoteRepository.Builder(BAR, "default", "http://" + BAR).build();
+        ClassLoaderResolver classLoaderResolver = reactorCache.getClassLoaderResolver(repositorySystem, repositorySystemSession, Collections.singletonList(foo));
+        assertThat(reactorCache.getClassLoaderResolver(repositorySystem, repositorySystemSession, Collections.singletonList(foo)), sameInstance(classLoaderResolver));
+        assertThat(reactorCache.getClassLoaderResolver(repositorySystem, repositorySystemSession, Collections.singletonList(bar)), not(sameInstance(classLoaderResolver)));
+    }
+}